@@ -0,0 +1,65 @@
+package com.cinelog.server.repository.jdbc;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import com.cinelog.server.domain.Movie;
+
+//영화 목록 한 페이지(50편) 매핑 -> 출연 배우 수, 설명 길이별 처리량과 할당량(-prof gc 의 gc.alloc.rate.norm)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovieMappingBenchmark {
+    private static final int MOVIES = 50;
+
+    @Param({"1", "10", "100"})
+    private int actorsPerMovie;
+
+    @Param({"200", "4000"})
+    private int descriptionLength;
+
+    private MovieJdbcRepository repository;
+    private ResultSetExtractor<List<Movie>> extractor;
+    private SimpleResultSet moviesWithCast;
+    private SimpleResultSet movies;
+
+    @Setup
+    public void setUp() {
+        repository = new MovieJdbcRepository(new SimpleDriverDataSource());//매핑만 호출하므로 연결하지 않음
+        extractor = repository.movieResultSetExtractor();
+        moviesWithCast = SyntheticResultSets.moviesWithCast(MOVIES, actorsPerMovie, descriptionLength);
+        movies = SyntheticResultSets.movies(MOVIES, descriptionLength);
+    }
+
+    @Benchmark
+    public List<Movie> movieResultSetExtractor() throws SQLException {//영화 x 배우 조인 결과를 영화별로 묶기
+        moviesWithCast.beforeFirst();
+        return extractor.extractData(moviesWithCast);
+    }
+
+    @Benchmark
+    public void mapRowToMovie(Blackhole blackhole) throws SQLException {//출연진 없이 영화 행만 (findAllByIds 첫 쿼리)
+        movies.beforeFirst();
+        while (movies.next()) blackhole.consume(repository.mapRowToMovie(movies));
+    }
+}
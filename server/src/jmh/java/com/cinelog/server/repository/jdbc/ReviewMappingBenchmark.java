@@ -0,0 +1,53 @@
+package com.cinelog.server.repository.jdbc;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import com.cinelog.server.domain.Review;
+
+//영화/유저별 리뷰 목록 매핑 -> 리뷰 길이별 처리량과 할당량
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReviewMappingBenchmark {
+    @Param({"20", "500"})
+    private int reviews;
+
+    @Param({"80", "2000"})
+    private int contentLength;
+
+    private RowMapper<Review> rowMapper;
+    private SimpleResultSet resultSet;
+
+    @Setup
+    public void setUp() {
+        rowMapper = new ReviewJdbcRepository(new SimpleDriverDataSource()).reviewRowMapper();
+        resultSet = SyntheticResultSets.reviews(reviews, contentLength);
+    }
+
+    @Benchmark
+    public void reviewRowMapper(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        int rowNum = 0;
+        while (resultSet.next()) blackhole.consume(rowMapper.mapRow(resultSet, rowNum++));
+    }
+}
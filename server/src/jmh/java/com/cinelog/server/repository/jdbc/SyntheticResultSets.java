@@ -0,0 +1,114 @@
+package com.cinelog.server.repository.jdbc;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.h2.tools.SimpleResultSet;
+
+import com.cinelog.server.domain.Genre;
+
+//실제 쿼리와 같은 컬럼 구성의 메모리 ResultSet (H2 SimpleResultSet) -> db 없이 매핑 비용만 측정
+//벤치마크 반복마다 beforeFirst()로 처음부터 다시 읽으므로 autoClose 끔
+final class SyntheticResultSets {
+    private static final String SENTENCE = "가족을 지키기 위해 마지막 임무에 나선 전직 요원이 예상치 못한 배신과 마주한다. ";
+
+    private SyntheticResultSets() {
+    }
+
+    //findAll 등: SELECT m.*, d.name as director_name, a.id as actor_id, a.name as actor_name (영화 한 편 = 출연 배우 수만큼의 행)
+    static SimpleResultSet moviesWithCast(int movies, int actorsPerMovie, int descriptionLength) {
+        SimpleResultSet rs = movieColumns();
+        rs.addColumn("actor_id", Types.BIGINT, 19, 0);
+        rs.addColumn("actor_name", Types.VARCHAR, 255, 0);
+        String description = text(descriptionLength);
+        for (int m = 1; m <= movies; m++) {
+            for (int a = 1; a <= actorsPerMovie; a++) {
+                long actorId = (long) (m * 7 + a) % 5000 + 1;//영화끼리 배우가 겹치도록
+                rs.addRow(movieRow(m, description, actorId, "배우 " + actorId));
+            }
+        }
+        rs.setAutoClose(false);
+        return rs;
+    }
+
+    //findById, findAllByIds: SELECT m.*, d.name as director_name (출연진은 별도 쿼리)
+    static SimpleResultSet movies(int movies, int descriptionLength) {
+        SimpleResultSet rs = movieColumns();
+        String description = text(descriptionLength);
+        for (int m = 1; m <= movies; m++) {
+            rs.addRow(movieRow(m, description));
+        }
+        rs.setAutoClose(false);
+        return rs;
+    }
+
+    //SELECT r.*, m.name as movie_name, m.genre as movie_genre, m.director_id, d.name as director_name, u.user_name
+    static SimpleResultSet reviews(int reviews, int contentLength) {
+        SimpleResultSet rs = new SimpleResultSet();
+        rs.addColumn("id", Types.BIGINT, 19, 0);
+        rs.addColumn("content", Types.VARCHAR, Integer.MAX_VALUE, 0);//TEXT
+        rs.addColumn("rating", Types.INTEGER, 10, 0);
+        rs.addColumn("movie_id", Types.BIGINT, 19, 0);
+        rs.addColumn("user_id", Types.BIGINT, 19, 0);
+        rs.addColumn("created_at", Types.TIMESTAMP, 26, 6);
+        rs.addColumn("movie_name", Types.VARCHAR, 255, 0);
+        rs.addColumn("movie_genre", Types.VARCHAR, 50, 0);
+        rs.addColumn("director_id", Types.BIGINT, 19, 0);
+        rs.addColumn("director_name", Types.VARCHAR, 255, 0);
+        rs.addColumn("user_name", Types.VARCHAR, 100, 0);
+        String content = text(contentLength);
+        Genre[] genres = Genre.values();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        for (int r = 1; r <= reviews; r++) {
+            long movieId = r % 200 + 1;
+            rs.addRow((long) r, content, r % 5 + 1, movieId, (long) r % 1000 + 1, Timestamp.valueOf(createdAt.plusMinutes(r)),
+                    "영화 " + movieId, genres[(int) (movieId % genres.length)].name(), movieId % 50 + 1, "감독 " + (movieId % 50 + 1),
+                    "user" + (r % 1000 + 1));
+        }
+        rs.setAutoClose(false);
+        return rs;
+    }
+
+    private static SimpleResultSet movieColumns() {
+        SimpleResultSet rs = new SimpleResultSet();
+        rs.addColumn("id", Types.BIGINT, 19, 0);
+        rs.addColumn("name", Types.VARCHAR, 255, 0);
+        rs.addColumn("director_id", Types.BIGINT, 19, 0);
+        rs.addColumn("genre", Types.VARCHAR, 50, 0);
+        rs.addColumn("description", Types.VARCHAR, Integer.MAX_VALUE, 0);//TEXT
+        rs.addColumn("release_date", Types.DATE, 10, 0);
+        rs.addColumn("rating", Types.DOUBLE, 17, 0);
+        rs.addColumn("version", Types.BIGINT, 19, 0);
+        rs.addColumn("revision", Types.BIGINT, 19, 0);
+        rs.addColumn("reviews_revision", Types.BIGINT, 19, 0);
+        rs.addColumn("director_name", Types.VARCHAR, 255, 0);
+        return rs;
+    }
+
+    private static Object[] movieRow(int m, String description, Object... extra) {
+        Genre[] genres = Genre.values();
+        Object[] row = new Object[11 + extra.length];
+        row[0] = (long) m;
+        row[1] = "영화 " + m;
+        row[2] = (long) (m % 50 + 1);
+        row[3] = genres[m % genres.length].name();
+        row[4] = description;
+        row[5] = Date.valueOf(LocalDate.of(1990 + m % 35, m % 12 + 1, m % 28 + 1));
+        row[6] = (m % 50) / 10.0;
+        row[7] = (long) (m % 3);
+        row[8] = (long) (m % 5);
+        row[9] = (long) (m % 7);
+        row[10] = "감독 " + (m % 50 + 1);
+        System.arraycopy(extra, 0, row, 11, extra.length);
+        return row;
+    }
+
+    private static String text(int length) {
+        StringBuilder text = new StringBuilder(length);
+        while (text.length() < length) text.append(SENTENCE);
+        return text.substring(0, length);
+    }
+}
@@ -0,0 +1,196 @@
+package com.cinelog.server.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+import com.cinelog.server.service.ActorService;
+import com.cinelog.server.service.DirectorService;
+import com.cinelog.server.service.MovieFacade;
+import com.cinelog.server.service.MovieService;
+
+//요청 처리 스레드 모델별 처리량 비교 (./gradlew -PjavaVersion=21 loadTest)
+//실제 tomcat 을 임의 포트로 띄우고 클라이언트 수만큼 동시에 GET /movies/{id} 를 보냄(응답을 받으면 다음 요청), 서버 쪽은
+// - PlatformThreads: tomcat 기본 플랫폼 스레드풀 (server.tomcat.threads.max, 기본 200)
+// - VirtualThreads: virtual-threads 프로필 (spring.threads.virtual.enabled=true, java 21 이상에서만 실행)
+//두 모드 모두 같은 커넥션 풀 크기/대기 시간으로 db 동시성을 제한 (프로필 값보다 아래 설정이 우선)
+abstract class RequestThreadingLoadTest {
+    static final String NO_MOVIE_CACHE = "cinelog.cache.movie.enabled=false";//매 요청 db 조회
+    static final String POOL_SIZE = "spring.datasource.hikari.maximum-pool-size=20";
+    static final String POOL_MIN_IDLE = "spring.datasource.hikari.minimum-idle=20";
+    static final String POOL_TIMEOUT = "spring.datasource.hikari.connection-timeout=30000";
+    static final String NO_METRICS_HTTP = "cinelog.metrics.http.enabled=false";//두 컨텍스트가 같은 포트를 잡지 않도록
+
+    private static final int CLIENTS = Integer.getInteger("loadTest.clients", 1000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("loadTest.requests-per-client", 20);
+    private static final int MOVIES = 200;
+    private static final Map<String, Report> REPORTS = new ConcurrentHashMap<>();//같은 jvm 에서 먼저 끝난 모드와 비교
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.datasource.url=jdbc:h2:mem:threading-platform-load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "server.tomcat.threads.max=${loadTest.platform-threads:200}",
+            NO_MOVIE_CACHE, POOL_SIZE, POOL_MIN_IDLE, POOL_TIMEOUT, NO_METRICS_HTTP
+    })
+    static class PlatformThreads extends RequestThreadingLoadTest {
+        PlatformThreads() {
+            super("platform");
+        }
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.datasource.url=jdbc:h2:mem:threading-virtual-load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+            NO_MOVIE_CACHE, POOL_SIZE, POOL_MIN_IDLE, POOL_TIMEOUT, NO_METRICS_HTTP
+    })
+    @ActiveProfiles("virtual-threads")
+    static class VirtualThreads extends RequestThreadingLoadTest {
+        VirtualThreads() {
+            super("virtual");
+        }
+
+        @Override
+        void checkSupported() {//17에서는 프로필이 무시되어 플랫폼 스레드로 동작하므로 비교 의미가 없음
+            assumeTrue(Runtime.version().feature() >= 21, "가상 스레드는 java 21 이상 필요 -> ./gradlew -PjavaVersion=21 loadTest");
+        }
+    }
+
+    private final String mode;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private MovieFacade movieFacade;
+    @Autowired
+    private MovieService movieService;
+    @Autowired
+    private ActorService actorService;
+    @Autowired
+    private DirectorService directorService;
+
+    private long[] movieIds;
+
+    RequestThreadingLoadTest(String mode) {
+        this.mode = mode;
+    }
+
+    void checkSupported() {
+    }
+
+    @BeforeEach
+    void seed() {
+        checkSupported();
+        if (movieService.findAllMovies().size() < MOVIES) {
+            directorService.createDirector("부하테스트 감독");
+            Long directorId = directorService.findAllDirectors().get(0).getId();
+            Long[] actorIds = new Long[5];
+            for (int i = 0; i < actorIds.length; i++) actorIds[i] = actorService.createActor("배우" + i).getId();
+            for (int i = 0; i < MOVIES; i++) {
+                movieFacade.createMovie("영화" + i, Genre.values()[i % Genre.values().length], LocalDate.of(2000 + i % 25, 1, 1), "설명", directorId, actorIds);
+            }
+        }
+        movieIds = movieService.findAllMovies().stream().mapToLong(Movie::getId).toArray();
+    }
+
+    @Test
+    @DisplayName("동시 클라이언트 1000명 이상이 실제 http 요청을 보낼 때 스레드 모델별 처리량/지연시간을 측정한다")
+    void measureThroughput() throws Exception {
+        run(Math.min(CLIENTS, 100));//jit, 커넥션 풀, tomcat 스레드 예열 -> 결과에서 제외
+
+        Report report = run(CLIENTS);
+        System.out.println(report);
+        REPORTS.put(mode, report);
+        Report platform = REPORTS.get("platform");
+        Report virtual = REPORTS.get("virtual");
+        if (platform != null && virtual != null) {
+            System.out.printf("[loadTest] virtual/platform throughput = %.2fx%n", virtual.throughput / platform.throughput);
+        }
+        assertThat(report.errors).isZero();
+    }
+
+    private Report run(int clients) throws InterruptedException {
+        long[][] latencies = new long[clients][REQUESTS_PER_CLIENT];
+        AtomicInteger errors = new AtomicInteger();
+        List<Thread> clientThreads = new ArrayList<>(clients);
+        long start = System.nanoTime();
+        for (int c = 0; c < clients; c++) {
+            long[] clientLatencies = latencies[c];
+            Thread clientThread = new Thread(() -> {
+                for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                    long sent = System.nanoTime();
+                    try {
+                        if (get(movieIds[ThreadLocalRandom.current().nextInt(movieIds.length)]) != 200) errors.incrementAndGet();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    clientLatencies[r] = System.nanoTime() - sent;
+                }
+            }, "load-client-" + c);
+            clientThread.setDaemon(true);
+            clientThreads.add(clientThread);
+            clientThread.start();
+        }
+        for (Thread clientThread : clientThreads) clientThread.join();
+        return new Report(mode, clients, latencies, System.nanoTime() - start, errors.get());
+    }
+
+    private int get(long movieId) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/movies/" + movieId))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static final class Report {
+        private final String mode;
+        private final int clients;
+        private final int requests;
+        private final double throughput;
+        private final double p50Millis;
+        private final double p99Millis;
+        private final int errors;
+
+        private Report(String mode, int clients, long[][] latencies, long elapsedNanos, int errors) {
+            long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+            this.mode = mode;
+            this.clients = clients;
+            this.requests = all.length;
+            this.throughput = all.length / (elapsedNanos / 1e9);
+            this.p50Millis = all[(int) (all.length * 0.50)] / 1e6;
+            this.p99Millis = all[Math.min(all.length - 1, (int) (all.length * 0.99))] / 1e6;
+            this.errors = errors;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[loadTest] mode=%s clients=%d requests=%d throughput=%.0f req/s p50=%.1fms p99=%.1fms errors=%d",
+                    mode, clients, requests, throughput, p50Millis, p99Millis, errors);
+        }
+    }
+}
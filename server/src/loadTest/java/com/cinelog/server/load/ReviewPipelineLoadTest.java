@@ -0,0 +1,309 @@
+package com.cinelog.server.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+import com.cinelog.server.domain.User;
+import com.cinelog.server.repository.UserRepository;
+import com.cinelog.server.service.ActorService;
+import com.cinelog.server.service.DirectorService;
+import com.cinelog.server.service.MovieFacade;
+import com.cinelog.server.service.MovieService;
+import com.cinelog.server.service.ReviewService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+//리뷰 작성/수정/삭제 -> ReviewChangedEvent -> MovieRatingEventHandler -> 평점 갱신 경로 부하 테스트 (./gradlew loadTest)
+//영화/유저 수, 스레드 수, 작업 비율, 시드를 -PloadTest.review.* 로 바꿀 수 있고 같은 값이면 같은 작업 순서로 실행됨
+//결과(처리량, p50/p99/p999, 작업당 sql 실행 수)는 build/reports/loadTest/review-pipeline.json 으로 남겨 빌드 간 비교
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:review-pipeline-load;MODE=MySQL;DB_CLOSE_DELAY=-1",//다른 부하 테스트 컨텍스트와 db 분리
+        "spring.datasource.hikari.maximum-pool-size=20"
+})
+@Import(ReviewPipelineLoadTest.Counting.class)
+class ReviewPipelineLoadTest {
+    private static final int MOVIES = Integer.getInteger("loadTest.review.movies", 500);
+    private static final int USERS = Integer.getInteger("loadTest.review.users", 2000);
+    private static final int THREADS = Integer.getInteger("loadTest.review.threads", 16);
+    private static final int OPERATIONS_PER_THREAD = Integer.getInteger("loadTest.review.operations-per-thread", 500);
+    private static final int WARMUP_OPERATIONS_PER_THREAD = Integer.getInteger("loadTest.review.warmup-operations-per-thread", 100);
+    private static final int CREATE_PERCENT = Integer.getInteger("loadTest.review.create-percent", 60);
+    private static final int UPDATE_PERCENT = Integer.getInteger("loadTest.review.update-percent", 30);//나머지는 삭제
+    private static final long SEED = Long.getLong("loadTest.review.seed", 42L);
+    private static final String REPORT_DIR = System.getProperty("loadTest.report-dir", "build/reports/loadTest");
+
+    enum Operation { CREATE, UPDATE, DELETE }
+
+    @TestConfiguration
+    static class Counting {
+        @Bean
+        static StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+    }
+
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private MovieFacade movieFacade;
+    @Autowired
+    private MovieService movieService;
+    @Autowired
+    private ActorService actorService;
+    @Autowired
+    private DirectorService directorService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Test
+    @DisplayName("리뷰 작성/수정/삭제 동시 부하에서 처리량, 지연시간 분위수, 작업당 sql 실행 수를 리포트로 남긴다")
+    void reviewPipeline() throws Exception {
+        long[] movieIds = seedMovies();
+        long[] userIds = seedUsers();
+
+        List<Worker> warmup = run(movieIds, userIds, WARMUP_OPERATIONS_PER_THREAD, SEED - 1, null);//jit, 커넥션 풀 예열 -> 결과에서 제외
+        long statementsBefore = statementCounter.total();
+        long start = System.nanoTime();
+        //예열 때 쓴 리뷰도 db에 남아 있으므로 스레드별 작성 기록을 이어받음 -> 같은 (유저, 영화)에 다시 작성하지 않음
+        List<Worker> workers = run(movieIds, userIds, OPERATIONS_PER_THREAD, SEED, warmup);
+        long elapsedNanos = System.nanoTime() - start;
+
+        Map<String, Object> report = report(workers, elapsedNanos, statementCounter.total() - statementsBefore);
+        File file = new File(REPORT_DIR, "review-pipeline.json");
+        write(report, file);
+        System.out.println("[loadTest] review-pipeline -> " + file.getAbsolutePath());
+        System.out.println("[loadTest] " + report.get("total"));
+
+        for (Worker worker : workers) {
+            for (OperationStats stats : worker.stats.values()) assertThat(stats.errors).isZero();
+        }
+    }
+
+    private long[] seedMovies() {
+        directorService.createDirector("부하테스트 감독");
+        Long directorId = directorService.findAllDirectors().get(0).getId();
+        Long[] actorIds = new Long[20];
+        for (int i = 0; i < actorIds.length; i++) actorIds[i] = actorService.createActor("배우" + i).getId();
+        Genre[] genres = Genre.values();
+        for (int i = 0; i < MOVIES; i++) {
+            Long[] cast = {actorIds[i % 20], actorIds[(i + 7) % 20], actorIds[(i + 13) % 20]};
+            movieFacade.createMovie("영화" + i, genres[i % genres.length], LocalDate.of(1990 + i % 35, 1, 1), "설명", directorId, cast);
+        }
+        return movieService.findAllMovies().stream().mapToLong(Movie::getId).toArray();
+    }
+
+    private long[] seedUsers() {//가입(bcrypt)은 측정 대상이 아니므로 저장소로 바로 넣음
+        long[] userIds = new long[USERS];
+        for (int i = 0; i < USERS; i++) userIds[i] = userRepository.save(new User("load-user-" + i, "PRESEEDED")).getId();
+        return userIds;
+    }
+
+    private List<Worker> run(long[] movieIds, long[] userIds, int operationsPerThread, long seed, List<Worker> previous) throws InterruptedException {
+        List<Worker> workers = new ArrayList<>(THREADS);
+        List<Thread> threads = new ArrayList<>(THREADS);
+        for (int w = 0; w < THREADS; w++) {
+            Worker worker = new Worker(w, movieIds, userIds, operationsPerThread, new Random(seed * 31 + w));
+            if (previous != null) worker.continueFrom(previous.get(w));//같은 인덱스 -> 같은 유저 묶음
+            Thread thread = new Thread(worker, "review-load-" + w);
+            workers.add(worker);
+            threads.add(thread);
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) thread.join();
+        return workers;
+    }
+
+    //유저를 스레드별로 나눠 가짐 -> 자기 리뷰만 수정/삭제하므로 스레드 간 권한/중복 작성 실패가 섞이지 않음
+    private final class Worker implements Runnable {
+        private final long[] movieIds;
+        private final long[] userIds;
+        private final int operations;
+        private final Random random;
+        private final List<long[]> ownReviews = new ArrayList<>();//{reviewId, userId, movieId}
+        private final Set<String> reviewed = new HashSet<>();
+        private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+        private Worker(int index, long[] movieIds, long[] allUserIds, int operations, Random random) {
+            this.movieIds = movieIds;
+            this.userIds = IntStream.range(0, allUserIds.length)
+                    .filter(i -> i % THREADS == index).mapToLong(i -> allUserIds[i]).toArray();
+            this.operations = operations;
+            this.random = random;
+            for (Operation operation : Operation.values()) stats.put(operation, new OperationStats(operations));
+        }
+
+        private void continueFrom(Worker previous) {//통계는 새로 시작
+            ownReviews.addAll(previous.ownReviews);
+            reviewed.addAll(previous.reviewed);
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < operations; i++) {
+                int roll = random.nextInt(100);
+                Operation operation = roll < CREATE_PERCENT || ownReviews.isEmpty() ? Operation.CREATE
+                        : roll < CREATE_PERCENT + UPDATE_PERCENT ? Operation.UPDATE : Operation.DELETE;
+                execute(operation);
+            }
+        }
+
+        private void execute(Operation operation) {
+            long[] target = operation == Operation.CREATE ? newPair() : ownReviews.get(random.nextInt(ownReviews.size()));
+            if (target == null) return;//이 스레드의 유저가 모든 영화에 리뷰를 씀
+            String content = "리뷰 내용 ".repeat(1 + random.nextInt(40));
+            int rating = 1 + random.nextInt(5);
+            OperationStats stat = stats.get(operation);
+            long statementsBefore = statementCounter.currentThread();
+            long start = System.nanoTime();
+            try {
+                switch (operation) {
+                    case CREATE -> reviewService.createReview(content, rating, target[1], target[2]);
+                    case UPDATE -> reviewService.updateReview(content, rating, target[0], target[1]);
+                    case DELETE -> reviewService.deleteReview(target[0], target[1]);
+                }
+            } catch (RuntimeException e) {
+                stat.errors++;
+                return;
+            } finally {
+                stat.record(System.nanoTime() - start, statementCounter.currentThread() - statementsBefore);
+            }
+            if (operation == Operation.CREATE) {//작성 api는 id를 돌려주지 않으므로 측정 밖에서 조회
+                target[0] = jdbcTemplate.queryForObject("SELECT id FROM reviews WHERE user_id = ? AND movie_id = ?", Long.class, target[1], target[2]);
+                ownReviews.add(target);
+            } else if (operation == Operation.DELETE) {
+                ownReviews.remove(target);
+                reviewed.remove(target[1] + ":" + target[2]);
+            }
+        }
+
+        private long[] newPair() {
+            for (int attempt = 0; attempt < 20; attempt++) {
+                long userId = userIds[random.nextInt(userIds.length)];
+                long movieId = movieIds[random.nextInt(movieIds.length)];
+                if (reviewed.add(userId + ":" + movieId)) return new long[]{0L, userId, movieId};
+            }
+            return null;
+        }
+    }
+
+    private static final class OperationStats {//스레드 하나에서만 쓰고, 끝난 뒤 합침
+        private long[] latencies;
+        private int count;
+        private long statements;
+        private int errors;
+
+        private OperationStats(int capacity) {
+            this.latencies = new long[capacity];
+        }
+
+        private void record(long latencyNanos, long statementCount) {
+            latencies[count++] = latencyNanos;
+            statements += statementCount;
+        }
+    }
+
+    private Map<String, Object> report(List<Worker> workers, long elapsedNanos, long totalStatements) {
+        double seconds = elapsedNanos / 1e9;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        List<long[]> everything = new ArrayList<>();
+        int totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            List<long[]> latencies = new ArrayList<>();
+            long statements = 0;
+            int errors = 0;
+            for (Worker worker : workers) {
+                OperationStats stats = worker.stats.get(operation);
+                latencies.add(Arrays.copyOf(stats.latencies, stats.count));
+                statements += stats.statements;
+                errors += stats.errors;
+            }
+            everything.addAll(latencies);
+            totalErrors += errors;
+            Map<String, Object> summary = summarize(latencies, seconds);
+            summary.put("errors", errors);
+            summary.put("statements", statements);
+            int count = (int) summary.get("count");
+            summary.put("statementsPerOperation", count == 0 ? 0.0 : round((double) statements / count));
+            operations.put(operation.name().toLowerCase(), summary);
+        }
+        Map<String, Object> total = summarize(everything, seconds);
+        total.put("errors", totalErrors);
+        total.put("statements", totalStatements);
+        int count = (int) total.get("count");
+        total.put("statementsPerOperation", count == 0 ? 0.0 : round((double) totalStatements / count));
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("movies", MOVIES);
+        config.put("users", USERS);
+        config.put("threads", THREADS);
+        config.put("operationsPerThread", OPERATIONS_PER_THREAD);
+        config.put("createPercent", CREATE_PERCENT);
+        config.put("updatePercent", UPDATE_PERCENT);
+        config.put("seed", SEED);
+        config.put("javaVersion", Runtime.version().feature());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenario", "review-pipeline");
+        report.put("timestamp", Instant.now().toString());
+        report.put("config", config);
+        report.put("elapsedMillis", round(elapsedNanos / 1e6));
+        report.put("operations", operations);
+        report.put("total", total);
+        return report;
+    }
+
+    private static Map<String, Object> summarize(List<long[]> latencies, double seconds) {
+        long[] sorted = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", sorted.length);
+        summary.put("throughputPerSecond", round(sorted.length / seconds));
+        summary.put("p50Millis", percentile(sorted, 0.50));
+        summary.put("p99Millis", percentile(sorted, 0.99));
+        summary.put("p999Millis", percentile(sorted, 0.999));
+        summary.put("maxMillis", sorted.length == 0 ? 0.0 : round(sorted[sorted.length - 1] / 1e6));
+        return summary;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) return 0.0;
+        int index = Math.min(sorted.length - 1, Math.max(0, (int) Math.ceil(sorted.length * quantile) - 1));
+        return round(sorted[index] / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    private static void write(Map<String, Object> report, File file) throws IOException {
+        file.getParentFile().mkdirs();
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, report);
+    }
+}
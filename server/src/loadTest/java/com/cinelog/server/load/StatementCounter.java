@@ -0,0 +1,82 @@
+package com.cinelog.server.load;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+//부하 테스트용 sql 실행 횟수 카운터 -> dataSource 빈을 감싸 execute* 호출을 셈
+//스레드별로도 세므로 한 작업(같은 스레드에서 도는 이벤트 핸들러 포함)이 몇 번 실행했는지 알 수 있음
+class StatementCounter implements BeanPostProcessor {
+    private static final ThreadLocal<long[]> CURRENT_THREAD = ThreadLocal.withInitial(() -> new long[1]);
+    private final LongAdder total = new LongAdder();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) return new CountingDataSource(dataSource);
+        return bean;
+    }
+
+    long total() {
+        return total.sum();
+    }
+
+    long currentThread() {
+        return CURRENT_THREAD.get()[0];
+    }
+
+    private void increment() {
+        total.increment();
+        CURRENT_THREAD.get()[0]++;
+    }
+
+    private final class CountingDataSource extends DelegatingDataSource {
+        private CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(Connection.class, super.getConnection(username, password));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) increment();
+            Object result = invoke(method, target, args);
+            if (!(target instanceof Connection)) return result;
+            //Connection 에서 만든 Statement 도 감싸야 실행을 셀 수 있음
+            if (result instanceof CallableStatement statement) return proxy(CallableStatement.class, statement);
+            if (result instanceof PreparedStatement statement) return proxy(PreparedStatement.class, statement);
+            if (result instanceof Statement statement) return proxy(Statement.class, statement);
+            return result;
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
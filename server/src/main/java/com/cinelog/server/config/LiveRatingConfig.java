@@ -0,0 +1,24 @@
+package com.cinelog.server.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.cinelog.server.service.live.RatingBroadcastHub;
+
+//실시간 평점 구독(GET /movies/{id}/ratings/stream)
+@Configuration
+public class LiveRatingConfig {
+
+    @Bean
+    public RatingBroadcastHub ratingBroadcastHub(
+            @Value("${cinelog.live.buffer-size:16}") int bufferSize,
+            @Value("${cinelog.live.timeout:30m}") Duration timeout,
+            @Value("${cinelog.live.heartbeat-interval:15s}") Duration heartbeatInterval,
+            @Value("${cinelog.live.sender-threads:8}") int senderThreads,
+            @Value("${cinelog.live.send-timeout:10s}") Duration sendTimeout) {
+        return new RatingBroadcastHub(bufferSize, timeout, heartbeatInterval, senderThreads, sendTimeout);
+    }
+}
@@ -0,0 +1,138 @@
+package com.cinelog.server.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.cinelog.server.metrics.HikariPoolMetrics;
+import com.cinelog.server.metrics.JvmMetrics;
+import com.cinelog.server.metrics.MetricsHttpServer;
+import com.cinelog.server.metrics.MetricsRegistry;
+import com.cinelog.server.metrics.MetricsSampler;
+import com.cinelog.server.metrics.RequestMetricsFilter;
+import com.cinelog.server.metrics.TomcatThreadMetrics;
+import com.cinelog.server.repository.cache.CachingActorRepository;
+import com.cinelog.server.repository.cache.CachingDirectorRepository;
+import com.cinelog.server.repository.cache.CachingMovieRepository;
+import com.cinelog.server.repository.cache.CachingUserRepository;
+import com.cinelog.server.service.MovieRatingEventHandler;
+import com.cinelog.server.service.live.RatingBroadcastHub;
+import com.zaxxer.hikari.HikariDataSource;
+
+//외부 지표 수집기 없이 쓰는 자체 지표 -> tomcat 스레드, 커넥션 풀, gc/힙, 리뷰 이벤트 처리, 캐시 적중률, 엔드포인트별 지연시간
+//sample-interval 마다 값을 읽어 지표마다 최근 history 개를 보관, http.* 포트로 Prometheus 텍스트/json 노출
+@Configuration
+@ConditionalOnProperty(name = "cinelog.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+    //후처리기가 쓰는 빈이라 static 으로 일찍 만듦
+    @Bean
+    public static MetricsRegistry metricsRegistry(@Value("${cinelog.metrics.history:360}") int history) {
+        return new MetricsRegistry(history);
+    }
+
+    //풀이 시작되기 전(첫 커넥션 요청 전)에 지표 수집기를 붙임 -> 복제본 풀(ReadWriteDataSourceConfig)도 포함
+    @Bean
+    public static BeanPostProcessor hikariMetricsPostProcessor(MetricsRegistry metricsRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari && hikari.getMetricRegistry() == null && hikari.getMetricsTrackerFactory() == null) {
+                    hikari.setMetricsTrackerFactory(new HikariPoolMetrics(metricsRegistry));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MetricsSampler metricsSampler(MetricsRegistry metricsRegistry,
+            @Value("${cinelog.metrics.sample-interval:10s}") Duration interval) {
+        return new MetricsSampler(metricsRegistry, interval);
+    }
+
+    @Bean
+    public JvmMetrics jvmMetrics(MetricsRegistry metricsRegistry) {
+        return new JvmMetrics(metricsRegistry);
+    }
+
+    //캐시/이벤트 처리기는 설정에 따라 없을 수 있으므로 모든 빈이 만들어진 뒤 있는 것만 등록
+    @Bean
+    public SmartInitializingSingleton applicationMetrics(MetricsRegistry metricsRegistry,
+            ObjectProvider<CachingMovieRepository> movieCache,
+            ObjectProvider<CachingUserRepository> userCache,
+            ObjectProvider<CachingActorRepository> actorCache,
+            ObjectProvider<CachingDirectorRepository> directorCache,
+            ObjectProvider<MovieRatingEventHandler> reviewEventHandler,
+            ObjectProvider<RatingBroadcastHub> ratingBroadcastHub) {
+        return () -> {
+            movieCache.ifAvailable(cache -> cacheMetrics(metricsRegistry, "movie", cache::getHitCount, cache::getMissCount));
+            userCache.ifAvailable(cache -> cacheMetrics(metricsRegistry, "user", cache::getHitCount, cache::getMissCount));
+            actorCache.ifAvailable(cache -> cacheMetrics(metricsRegistry, "actor", cache::getHitCount, cache::getMissCount));
+            directorCache.ifAvailable(cache -> cacheMetrics(metricsRegistry, "director", cache::getHitCount, cache::getMissCount));
+            reviewEventHandler.ifAvailable(handler -> {
+                metricsRegistry.gauge("cinelog_review_events_in_flight", "처리 중인 ReviewChangedEvent (발행 스레드에서 동기 처리)", Map.of(), handler::getInFlight);
+                metricsRegistry.counter("cinelog_review_events_handled_total", "처리한 ReviewChangedEvent", Map.of(), handler::getHandledCount);
+                metricsRegistry.counter("cinelog_review_events_failed_total", "처리 중 예외가 난 ReviewChangedEvent", Map.of(), handler::getFailedCount);
+            });
+            ratingBroadcastHub.ifAvailable(hub -> {
+                metricsRegistry.gauge("cinelog_live_rating_subscribers", "실시간 평점 구독자(SSE 연결)", Map.of(), hub::getSubscriberCount);
+                metricsRegistry.counter("cinelog_live_rating_delivered_total", "구독자에게 보낸 평점 변경", Map.of(), hub::getDeliveredCount);
+                metricsRegistry.counter("cinelog_live_rating_dropped_total", "구독자 버퍼가 차서 버린 평점 변경", Map.of(), hub::getDroppedCount);
+            });
+        };
+    }
+
+    private static void cacheMetrics(MetricsRegistry registry, String cache, LongSupplier hits, LongSupplier misses) {
+        Map<String, String> labels = Map.of("cache", cache);
+        registry.counter("cinelog_cache_hits_total", "캐시 적중", labels, hits::getAsLong);
+        registry.counter("cinelog_cache_misses_total", "캐시 실패", labels, misses::getAsLong);
+        registry.gauge("cinelog_cache_hit_ratio", "기동 이후 캐시 적중률", labels, () -> {
+            long hit = hits.getAsLong();
+            long total = hit + misses.getAsLong();
+            return total == 0 ? Double.NaN : (double) hit / total;
+        });
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class Web {
+        @Bean
+        public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(MetricsRegistry metricsRegistry,
+                @Value("${cinelog.metrics.max-endpoints:100}") int maxEndpoints) {
+            FilterRegistrationBean<RequestMetricsFilter> registration = new FilterRegistrationBean<>(new RequestMetricsFilter(metricsRegistry, maxEndpoints));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);//쿼리 예산 필터보다 바깥 -> 필터 처리 시간까지 포함
+            return registration;
+        }
+
+        @Bean
+        @ConditionalOnClass(name = "org.springframework.boot.web.embedded.tomcat.TomcatWebServer")
+        public TomcatThreadMetrics tomcatThreadMetrics(MetricsRegistry metricsRegistry) {
+            return new TomcatThreadMetrics(metricsRegistry);
+        }
+    }
+
+    //포트를 잡지 못하면 경고만 남기고 계속 기동
+    @Configuration
+    @ConditionalOnProperty(name = "cinelog.metrics.http.enabled", havingValue = "true", matchIfMissing = true)
+    static class Http {
+        @Bean
+        public MetricsHttpServer metricsHttpServer(MetricsRegistry metricsRegistry,
+                @Value("${cinelog.metrics.http.host:127.0.0.1}") String host,
+                @Value("${cinelog.metrics.http.port:9404}") int port) {
+            return new MetricsHttpServer(metricsRegistry, host, port);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.cinelog.server.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.cinelog.server.repository.routing.ReadWriteRoutingDataSource;
+import com.cinelog.server.repository.routing.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+
+//cinelog.datasource.routing.enabled=true 이면 @Transactional(readOnly = true)는 복제본, 나머지는 원본(spring.datasource.*)으로
+//DataSource 빈을 직접 만들므로 스프링 부트 기본 DataSource 설정은 물러남
+@Configuration
+@ConditionalOnProperty(name = "cinelog.datasource.routing.enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig {
+
+    //접속 정보는 spring.datasource.*, 풀 설정(maximum-pool-size, connection-timeout 등)은 부트 기본과 같이 spring.datasource.hikari.* 로
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            @Value("${cinelog.datasource.replica.url}") String url,
+            @Value("${cinelog.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${cinelog.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${cinelog.datasource.replica.max-pool-size:10}") int maxPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maxPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${cinelog.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${cinelog.datasource.replica.max-lag:5s}") Duration maxLag,
+            @Value("${cinelog.datasource.replica.check-interval:1s}") Duration interval) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLag, interval);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource, ReplicaLagMonitor replicaLagMonitor) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+
+    @Bean
+    @Primary//jdbc 템플릿, 트랜잭션 매니저, schema.sql 초기화(트랜잭션 밖 -> 원본)가 사용
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return ReadWriteRoutingDataSource.lazy(readWriteRoutingDataSource);
+    }
+}
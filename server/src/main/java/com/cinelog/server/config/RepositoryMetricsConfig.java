@@ -0,0 +1,27 @@
+package com.cinelog.server.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.cinelog.server.repository.metrics.RepositoryMetrics;
+import com.cinelog.server.repository.metrics.RepositoryMetricsPostProcessor;
+
+//jdbc 저장소 메서드별 지연시간/호출/행/오류 수 -> JMX cinelog:type=RepositoryMetrics
+//instrument=false 이면 프록시 자체를 만들지 않음, enabled 는 실행 중 JMX로 켜고 끌 수 있음
+@Configuration
+@ConditionalOnProperty(name = "cinelog.metrics.repository.instrument", havingValue = "true", matchIfMissing = true)
+public class RepositoryMetricsConfig {
+
+    //후처리기가 쓰는 빈이라 static 으로 일찍 만듦
+    @Bean
+    public static RepositoryMetrics repositoryMetrics(@Value("${cinelog.metrics.repository.enabled:true}") boolean enabled) {
+        return new RepositoryMetrics(enabled);
+    }
+
+    @Bean
+    public static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor(RepositoryMetrics repositoryMetrics) {
+        return new RepositoryMetricsPostProcessor(repositoryMetrics);
+    }
+}
@@ -1,15 +1,46 @@
 package com.cinelog.server.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.cinelog.server.service.security.BCryptCalibration;
+import com.cinelog.server.service.security.BCryptCostCalibrator;
+import com.cinelog.server.service.security.BCryptCostStats;
+import com.cinelog.server.service.security.OffloadingPasswordEncoder;
+import com.cinelog.server.service.security.PasswordHashExecutor;
+
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordHashExecutor passwordHashExecutor(
+            @Value("${cinelog.password.hash.threads:0}") int threads,
+            @Value("${cinelog.password.hash.queue-capacity:64}") int queueCapacity,
+            @Value("${cinelog.password.hash.max-concurrent-logins:32}") int maxConcurrentLogins,
+            @Value("${cinelog.password.hash.timeout:2s}") Duration timeout) {
+        return new PasswordHashExecutor(threads, queueCapacity, maxConcurrentLogins, timeout);
+    }
+
+    @Bean
+    public BCryptCostStats bcryptCostStats(
+            @Value("${cinelog.password.bcrypt.strength:0}") int fixedStrength,
+            @Value("${cinelog.password.bcrypt.target-millis:100}") long targetMillis,
+            @Value("${cinelog.password.bcrypt.min-strength:10}") int minStrength,
+            @Value("${cinelog.password.bcrypt.max-strength:16}") int maxStrength) {
+        BCryptCalibration calibration = fixedStrength > 0//고정값이 있으면 보정 생략
+                ? BCryptCostCalibrator.fixed(fixedStrength)
+                : new BCryptCostCalibrator(targetMillis, minStrength, maxStrength).calibrate();
+        return new BCryptCostStats(calibration);
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashExecutor passwordHashExecutor, BCryptCostStats bcryptCostStats) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptCostStats.getStrength());
+        return new OffloadingPasswordEncoder(bcrypt, passwordHashExecutor);
     }
 }
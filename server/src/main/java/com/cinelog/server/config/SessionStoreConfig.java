@@ -0,0 +1,105 @@
+package com.cinelog.server.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import com.cinelog.server.service.session.ContainerSessionStore;
+import com.cinelog.server.service.session.KeyValueStore;
+import com.cinelog.server.service.session.LocalKeyValueStore;
+import com.cinelog.server.service.session.OffHeapSessionStore;
+import com.cinelog.server.service.session.SessionExpirySweeper;
+import com.cinelog.server.service.session.SessionStore;
+import com.cinelog.server.service.session.SharedSessionStore;
+import com.cinelog.server.service.session.SignedTokenSessionStore;
+import com.cinelog.server.service.session.TokenKeyRing;
+import com.cinelog.server.service.session.TokenRevocationList;
+
+//cinelog.session.store 값에 따라 세션 저장소 선택 (container / off-heap / shared / signed-token)
+@Configuration
+public class SessionStoreConfig {
+    private static final String STORE = "cinelog.session.store";
+
+    @Bean
+    @ConditionalOnProperty(name = STORE, havingValue = "container", matchIfMissing = true)
+    public SessionStore containerSessionStore() {
+        return new ContainerSessionStore();
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = STORE, havingValue = "off-heap")
+    static class OffHeap {
+        @Bean
+        public OffHeapSessionStore offHeapSessionStore(
+                @Value("${cinelog.session.cookie-name:CINELOG_SESSION}") String cookieName,
+                @Value("${server.servlet.session.cookie.secure:false}") boolean secureCookie,
+                @Value("${server.servlet.session.timeout:30m}") Duration timeout,
+                @Value("${cinelog.session.off-heap.slab-size:1MB}") DataSize slabSize,
+                @Value("${cinelog.session.off-heap.max-slabs:64}") int maxSlabs) {
+            return new OffHeapSessionStore(cookieName, secureCookie, timeout, (int) slabSize.toBytes(), maxSlabs);
+        }
+
+        @Bean
+        public SessionExpirySweeper sessionExpirySweeper(OffHeapSessionStore offHeapSessionStore,
+                @Value("${cinelog.session.sweep-interval:1m}") Duration interval) {
+            return new SessionExpirySweeper(offHeapSessionStore, interval);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = STORE, havingValue = "shared")
+    static class Shared {
+        @Bean
+        @ConditionalOnMissingBean//공유 저장소 구현체 빈이 있으면 그것을 사용
+        public KeyValueStore keyValueStore() {
+            return new LocalKeyValueStore();
+        }
+
+        @Bean
+        public SharedSessionStore sharedSessionStore(KeyValueStore keyValueStore,
+                @Value("${cinelog.session.cookie-name:CINELOG_SESSION}") String cookieName,
+                @Value("${server.servlet.session.cookie.secure:false}") boolean secureCookie,
+                @Value("${server.servlet.session.timeout:30m}") Duration timeout) {
+            return new SharedSessionStore(keyValueStore, cookieName, secureCookie, timeout);
+        }
+
+        @Bean
+        public SessionExpirySweeper sessionExpirySweeper(SharedSessionStore sharedSessionStore,
+                @Value("${cinelog.session.sweep-interval:1m}") Duration interval) {
+            return new SessionExpirySweeper(sharedSessionStore, interval);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = STORE, havingValue = "signed-token")
+    static class SignedToken {
+        @Bean
+        @ConditionalOnMissingBean//폐기 목록도 서버 간 공유되어야 하므로 공유 저장소 구현체가 있으면 그것을 사용
+        public KeyValueStore keyValueStore() {
+            return new LocalKeyValueStore();
+        }
+
+        @Bean
+        public SignedTokenSessionStore signedTokenSessionStore(KeyValueStore keyValueStore,
+                @Value("${cinelog.session.token.keys:}") String keys,
+                @Value("${cinelog.session.token.active-key-id:0}") int activeKeyId,
+                @Value("${cinelog.session.cookie-name:CINELOG_SESSION}") String cookieName,
+                @Value("${server.servlet.session.cookie.secure:false}") boolean secureCookie,
+                @Value("${server.servlet.session.timeout:30m}") Duration timeout) {
+            TokenKeyRing keyRing = new TokenKeyRing(keys, activeKeyId);
+            TokenRevocationList revocations = new TokenRevocationList(keyValueStore, timeout);
+            return new SignedTokenSessionStore(keyRing, revocations, cookieName, secureCookie, timeout);
+        }
+
+        @Bean
+        public SessionExpirySweeper sessionExpirySweeper(SignedTokenSessionStore signedTokenSessionStore,
+                @Value("${cinelog.session.sweep-interval:1m}") Duration interval) {
+            return new SessionExpirySweeper(signedTokenSessionStore, interval);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.cinelog.server.config;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.cinelog.server.repository.statement.ObservedDataSource;
+import com.cinelog.server.repository.statement.StatementBudget;
+import com.cinelog.server.repository.statement.StatementBudgetFilter;
+import com.cinelog.server.repository.statement.SlowQueryLog;
+import com.cinelog.server.repository.statement.StatementListener;
+
+//dataSource 빈을 ObservedDataSource 로 감싸 StatementListener 빈들에 쿼리 실행을 알림 (리스너가 없으면 감싸기만 하고 그대로 통과)
+@Configuration
+public class StatementObservationConfig {
+
+    @Bean
+    public static BeanPostProcessor observedDataSourcePostProcessor(ObjectProvider<StatementListener> listeners) {
+        return new BeanPostProcessor() {
+            private volatile List<StatementListener> resolved;
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource) || bean instanceof ObservedDataSource) return bean;
+                return new ObservedDataSource(dataSource, () -> {
+                    List<StatementListener> current = resolved;
+                    if (current == null) resolved = current = listeners.orderedStream().toList();//첫 커넥션 시점에 한 번만 조회
+                    return current;
+                });
+            }
+        };
+    }
+
+    //요청/트랜잭션별 쿼리 수 예산과 n+1 감지
+    @Configuration
+    @ConditionalOnProperty(name = "cinelog.statements.enabled", havingValue = "true", matchIfMissing = true)
+    static class Budget {
+        @Bean
+        public StatementBudget statementBudget(
+                @Value("${cinelog.statements.mode:log}") String mode,
+                @Value("${cinelog.statements.max-per-scope:30}") int maxStatements,
+                @Value("${cinelog.statements.max-repeats:10}") int maxRepeats) {
+            return new StatementBudget(StatementBudget.Mode.valueOf(mode.toUpperCase()), maxStatements, maxRepeats);
+        }
+
+        @Bean
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        public FilterRegistrationBean<StatementBudgetFilter> statementBudgetFilter(StatementBudget statementBudget) {
+            FilterRegistrationBean<StatementBudgetFilter> registration = new FilterRegistrationBean<>(new StatementBudgetFilter(statementBudget));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+            return registration;
+        }
+    }
+
+    //threshold 를 넘은 쿼리와 실행 계획 -> GET /admin/slow-queries, JMX cinelog:type=SlowQueryLog
+    @Configuration
+    @ConditionalOnProperty(name = "cinelog.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+    static class SlowQueries {
+        @Bean
+        public SlowQueryLog slowQueryLog(ObjectProvider<DataSource> dataSource,
+                @Value("${cinelog.slow-query.threshold:200ms}") Duration threshold,
+                @Value("${cinelog.slow-query.capacity:100}") int capacity,
+                @Value("${cinelog.slow-query.redact:password}") String redact,
+                @Value("${cinelog.slow-query.explain:true}") boolean explain) {
+            return new SlowQueryLog(() -> {
+                DataSource current = dataSource.getObject();
+                return current instanceof ObservedDataSource observed ? observed.getTargetDataSource() : current;
+            }, threshold, capacity, Arrays.stream(redact.split(",")).map(String::trim).filter(column -> !column.isEmpty())
+                    .map(column -> column.toLowerCase(Locale.ROOT)).collect(Collectors.toSet()), explain);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.cinelog.server.controller.admin;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cinelog.server.domain.Role;
+import com.cinelog.server.exception.security.ForbiddenException;
+import com.cinelog.server.repository.statement.SlowQuery;
+import com.cinelog.server.repository.statement.SlowQueryLog;
+import com.cinelog.server.service.AuthFacade;
+
+//최근 느린 쿼리 (관리자 전용)
+@RestController
+@ConditionalOnProperty(name = "cinelog.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+@RequestMapping("/admin/slow-queries")
+public class SlowQueryController {
+    private final SlowQueryLog slowQueryLog;
+    private final AuthFacade authFacade;
+
+    public SlowQueryController(SlowQueryLog slowQueryLog, AuthFacade authFacade) {
+        this.slowQueryLog = slowQueryLog;
+        this.authFacade = authFacade;
+    }
+
+    @GetMapping
+    public List<SlowQuery> recent(@RequestParam(defaultValue = "50") int limit) {
+        if (authFacade.getUser().getRole() != Role.ADMIN) throw new ForbiddenException("관리자만 조회할 수 있습니다.");
+        return slowQueryLog.getRecent(Math.max(1, limit));
+    }
+}
@@ -0,0 +1,85 @@
+package com.cinelog.server.controller.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cinelog.server.domain.Role;
+import com.cinelog.server.exception.export.ExportLimitExceededException;
+import com.cinelog.server.exception.security.ForbiddenException;
+import com.cinelog.server.service.AuthFacade;
+import com.cinelog.server.service.export.ExportService;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+//전체 카탈로그/리뷰 내보내기 (관리자 전용)
+//한 건이 커넥션 하나와 요청 스레드 하나를 끝까지 잡으므로 동시에 max-concurrent 건까지만 받고 나머지는 바로 거절
+//GET /export/movies?afterId=, GET /export/reviews?afterId= -> application/x-ndjson, Accept-Encoding 에 gzip 이 있으면 gzip 으로
+//비동기(StreamingResponseBody)로 넘기지 않고 요청 스레드에서 끝까지 씀 -> 비동기 요청 타임아웃에 걸리지 않음
+@RestController
+@RequestMapping("/export")
+public class ExportController {
+    static final String NDJSON = "application/x-ndjson";
+    private static final int GZIP_BUFFER = 64 * 1024;
+
+    private final ExportService exportService;
+    private final AuthFacade authFacade;
+    private final Semaphore running;
+
+    public ExportController(ExportService exportService, AuthFacade authFacade,
+                            @Value("${cinelog.export.max-concurrent:2}") int maxConcurrent) {
+        this.exportService = exportService;
+        this.authFacade = authFacade;
+        this.running = new Semaphore(maxConcurrent);
+    }
+
+    @GetMapping("/movies")
+    public void movies(@RequestParam(defaultValue = "0") long afterId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        checkAdmin();
+        if (!running.tryAcquire()) throw new ExportLimitExceededException();
+        try (OutputStream out = open(response, acceptEncoding)) {
+            exportService.exportMovies(afterId, out);
+        } finally {
+            running.release();
+        }
+    }
+
+    @GetMapping("/reviews")
+    public void reviews(@RequestParam(defaultValue = "0") long afterId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        checkAdmin();
+        if (!running.tryAcquire()) throw new ExportLimitExceededException();
+        try (OutputStream out = open(response, acceptEncoding)) {
+            exportService.exportReviews(afterId, out);
+        } finally {
+            running.release();
+        }
+    }
+
+    private void checkAdmin() {
+        if (authFacade.getUser().getRole() != Role.ADMIN) throw new ForbiddenException("관리자만 내보낼 수 있습니다.");
+    }
+
+    //syncFlush: 서비스가 flush 할 때마다 그때까지 압축한 내용을 바로 내려보냄
+    private static OutputStream open(HttpServletResponse response, String acceptEncoding) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        if (acceptEncoding == null || !acceptEncoding.toLowerCase().contains("gzip")) return response.getOutputStream();
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        return new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER, true);
+    }
+}
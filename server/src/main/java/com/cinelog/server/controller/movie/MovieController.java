@@ -0,0 +1,112 @@
+package com.cinelog.server.controller.movie;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cinelog.server.domain.Movie;
+import com.cinelog.server.dto.movie.MovieDetail;
+import com.cinelog.server.dto.movie.MovieProjection;
+import com.cinelog.server.dto.movie.MovieStamp;
+import com.cinelog.server.dto.movie.MovieView;
+import com.cinelog.server.dto.review.ReviewSummary;
+import com.cinelog.server.service.MovieService;
+import com.cinelog.server.service.ReviewService;
+
+//영화 목록/검색 (fields 로 응답 범위 선택), 영화 상세/리뷰 목록 조회 (조건부 GET)
+//변경 표시(movies.revision, reviews_revision)를 기본키로 한 번 읽어 If-None-Match 와 같으면 본문을 읽지 않고 바로 304
+//영화 상세는 캐시/스냅샷에서 올 수 있고 이들은 커밋 이후에 갱신됨 -> ETag 는 본문과 함께 읽은 revision 으로 만듦
+//(커밋 직후 옛 본문이 새 표시로 고정되지 않음, 옛 본문이면 옛 ETag 라 다음 요청에서 다시 200)
+//리뷰 목록은 캐시 없이 db에서 읽으므로 표시를 먼저 읽으면 본문이 ETag 보다 오래될 수 없음
+@RestController
+@RequestMapping("/movies")
+public class MovieController {
+    static final int MAX_IDS = 100;
+
+    private final MovieService movieService;
+    private final ReviewService reviewService;
+
+    public MovieController(MovieService movieService, ReviewService reviewService) {
+        this.movieService = movieService;
+        this.reviewService = reviewService;
+    }
+
+    //목록 화면용 여러 영화 조회 -> GET /movies?ids=1,2,3&fields=summary|withCast|full (기본 summary)
+    //summary 는 제목/장르/개봉일/평점만 읽고 내려보냄 (감독/출연진 조인, 설명 없음)
+    @GetMapping
+    public ResponseEntity<List<MovieView>> movies(@RequestParam List<Long> ids,
+            @RequestParam(defaultValue = "summary") String fields) {
+        Optional<MovieProjection> projection = MovieProjection.parse(fields);
+        if (projection.isEmpty() || ids.size() > MAX_IDS) return ResponseEntity.badRequest().build();
+        return ResponseEntity.ok(movieService.findAllByIds(ids, projection.get()));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<MovieView>> search(@RequestParam String keyword,
+            @RequestParam(defaultValue = "summary") String fields) {
+        Optional<MovieProjection> projection = MovieProjection.parse(fields);
+        if (projection.isEmpty() || keyword.isBlank()) return ResponseEntity.badRequest().build();
+        return ResponseEntity.ok(movieService.findAllMoviesByKeyword(keyword, projection.get()));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<MovieDetail> movie(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<MovieStamp> stamp = movieService.findStamp(id);
+        if (stamp.isEmpty()) return ResponseEntity.notFound().build();
+        String current = etag("movie", id, stamp.get().getRevision());
+        if (matches(ifNoneMatch, current)) return notModified(current);//영화 조회/직렬화 없음
+        Movie movie = movieService.getMovieById(id);
+        return ResponseEntity.ok()
+                .eTag(etag("movie", id, movie.getRevision()))
+                .cacheControl(CacheControl.noCache())//매번 재검증
+                .body(MovieDetail.from(movie));
+    }
+
+    //리뷰 요약에 영화 이름/장르도 들어가므로 두 표시를 함께 사용
+    @GetMapping("/{id}/reviews")
+    public ResponseEntity<List<ReviewSummary>> reviews(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<MovieStamp> stamp = movieService.findStamp(id);
+        if (stamp.isEmpty()) return ResponseEntity.notFound().build();
+        String etag = etag("reviews", id, stamp.get().getRevision() + "." + stamp.get().getReviewsRevision());
+        if (matches(ifNoneMatch, etag)) return notModified(etag);
+        List<ReviewSummary> reviews = reviewService.findReviewByMovieId(id).stream().map(ReviewSummary::from).toList();
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(reviews);
+    }
+
+    private static String etag(String kind, Long id, Object revision) {
+        return "\"" + kind + "-" + id + "-" + revision + "\"";
+    }
+
+    //If-None-Match: 콤마로 여러 개, 약한 비교(W/ 무시), * 는 항상 일치
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.cinelog.server.controller.movie;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.cinelog.server.service.MovieService;
+import com.cinelog.server.service.live.RatingBroadcastHub;
+
+//영화 평점 실시간 구독 (Server-Sent Events)
+//연결하면 현재 평점을 한 번 보내고, 이후 평점이 바뀔 때마다 event: rating / data: {"movieId":..,"rating":..}
+//요청 스레드는 바로 반환되고 연결만 유지 -> 구독자가 많아도 요청 스레드를 잡지 않음
+@RestController
+@RequestMapping("/movies")
+public class RatingStreamController {
+    private final MovieService movieService;
+    private final RatingBroadcastHub ratingBroadcastHub;
+
+    public RatingStreamController(MovieService movieService, RatingBroadcastHub ratingBroadcastHub) {
+        this.movieService = movieService;
+        this.ratingBroadcastHub = ratingBroadcastHub;
+    }
+
+    @GetMapping(value = "/{id}/ratings/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@PathVariable Long id) {
+        if (movieService.findStamp(id).isEmpty()) return ResponseEntity.notFound().build();
+        SseEmitter emitter = ratingBroadcastHub.subscribe(id, () -> movieService.getMovieById(id).getRating());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no")//nginx 가 이벤트를 모아서 보내지 않도록
+                .body(emitter);
+    }
+}
@@ -23,6 +23,8 @@ public class Movie{
     private List<Actor> actors = new ArrayList<>();
 
     private Double rating=0.0;
+    private Long version=0L;//조회 시점의 버전 -> 수정 시 같을 때만 반영
+    private Long revision=0L;//조회 시점의 변경 표시 -> 상세 응답 ETag (본문과 같은 시점의 값)
    
     public Movie(String name, Director director, Genre genre,LocalDate releaseDate,String description, List<Actor> actors){
         validateConstructor(name, director);
@@ -74,6 +76,12 @@ public class Movie{
     public void setRating(Double rating){//db용
         this.rating = rating;
     }
+    public void setVersion(Long version){//db용
+        this.version = version;
+    }
+    public void setRevision(Long revision){//db용
+        this.revision = revision;
+    }
 
     private void validateConstructor(String name, Director director) {
         if (name == null || name.isBlank()) {
@@ -1,5 +1,6 @@
 package com.cinelog.server.domain;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 import lombok.AccessLevel;
@@ -18,6 +19,7 @@ public class Review {
     private Integer rating;
     private Movie movie;
     private User user;
+    private LocalDateTime createdAt;
 
     private Review(String content, Integer rating, User user, Movie movie) {
         this.content = content;
@@ -28,6 +30,7 @@ public class Review {
     public static Review create(String content, Integer rating, User user, Movie movie) {//정적 팩토리 메서드
         if(rating==null||rating>5||rating<1||user==null||movie==null)throw new IllegalArgumentException("리뷰 생성을 위한 인자가 적절하지 않습니다.");
         Review review = new Review(content, rating, user, movie);
+        review.createdAt = LocalDateTime.now();//db 기본값(CURRENT_TIMESTAMP)과 맞춰둠
         return review;
     }
     public static Review reconstitute(Long id, String content, Integer rating, User user, Movie movie) {//db에서 객체 가져오기위한 메서드임
@@ -35,6 +38,11 @@ public class Review {
         review.setId(id);
         return review; 
     }   
+    public static Review reconstitute(Long id, String content, Integer rating, User user, Movie movie, LocalDateTime createdAt) {
+        Review review = reconstitute(id, content, rating, user, movie);
+        review.createdAt = createdAt;
+        return review;
+    }
 
     public void update(String content,Integer rating){
         if(rating==null||rating>5||rating<1)throw new IllegalArgumentException("별점이 올바르지 않습니다.");
@@ -45,6 +53,9 @@ public class Review {
     public boolean isOwner(User user){//권한체크용
         return Objects.equals(this.user,user);
     }
+    public boolean isOwnedBy(Long userId){//세션의 유저 id만으로 권한체크 -> 유저 조회 불필요
+        return user != null && Objects.equals(user.getId(), userId);
+    }
     
     public Long getMovieId(){
         return movie.getId();
@@ -0,0 +1,10 @@
+package com.cinelog.server.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ActorChangedEvent {//이름 변경, 삭제
+    private final Long actorId;
+}
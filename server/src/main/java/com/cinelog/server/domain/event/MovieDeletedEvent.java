@@ -0,0 +1,10 @@
+package com.cinelog.server.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MovieDeletedEvent {//영화와 함께 리뷰도 지워짐
+    private final Long movieId;
+}
@@ -0,0 +1,15 @@
+package com.cinelog.server.domain.event;
+
+import com.cinelog.server.domain.Genre;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MovieInfoChangedEvent {//리뷰 피드에 영화 이름/장르가 들어있음
+    private final Long movieId;
+    private final String name;
+    private final Genre genre;
+    private final Genre previousGenre;
+}
@@ -0,0 +1,11 @@
+package com.cinelog.server.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class UserNameChangedEvent {//리뷰 목록, 리뷰 피드에 작성자 이름이 들어있음
+    private final Long userId;
+    private final String userName;
+}
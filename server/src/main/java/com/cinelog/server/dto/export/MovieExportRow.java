@@ -0,0 +1,27 @@
+package com.cinelog.server.dto.export;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.cinelog.server.domain.Genre;
+
+import lombok.Value;
+
+@Value //내보내기 한 줄 = 영화 하나 (출연진 포함)
+public class MovieExportRow {
+    Long id;
+    String name;
+    Genre genre;
+    LocalDate releaseDate;
+    String description;
+    Double rating;
+    Long directorId;
+    String directorName;
+    List<CastMember> cast;
+
+    @Value
+    public static class CastMember {
+        Long id;
+        String name;
+    }
+}
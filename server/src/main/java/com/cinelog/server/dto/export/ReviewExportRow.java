@@ -0,0 +1,16 @@
+package com.cinelog.server.dto.export;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+@Value //내보내기 한 줄 = 리뷰 하나
+public class ReviewExportRow {
+    Long id;
+    Long movieId;
+    Long userId;
+    String userName;
+    Integer rating;
+    String content;
+    LocalDateTime createdAt;
+}
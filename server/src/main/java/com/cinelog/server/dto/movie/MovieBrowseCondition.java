@@ -0,0 +1,13 @@
+package com.cinelog.server.dto.movie;
+
+import com.cinelog.server.domain.Genre;
+
+import lombok.Value;
+
+@Value
+public class MovieBrowseCondition {//null인 조건은 적용하지 않음
+    private Genre genre;
+    private Integer fromYear;
+    private Integer toYear;
+    private Double minRating;
+}
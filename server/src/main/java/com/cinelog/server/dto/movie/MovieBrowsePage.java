@@ -0,0 +1,15 @@
+package com.cinelog.server.dto.movie;
+
+import java.util.List;
+
+import com.cinelog.server.domain.Movie;
+
+import lombok.Value;
+
+@Value
+public class MovieBrowsePage {
+    private List<Movie> movies;//최신 등록순
+    private int totalCount;
+    private int page;
+    private int size;
+}
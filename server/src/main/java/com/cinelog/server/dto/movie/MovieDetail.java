@@ -0,0 +1,40 @@
+package com.cinelog.server.dto.movie;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+
+import lombok.Value;
+
+@Value //영화 상세 응답 -> 도메인 객체를 그대로 직렬화하지 않음
+public class MovieDetail {
+    Long id;
+    String name;
+    Genre genre;
+    LocalDate releaseDate;
+    String description;
+    Double rating;
+    Person director;
+    List<Person> actors;
+
+    @Value
+    public static class Person {
+        Long id;
+        String name;
+    }
+
+    public static MovieDetail from(Movie movie) {
+        return new MovieDetail(
+            movie.getId(),
+            movie.getName(),
+            movie.getGenre(),
+            movie.getReleaseDate(),
+            movie.getDescription(),
+            movie.getRating(),
+            new Person(movie.getDirector().getId(), movie.getDirector().getName()),
+            movie.getActors().stream().map(actor -> new Person(actor.getId(), actor.getName())).toList()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.cinelog.server.dto.movie;
+
+import java.util.List;
+
+import com.cinelog.server.domain.Movie;
+
+import lombok.Value;
+
+@Value
+public class MovieMultiGetResult {
+    private List<Movie> movies;//요청한 id 순서대로 (중복 id는 한 번만)
+    private List<Long> missingIds;//존재하지 않는 id -> 예외 대신 알려줌
+}
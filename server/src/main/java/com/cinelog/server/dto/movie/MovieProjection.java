@@ -0,0 +1,45 @@
+package com.cinelog.server.dto.movie;
+
+import java.util.Optional;
+
+//목록/검색 응답에 담을 필드 범위 -> 필요한 만큼만 조회 (fields=summary|withCast|full)
+//SUMMARY: id, 제목, 장르, 개봉일, 평점 (감독/출연진 조인 없음)
+//WITH_CAST: + 감독, 출연진 (설명 제외)
+//FULL: + 설명
+public enum MovieProjection {
+    SUMMARY("summary", false, false),
+    WITH_CAST("withCast", true, false),
+    FULL("full", true, true);
+
+    private final String fieldName;
+    private final boolean cast;
+    private final boolean description;
+
+    MovieProjection(String fieldName, boolean cast, boolean description) {
+        this.fieldName = fieldName;
+        this.cast = cast;
+        this.description = description;
+    }
+
+    public boolean includesCast() {//감독도 함께 (상세 화면용)
+        return cast;
+    }
+
+    public boolean includesDescription() {
+        return description;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    //대소문자, 하이픈/밑줄 구분 없이 (with-cast, WITH_CAST 도 허용), 모르는 값이면 empty
+    public static Optional<MovieProjection> parse(String value) {
+        if (value == null) return Optional.empty();
+        String normalized = value.replace("-", "").replace("_", "").trim();
+        for (MovieProjection projection : values()) {
+            if (projection.fieldName.equalsIgnoreCase(normalized)) return Optional.of(projection);
+        }
+        return Optional.empty();
+    }
+}
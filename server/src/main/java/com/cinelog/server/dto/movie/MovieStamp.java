@@ -0,0 +1,9 @@
+package com.cinelog.server.dto.movie;
+
+import lombok.Value;
+
+@Value //영화 상세/리뷰 목록의 변경 표시 -> 값이 같으면 응답도 같음 (ETag)
+public class MovieStamp {
+    Long revision;
+    Long reviewsRevision;
+}
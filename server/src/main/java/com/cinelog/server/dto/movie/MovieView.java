@@ -0,0 +1,37 @@
+package com.cinelog.server.dto.movie;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Value;
+
+@Value //목록/검색 응답 -> MovieProjection 에 없는 필드는 null 이고 응답에서 빠짐
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MovieView {
+    Long id;
+    String name;
+    Genre genre;
+    LocalDate releaseDate;
+    Double rating;
+    MovieDetail.Person director;
+    List<MovieDetail.Person> actors;
+    String description;
+
+    //이미 읽어 둔 영화(스냅샷 등)에서 같은 범위로 잘라냄
+    public static MovieView from(Movie movie, MovieProjection projection) {
+        return new MovieView(
+            movie.getId(),
+            movie.getName(),
+            movie.getGenre(),
+            movie.getReleaseDate(),
+            movie.getRating(),
+            projection.includesCast() ? new MovieDetail.Person(movie.getDirector().getId(), movie.getDirector().getName()) : null,
+            projection.includesCast() ? movie.getActors().stream().map(actor -> new MovieDetail.Person(actor.getId(), actor.getName())).toList() : null,
+            projection.includesDescription() ? movie.getDescription() : null
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.cinelog.server.dto.movie;
+
+import lombok.Value;
+
+@Value //실시간 평점 구독자에게 보내는 값 (SSE data)
+public class RatingUpdate {
+    Long movieId;
+    Double rating;
+}
@@ -0,0 +1,47 @@
+package com.cinelog.server.dto.review;
+
+import java.time.LocalDateTime;
+
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Review;
+
+import lombok.Value;
+
+@Value //피드에 올라가는 불변 요약본 -> 도메인 객체를 그대로 들고있지 않음
+public class ReviewSummary {
+    private Long reviewId;
+    private Long movieId;
+    private String movieName;
+    private Genre genre;
+    private Long userId;
+    private String userName;
+    private Integer rating;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public static ReviewSummary from(Review review) {
+        return new ReviewSummary(
+            review.getId(),
+            review.getMovie().getId(),
+            review.getMovie().getName(),
+            review.getMovie().getGenre(),
+            review.getUser().getId(),
+            review.getUser().getName(),
+            review.getRating(),
+            review.getContent(),
+            review.getCreatedAt()
+        );
+    }
+
+    public ReviewSummary withContent(String content, Integer rating) {
+        return new ReviewSummary(reviewId, movieId, movieName, genre, userId, userName, rating, content, createdAt);
+    }
+
+    public ReviewSummary withMovie(String movieName, Genre genre) {
+        return new ReviewSummary(reviewId, movieId, movieName, genre, userId, userName, rating, content, createdAt);
+    }
+
+    public ReviewSummary withUserName(String userName) {
+        return new ReviewSummary(reviewId, movieId, movieName, genre, userId, userName, rating, content, createdAt);
+    }
+}
@@ -0,0 +1,11 @@
+package com.cinelog.server.exception.export;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE) // 동시 내보내기 수를 넘으면 기다리지 않고 503
+public class ExportLimitExceededException extends RuntimeException {
+    public ExportLimitExceededException() {
+        super("진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,11 @@
+package com.cinelog.server.exception.movie;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT) // 다른 관리자가 먼저 수정함 -> 다시 조회 후 재시도
+public class MovieVersionConflictException extends RuntimeException {
+    public MovieVersionConflictException(Long id) {
+        super("다른 사용자가 먼저 영화 정보를 수정했습니다. 다시 시도해주세요. (ID: " + id + ")");
+    }
+}
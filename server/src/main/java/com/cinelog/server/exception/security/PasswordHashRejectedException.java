@@ -0,0 +1,11 @@
+package com.cinelog.server.exception.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE) // 해싱 큐가 가득 차면 바로 503으로 거절
+public class PasswordHashRejectedException extends RuntimeException {
+    public PasswordHashRejectedException() {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
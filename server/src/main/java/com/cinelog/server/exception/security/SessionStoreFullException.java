@@ -0,0 +1,11 @@
+package com.cinelog.server.exception.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE) // 세션 저장 공간이 부족하면 로그인을 잠시 거절
+public class SessionStoreFullException extends RuntimeException {
+    public SessionStoreFullException() {
+        super("접속자가 많아 로그인할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
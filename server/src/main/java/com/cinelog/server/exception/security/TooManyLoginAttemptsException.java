@@ -0,0 +1,11 @@
+package com.cinelog.server.exception.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS) // 429 반환
+public class TooManyLoginAttemptsException extends RuntimeException {
+    public TooManyLoginAttemptsException() {
+        super("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,8 @@
+package com.cinelog.server.exception.statement;
+
+//한 요청/트랜잭션의 쿼리 수 예산 초과 (cinelog.statements.mode=fail 일 때, 주로 테스트에서 사용)
+public class StatementBudgetExceededException extends RuntimeException {
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,42 @@
+package com.cinelog.server.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.cinelog.server.repository.metrics.LatencyHistogram;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+//hikari 풀이 시작될 때 풀 이름을 라벨로 커넥션 수와 대기 시간 지표를 등록
+//대기 시간: getConnection() 에서 커넥션을 받기까지 (풀이 여유 있으면 수 마이크로초, 고갈되면 connection-timeout 까지)
+public class HikariPoolMetrics implements MetricsTrackerFactory {
+    private final MetricsRegistry registry;
+
+    public HikariPoolMetrics(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats stats) {
+        Map<String, String> labels = Map.of("pool", poolName);
+        registry.gauge("cinelog_pool_active_connections", "사용 중인 커넥션", labels, stats::getActiveConnections);
+        registry.gauge("cinelog_pool_idle_connections", "쉬고 있는 커넥션", labels, stats::getIdleConnections);
+        registry.gauge("cinelog_pool_max_connections", "최대 커넥션", labels, stats::getMaxConnections);
+        registry.gauge("cinelog_pool_pending_threads", "커넥션을 기다리는 스레드", labels, stats::getPendingThreads);
+        LatencyHistogram acquire = registry.timer("cinelog_pool_acquire", "커넥션을 받기까지 기다린 시간", labels);
+        LongAdder timeouts = new LongAdder();
+        registry.counter("cinelog_pool_timeouts_total", "connection-timeout 안에 커넥션을 받지 못한 횟수", labels, timeouts::sum);
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquire.record(elapsedAcquiredNanos / 1000, 0, false);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+}
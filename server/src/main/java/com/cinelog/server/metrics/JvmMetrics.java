@@ -0,0 +1,63 @@
+package com.cinelog.server.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import com.cinelog.server.repository.metrics.LatencyHistogram;
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+//힙/스레드 수와 gc 횟수/시간, gc 알림으로 받은 수집 한 번의 소요 시간
+//동시 수집기(G1 Concurrent GC, ZGC Cycles 등)는 멈춤이 아니라 주기 전체 시간이 들어오므로 gc 라벨로 구분해서 볼 것
+public class JvmMetrics implements DisposableBean {
+    private final Map<NotificationEmitter, NotificationListener> listeners = new HashMap<>();
+
+    public JvmMetrics(MetricsRegistry registry) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        registry.gauge("cinelog_jvm_heap_used_bytes", "사용 중인 힙", Map.of(), () -> memory.getHeapMemoryUsage().getUsed());
+        registry.gauge("cinelog_jvm_heap_committed_bytes", "확보된 힙", Map.of(), () -> memory.getHeapMemoryUsage().getCommitted());
+        registry.gauge("cinelog_jvm_heap_max_bytes", "최대 힙", Map.of(), () -> memory.getHeapMemoryUsage().getMax());
+        registry.gauge("cinelog_jvm_non_heap_used_bytes", "사용 중인 힙 밖 메모리(메타스페이스, 코드 캐시 등)", Map.of(), () -> memory.getNonHeapMemoryUsage().getUsed());
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        registry.gauge("cinelog_jvm_threads", "살아 있는 플랫폼 스레드 수", Map.of(), threads::getThreadCount);
+
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            Map<String, String> labels = Map.of("gc", gc.getName());
+            registry.counter("cinelog_jvm_gc_collections_total", "gc 횟수", labels, gc::getCollectionCount);
+            registry.counter("cinelog_jvm_gc_time_seconds_total", "gc 누적 시간", labels, () -> gc.getCollectionTime() / 1000.0);
+            if (!(gc instanceof NotificationEmitter emitter)) continue;
+            LatencyHistogram pauses = registry.timer("cinelog_jvm_gc_pause", "gc 한 번의 소요 시간", labels);
+            NotificationListener listener = (notification, handback) -> record(notification, pauses);
+            emitter.addNotificationListener(listener, null, null);
+            listeners.put(emitter, listener);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        listeners.forEach((emitter, listener) -> {
+            try {
+                emitter.removeNotificationListener(listener);
+            } catch (ListenerNotFoundException ignored) {
+            }
+        });
+        listeners.clear();
+    }
+
+    private static void record(Notification notification, LatencyHistogram pauses) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) return;
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        pauses.record(info.getGcInfo().getDuration() * 1000, 0, false);//밀리초 단위로 옴
+    }
+}
@@ -0,0 +1,125 @@
+package com.cinelog.server.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.cinelog.server.repository.metrics.LatencyHistogram;
+
+//MetricsRegistry 내용을 Prometheus 텍스트(0.0.4)와 json 으로 변환
+//timer 는 summary 로 (단위 초, 기동 이후 누적 분위수)
+final class MetricsFormat {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private MetricsFormat() {
+    }
+
+    static String prometheus(MetricsRegistry registry) {
+        StringBuilder out = new StringBuilder(4096);
+        String previous = null;
+        for (MetricsRegistry.Gauge gauge : registry.gauges()) {
+            if (!gauge.getName().equals(previous)) {
+                header(out, gauge.getName(), gauge.getHelp(), gauge.getType() == MetricsRegistry.Type.COUNTER ? "counter" : "gauge");
+                previous = gauge.getName();
+            }
+            sample(out, gauge.getName(), gauge.getLabels(), null, gauge.getSamples().last());
+        }
+        previous = null;
+        for (MetricsRegistry.Timer timer : registry.timers()) {
+            String name = timer.getName() + "_seconds";
+            if (!name.equals(previous)) {
+                header(out, name, timer.getHelp(), "summary");
+                previous = name;
+            }
+            LatencyHistogram.Snapshot snapshot = timer.getHistogram().snapshot();
+            for (double quantile : QUANTILES) {
+                sample(out, name, timer.getLabels(), Double.toString(quantile), seconds(snapshot.percentileMicros(quantile)));
+            }
+            sample(out, name + "_sum", timer.getLabels(), null, seconds(snapshot.totalMicros()));
+            sample(out, name + "_count", timer.getLabels(), null, snapshot.count());
+        }
+        return out.toString();
+    }
+
+    //history: 지표마다 최근 몇 개의 (시각, 값)을 포함할지 (0이면 현재값만)
+    static Map<String, Object> json(MetricsRegistry registry, int history) {
+        long[] times = new long[Math.max(history, 0)];
+        double[] values = new double[times.length];
+        List<Map<String, Object>> gauges = new ArrayList<>();
+        for (MetricsRegistry.Gauge gauge : registry.gauges()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", gauge.getName());
+            entry.put("type", gauge.getType().name().toLowerCase());
+            entry.put("labels", gauge.getLabels());
+            entry.put("value", finite(gauge.getSamples().last()));
+            if (history > 0) {
+                int count = gauge.getSamples().copyLatest(history, times, values);
+                List<Object[]> samples = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) samples.add(new Object[] {times[i], finite(values[i])});
+                entry.put("history", samples);
+            }
+            gauges.add(entry);
+        }
+        List<Map<String, Object>> timers = new ArrayList<>();
+        for (MetricsRegistry.Timer timer : registry.timers()) {
+            LatencyHistogram.Snapshot snapshot = timer.getHistogram().snapshot();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", timer.getName());
+            entry.put("labels", timer.getLabels());
+            entry.put("count", snapshot.count());
+            entry.put("errors", snapshot.errors());
+            entry.put("meanMicros", snapshot.count() == 0 ? 0 : snapshot.totalMicros() / snapshot.count());
+            entry.put("p50Micros", snapshot.percentileMicros(0.5));
+            entry.put("p90Micros", snapshot.percentileMicros(0.9));
+            entry.put("p99Micros", snapshot.percentileMicros(0.99));
+            entry.put("maxMicros", snapshot.maxMicros());
+            timers.add(entry);
+        }
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("timestamp", System.currentTimeMillis());
+        root.put("gauges", gauges);
+        root.put("timers", timers);
+        return root;
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, Map<String, String> labels, String quantile, double value) {
+        out.append(name);
+        if (!labels.isEmpty() || quantile != null) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, String> label : labels.entrySet()) {
+                if (!first) out.append(',');
+                out.append(label.getKey()).append("=\"").append(escape(label.getValue())).append('"');
+                first = false;
+            }
+            if (quantile != null) out.append(first ? "" : ",").append("quantile=\"").append(quantile).append('"');
+            out.append('}');
+        }
+        out.append(' ').append(number(value)).append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String number(double value) {
+        if (Double.isNaN(value)) return "NaN";
+        if (Double.isInfinite(value)) return value > 0 ? "+Inf" : "-Inf";
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) return Long.toString((long) value);
+        return Double.toString(value);
+    }
+
+    private static double seconds(long micros) {
+        return micros / 1_000_000.0;
+    }
+
+    private static Double finite(double value) {//json 에는 NaN 을 쓸 수 없음
+        return Double.isNaN(value) || Double.isInfinite(value) ? null : value;
+    }
+}
@@ -0,0 +1,103 @@
+package com.cinelog.server.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+//서블릿 컨테이너와 별개인 jdk 내장 http 서버 -> 요청 스레드가 모두 막혀 있어도 지표는 볼 수 있음
+//GET /metrics: Prometheus 텍스트, GET /metrics/json?history=N: json (지표마다 최근 N개 기록 포함)
+//기본은 127.0.0.1 에만 열어 같은 장비에서만 접근
+public class MetricsHttpServer implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(MetricsHttpServer.class);
+
+    private final MetricsRegistry registry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService executor;
+    private final HttpServer server;
+
+    public MetricsHttpServer(MetricsRegistry registry, String host, int port) {
+        this.registry = registry;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        HttpServer created = null;
+        try {
+            created = HttpServer.create(new InetSocketAddress(host, port), 0);
+            created.createContext("/metrics", this::handle);
+            created.setExecutor(executor);
+            created.start();
+            log.info("지표 서버 시작: http://{}:{}/metrics", host, created.getAddress().getPort());
+        } catch (IOException e) {
+            //포트를 못 잡아도 서비스는 계속 (같은 장비에 인스턴스가 여럿 뜬 경우 등)
+            log.warn("지표 서버를 시작하지 못했습니다. {}:{} ({})", host, port, e.getMessage());
+            executor.shutdown();
+        }
+        this.server = created;
+    }
+
+    //실제로 열린 포트 (port=0 으로 띄운 경우), 시작하지 못했으면 -1
+    public int getPort() {
+        return server == null ? -1 : server.getAddress().getPort();
+    }
+
+    @Override
+    public void destroy() {
+        if (server != null) server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            if ("/metrics".equals(path)) {
+                respond(exchange, "text/plain; version=0.0.4; charset=utf-8", MetricsFormat.prometheus(registry).getBytes(StandardCharsets.UTF_8));
+            } else if ("/metrics/json".equals(path)) {
+                int history = Math.min(queryInt(exchange.getRequestURI().getRawQuery(), "history", 0), registry.history());
+                respond(exchange, "application/json", objectMapper.writeValueAsBytes(MetricsFormat.json(registry, history)));
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        } catch (RuntimeException e) {
+            log.warn("지표 응답 실패", e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static int queryInt(String query, String name, int defaultValue) {
+        if (query == null) return defaultValue;
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0 || !pair.substring(0, eq).equals(name)) continue;
+            try {
+                return Math.max(0, Integer.parseInt(pair.substring(eq + 1)));
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,156 @@
+package com.cinelog.server.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+import com.cinelog.server.repository.metrics.LatencyHistogram;
+
+//자체 지표 저장소 (외부 지표 수집기 없이 MetricsHttpServer 로 노출)
+//gauge/counter: 등록한 함수를 주기적으로 읽어 지표마다 고정 크기 SampleRing 에 보관
+//timer: 기록 시점마다 LatencyHistogram 에 누적 (요청 지연, 커넥션 대기, gc 멈춤)
+public class MetricsRegistry {
+    public enum Type { GAUGE, COUNTER }
+
+    private final int history;
+    private volatile Gauge[] gauges = new Gauge[0];//수집 루프가 반복자 없이 돌 수 있도록 배열로 교체
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public MetricsRegistry(int history) {
+        if (history <= 0) throw new IllegalArgumentException("지표 보관 개수는 1 이상이어야 합니다.");
+        this.history = history;
+    }
+
+    public void gauge(String name, String help, Map<String, String> labels, DoubleSupplier value) {
+        register(new Gauge(name, help, Type.GAUGE, labels, value, new SampleRing(history)));
+    }
+
+    //누적값 (Prometheus 쪽에서 rate 로 변화량 계산)
+    public void counter(String name, String help, Map<String, String> labels, DoubleSupplier value) {
+        register(new Gauge(name, help, Type.COUNTER, labels, value, new SampleRing(history)));
+    }
+
+    //같은 이름/라벨이면 기존 히스토그램을 돌려줌
+    public LatencyHistogram timer(String name, String help, Map<String, String> labels) {
+        Map<String, String> copied = copy(labels);
+        return timers.computeIfAbsent(key(name, copied), key -> new Timer(name, help, copied, new LatencyHistogram())).histogram;
+    }
+
+    //수집 스레드에서 호출, 지표 함수가 실패하면 NaN 으로 기록
+    public synchronized void sample() {
+        long now = System.currentTimeMillis();
+        for (Gauge gauge : gauges) {
+            double value;
+            try {
+                value = gauge.value.getAsDouble();
+            } catch (RuntimeException e) {
+                value = Double.NaN;
+            }
+            gauge.samples.record(now, value);
+        }
+    }
+
+    public List<Gauge> gauges() {
+        return List.of(gauges);
+    }
+
+    public List<Timer> timers() {
+        List<Timer> results = new ArrayList<>(timers.values());
+        results.sort((a, b) -> a.name.equals(b.name) ? a.labels.toString().compareTo(b.labels.toString()) : a.name.compareTo(b.name));
+        return results;
+    }
+
+    public int history() {
+        return history;
+    }
+
+    //같은 이름/라벨로 다시 등록하면 교체 (웹 서버 재기동 등)
+    private synchronized void register(Gauge gauge) {
+        List<Gauge> next = new ArrayList<>(Arrays.asList(gauges));
+        next.removeIf(existing -> existing.name.equals(gauge.name) && existing.labels.equals(gauge.labels));
+        next.add(gauge);
+        next.sort((a, b) -> a.name.compareTo(b.name));//같은 이름끼리 모아야 Prometheus 형식으로 쓸 수 있음
+        gauges = next.toArray(new Gauge[0]);
+    }
+
+    private static String key(String name, Map<String, String> labels) {
+        return name + labels;
+    }
+
+    private static Map<String, String> copy(Map<String, String> labels) {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(labels));
+    }
+
+    public static final class Gauge {
+        private final String name;
+        private final String help;
+        private final Type type;
+        private final Map<String, String> labels;
+        private final DoubleSupplier value;
+        private final SampleRing samples;
+
+        private Gauge(String name, String help, Type type, Map<String, String> labels, DoubleSupplier value, SampleRing samples) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.labels = copy(labels);
+            this.value = value;
+            this.samples = samples;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getHelp() {
+            return help;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public Map<String, String> getLabels() {
+            return labels;
+        }
+
+        public SampleRing getSamples() {
+            return samples;
+        }
+    }
+
+    public static final class Timer {
+        private final String name;
+        private final String help;
+        private final Map<String, String> labels;
+        private final LatencyHistogram histogram;
+
+        private Timer(String name, String help, Map<String, String> labels, LatencyHistogram histogram) {
+            this.name = name;
+            this.help = help;
+            this.labels = labels;
+            this.histogram = histogram;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getHelp() {
+            return help;
+        }
+
+        public Map<String, String> getLabels() {
+            return labels;
+        }
+
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+    }
+}
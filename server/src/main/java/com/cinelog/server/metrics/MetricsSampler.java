@@ -0,0 +1,28 @@
+package com.cinelog.server.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+
+//interval 마다 MetricsRegistry 의 gauge/counter 를 읽어 링 버퍼에 기록
+public class MetricsSampler implements DisposableBean {
+    private final ScheduledExecutorService scheduler;
+
+    public MetricsSampler(MetricsRegistry registry, Duration interval) {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleAtFixedRate(registry::sample, 0, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,58 @@
+package com.cinelog.server.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.cinelog.server.repository.metrics.LatencyHistogram;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+//엔드포인트(메서드 + 매핑 패턴)별 요청 지연시간과 동시 요청 수
+//실제 경로 대신 패턴(/movies/{id})으로 묶고 엔드포인트 수도 maxEndpoints 로 제한 -> 지표 수가 요청에 따라 늘어나지 않음
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    static final String UNMATCHED = "UNMATCHED";//컨트롤러에 매핑되지 않은 요청 (404, 정적 리소스, h2 콘솔 등)
+    static final String OTHER = "OTHER";
+
+    private final MetricsRegistry registry;
+    private final int maxEndpoints;
+    private final Map<String, LatencyHistogram> endpoints = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public RequestMetricsFilter(MetricsRegistry registry, int maxEndpoints) {
+        this.registry = registry;
+        this.maxEndpoints = maxEndpoints;
+        registry.gauge("cinelog_http_requests_in_flight", "처리 중인 요청", Map.of(), inFlight::get);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            inFlight.decrementAndGet();
+            endpoint(request).record((System.nanoTime() - start) / 1000, 0, failed);
+        }
+    }
+
+    private LatencyHistogram endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);//컨트롤러 매핑 후에 채워짐
+        String key = request.getMethod() + " " + (pattern == null ? UNMATCHED : pattern);
+        LatencyHistogram histogram = endpoints.get(key);
+        if (histogram != null) return histogram;
+        if (endpoints.size() >= maxEndpoints) key = OTHER;
+        return endpoints.computeIfAbsent(key, k -> registry.timer("cinelog_http_request", "엔드포인트별 요청 처리 시간", Map.of("endpoint", k)));
+    }
+}
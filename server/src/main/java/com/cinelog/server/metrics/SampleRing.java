@@ -0,0 +1,56 @@
+package com.cinelog.server.metrics;
+
+//고정 크기 (시각, 값) 링 버퍼 -> 배열을 미리 잡아 두고 덮어쓰므로 기록할 때 할당 없음
+//쓰는 쪽은 수집 스레드 하나(MetricsRegistry.sample), 읽는 쪽은 여럿 -> 읽는 도중 덮어써진 칸은 버림
+public final class SampleRing {
+    private final long[] times;
+    private final double[] values;
+    private final int capacity;
+    private final int slots;//기록 중인 칸이 읽을 수 있는 칸을 덮지 않도록 한 칸 여유
+    private volatile long sequence;//지금까지 기록한 개수(누적)
+
+    public SampleRing(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("링 버퍼 크기는 1 이상이어야 합니다.");
+        this.capacity = capacity;
+        this.slots = capacity + 1;
+        this.times = new long[slots];
+        this.values = new double[slots];
+    }
+
+    void record(long epochMillis, double value) {
+        long seq = sequence;
+        int index = (int) (seq % slots);
+        times[index] = epochMillis;
+        values[index] = value;
+        sequence = seq + 1;//volatile 쓰기로 앞의 두 칸을 함께 공개
+    }
+
+    public double last() {
+        long seq = sequence;
+        return seq == 0 ? Double.NaN : values[(int) ((seq - 1) % slots)];
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    //오래된 것부터 최대 limit개를 복사하고 복사한 개수를 반환
+    public int copyLatest(int limit, long[] timesOut, double[] valuesOut) {
+        long end = sequence;
+        long start = Math.max(0, end - Math.min(Math.min(limit, capacity), Math.min(timesOut.length, valuesOut.length)));
+        int count = (int) (end - start);
+        for (int i = 0; i < count; i++) {
+            int index = (int) ((start + i) % slots);
+            timesOut[i] = times[index];
+            valuesOut[i] = values[index];
+        }
+        //복사하는 동안 기록이 진행됐다면 덮어썼을 수 있는 앞쪽 칸을 버림
+        long overwritten = sequence - capacity;
+        int skip = (int) Math.min(count, Math.max(0, overwritten - start));
+        if (skip > 0) {
+            System.arraycopy(timesOut, skip, timesOut, 0, count - skip);
+            System.arraycopy(valuesOut, skip, valuesOut, 0, count - skip);
+        }
+        return count - skip;
+    }
+}
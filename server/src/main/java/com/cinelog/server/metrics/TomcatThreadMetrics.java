@@ -0,0 +1,44 @@
+package com.cinelog.server.metrics;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.ApplicationListener;
+
+//내장 tomcat 이 뜬 뒤 커넥터의 요청 스레드풀 사용량을 등록
+//가상 스레드 모드(spring.threads.virtual.enabled)는 스레드풀이 없으므로 연결 수만 (동시 요청 수는 cinelog_http_requests_in_flight)
+public class TomcatThreadMetrics implements ApplicationListener<WebServerInitializedEvent> {
+    private final MetricsRegistry registry;
+
+    public TomcatThreadMetrics(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        if (!(event.getWebServer() instanceof TomcatWebServer tomcat)) return;
+        Connector connector = tomcat.getTomcat().getConnector();
+        Map<String, String> labels = Map.of("port", String.valueOf(connector.getLocalPort()));
+        ProtocolHandler handler = connector.getProtocolHandler();
+        if (handler instanceof AbstractProtocol<?> protocol) {
+            registry.gauge("cinelog_tomcat_connections", "열린 연결 수", labels, protocol::getConnectionCount);
+        }
+        Executor executor = handler.getExecutor();
+        if (executor instanceof org.apache.tomcat.util.threads.ThreadPoolExecutor pool) {
+            registry.gauge("cinelog_tomcat_threads_busy", "요청을 처리 중인 스레드", labels, pool::getActiveCount);
+            registry.gauge("cinelog_tomcat_threads_current", "만들어진 스레드", labels, pool::getPoolSize);
+            registry.gauge("cinelog_tomcat_threads_max", "최대 스레드 (server.tomcat.threads.max)", labels, pool::getMaximumPoolSize);
+            registry.gauge("cinelog_tomcat_queue_size", "스레드를 기다리는 요청", labels, () -> pool.getQueue().size());
+        } else if (executor instanceof java.util.concurrent.ThreadPoolExecutor pool) {
+            registry.gauge("cinelog_tomcat_threads_busy", "요청을 처리 중인 스레드", labels, pool::getActiveCount);
+            registry.gauge("cinelog_tomcat_threads_current", "만들어진 스레드", labels, pool::getPoolSize);
+            registry.gauge("cinelog_tomcat_threads_max", "최대 스레드", labels, pool::getMaximumPoolSize);
+            registry.gauge("cinelog_tomcat_queue_size", "스레드를 기다리는 요청", labels, () -> pool.getQueue().size());
+        }
+    }
+}
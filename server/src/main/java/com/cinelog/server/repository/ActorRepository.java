@@ -1,6 +1,7 @@
 package com.cinelog.server.repository;
 
 import com.cinelog.server.domain.Actor;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,6 +9,7 @@ public interface ActorRepository {
     public Actor save(Actor actor);
     public Optional<Actor> findById(Long id);
     public List<Actor> findAll();
+    public List<Actor> findAllByIds(Collection<Long> ids);//순서 보장 x, 없는 id는 결과에서 빠짐
     public List<Actor> findAllByNameContaining(String keyword);
     public boolean delete(Long id);
 }
\ No newline at end of file
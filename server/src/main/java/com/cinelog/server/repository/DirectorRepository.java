@@ -1,5 +1,6 @@
 package com.cinelog.server.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +10,7 @@ public interface DirectorRepository {
     public Director save(Director director);
     public Optional<Director> findById(Long id);
     public List<Director> findAll();
+    public List<Director> findAllByIds(Collection<Long> ids);//순서 보장 x, 없는 id는 결과에서 빠짐
     public List<Director> findAllByNameContaining(String keyword);
     public boolean delete(Long id);
 }
@@ -0,0 +1,12 @@
+package com.cinelog.server.repository;
+
+import java.util.function.Consumer;
+
+import com.cinelog.server.dto.export.MovieExportRow;
+import com.cinelog.server.dto.export.ReviewExportRow;
+
+//전체 목록을 id 순으로 한 건씩 넘김 (목록을 메모리에 모으지 않음), afterId 보다 큰 id 부터 -> 끊긴 곳에서 이어받기
+public interface ExportRepository {
+    public void streamMoviesAfter(long afterId, Consumer<MovieExportRow> consumer);
+    public void streamReviewsAfter(long afterId, Consumer<ReviewExportRow> consumer);
+}
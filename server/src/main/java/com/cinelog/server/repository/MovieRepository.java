@@ -1,19 +1,34 @@
 package com.cinelog.server.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import com.cinelog.server.domain.Movie;
+import com.cinelog.server.dto.movie.MovieProjection;
+import com.cinelog.server.dto.movie.MovieStamp;
+import com.cinelog.server.dto.movie.MovieView;
 
 public interface MovieRepository {
 	public Movie save(Movie movie);
 	public Optional<Movie> findById(Long id);
 	public List<Movie> findAll();
+	public List<Movie> findAllByIds(Collection<Long> ids);//순서 보장 x, 없는 id는 결과에서 빠짐
     public List<Movie> findAllByDirectorId(Long directorId);
     public List<Movie> findAllByActorId(Long actorId);
 	public List<Movie> findAllByNameContaining(String keyword);
     public List<Movie> findAllByActorNameContaining(String keyword);
     public List<Movie> findAllByDirectorNameContaining(String keyword);
+	//목록/검색용 -> projection 에 필요한 컬럼만 읽고 출연진은 요청했을 때만 (순서 보장 x)
+	public List<MovieView> findViewsByIds(Collection<Long> ids, MovieProjection projection);
+	public List<MovieView> findViewsByNameContaining(String keyword, MovieProjection projection);
 	public Integer countByDirectorId(Long id);
+	public void updateRating(Long id, Double rating);//평점만 갱신 (버전 확인 없음)
 	public boolean delete(Long id);
+	//조건부 GET 용 변경 표시 -> 기본키 한 번 조회, 캐시를 거치지 않음
+	public Optional<MovieStamp> findStamp(Long id);
+	public void touchByActorId(Long actorId);//출연 배우 이름이 바뀐 영화들의 revision 증가
+	public void touchByDirectorId(Long directorId);
+	public void touchReviews(Long movieId);//리뷰 목록 revision 증가
+	public void touchReviewsByUserId(Long userId);//이 유저가 리뷰를 쓴 영화들
 }
@@ -3,6 +3,7 @@ package com.cinelog.server.repository;
 import java.util.List;
 import java.util.Optional;
 
+import com.cinelog.server.domain.Genre;
 import com.cinelog.server.domain.Review;
 
 public interface ReviewRepository {
@@ -10,6 +11,8 @@ public interface ReviewRepository {
     public Optional<Review> findById(Long id);
     public List<Review> findByMovieId(Long id);
     public List<Review> findByUserId(Long id);
+    public List<Review> findRecent(int limit);
+    public List<Review> findRecentByGenre(Genre genre, int limit);
     public boolean existsByUserIdAndMovieId(Long userId,Long movieId);
     public boolean delete(Long id);
     public Double calculateAverageRatingByMovieId(Long movieId);
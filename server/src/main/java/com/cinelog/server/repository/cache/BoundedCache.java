@@ -0,0 +1,232 @@
+package com.cinelog.server.repository.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.concurrent.atomic.LongAdder;
+
+//크기 제한 + 만료시간이 있는 캐시 -> 락을 여러 조각으로 나눠 조회 경합을 줄임
+public class BoundedCache<K, V> {
+    private static final int STRIPES = 16;
+
+    private final List<Segment> segments;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public BoundedCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    BoundedCache(int maxSize, Duration ttl, LongSupplier clock) {
+        int perSegment = Math.max(1, maxSize / STRIPES);
+        this.segments = new ArrayList<>(STRIPES);
+        for (int i = 0; i < STRIPES; i++) segments.add(new Segment(perSegment));
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    public V get(K key) {
+        Segment segment = segmentFor(key);
+        long now = clock.getAsLong();
+        synchronized (segment) {
+            Entry<V> entry = segment.entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.expiresAt - now <= 0) {
+                segment.entries.remove(key);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        }
+    }
+
+    //통계/만료 처리 없이 들어있는 값만 확인 (무효화할 연관 키를 찾을 때 사용)
+    public V peek(K key) {
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            Entry<V> entry = segment.entries.get(key);
+            return entry == null ? null : entry.value;
+        }
+    }
+
+    //캐시에 없으면 loader로 채움, loader 결과가 null이면 캐시하지 않음
+    public V getOrLoad(K key, Function<K, V> loader) {
+        return getOrLoad(key, loader, () -> true);
+    }
+
+    //storable: 조회 직후 확인해서 false면 결과만 돌려주고 캐시에는 넣지 않음
+    public V getOrLoad(K key, Function<K, V> loader, BooleanSupplier storable) {
+        V cached = get(key);
+        if (cached != null) return cached;
+        long generation = segmentFor(key).generation();
+        V loaded = loader.apply(key);
+        if (loaded != null && storable.getAsBoolean()) putIfNotInvalidated(key, loaded, generation);
+        return loaded;
+    }
+
+    //여러 키를 한번에 조회 -> 캐시에 없는 키만 모아서 loader 한 번으로 채움
+    public Map<K, V> getAllOrLoad(Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+        return getAllOrLoad(keys, loader, () -> true);
+    }
+
+    public Map<K, V> getAllOrLoad(Collection<K> keys, Function<List<K>, Map<K, V>> loader, BooleanSupplier storable) {
+        Map<K, V> results = new HashMap<>();
+        Map<K, Long> generations = new HashMap<>();
+        List<K> missing = new ArrayList<>();
+        for (K key : keys) {
+            if (results.containsKey(key) || generations.containsKey(key)) continue;
+            V cached = get(key);
+            if (cached != null) {
+                results.put(key, cached);
+                continue;
+            }
+            generations.put(key, generationOf(key));
+            missing.add(key);
+        }
+        if (missing.isEmpty()) return results;
+        Map<K, V> loaded = loader.apply(missing);
+        boolean store = storable.getAsBoolean();
+        loaded.forEach((key, value) -> {
+            Long generation = generations.get(key);
+            if (store && generation != null) putIfNotInvalidated(key, value, generation);
+            results.put(key, value);
+        });
+        return results;
+    }
+
+    public void put(K key, V value) {
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.entries.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+        }
+    }
+
+    //조회 도중 같은 조각에 무효화가 있었다면 옛 값일 수 있으므로 넣지 않음
+    public void putIfNotInvalidated(K key, V value, long generation) {
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            if (segment.generation != generation) return;
+            segment.entries.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+        }
+    }
+
+    public long generationOf(K key) {
+        return segmentFor(key).generation();
+    }
+
+    public void invalidate(K key) {
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.generation++;
+            segment.entries.remove(key);
+        }
+    }
+
+    public int invalidateIf(BiPredicate<K, V> condition) {
+        int removed = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.generation++;
+                Iterator<Map.Entry<K, Entry<V>>> iterator = segment.entries.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<K, Entry<V>> entry = iterator.next();
+                    if (condition.test(entry.getKey(), entry.getValue().value)) {
+                        iterator.remove();
+                        removed++;
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.generation++;
+                segment.entries.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+    public long getMissCount() {
+        return misses.sum();
+    }
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+    public double getHitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    private Segment segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments.get(Math.floorMod(hash ^ (hash >>> 16), STRIPES));
+    }
+
+    private final class Segment {
+        private final Map<K, Entry<V>> entries;
+        private long generation;//무효화될 때마다 증가
+
+        private Segment(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {//접근순 LRU
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() <= maxEntries) return false;
+                    evictions.increment();
+                    return true;
+                }
+            };
+        }
+
+        private synchronized long generation() {
+            return generation;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.cinelog.server.repository.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+//쓰기 직후 한 번, 트랜잭션 종료 후 한 번 더 무효화
+//-> 커밋 전에 다른 요청이 옛 값을 읽어 캐시에 다시 넣었더라도 커밋 이후에는 지워짐
+final class CacheInvalidation {
+    private CacheInvalidation() {
+    }
+
+    static void nowAndAfterCompletion(Runnable invalidation) {
+        invalidation.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidation.run();
+            }
+        });
+    }
+}
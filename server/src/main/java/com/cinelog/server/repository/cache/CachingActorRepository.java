@@ -0,0 +1,72 @@
+package com.cinelog.server.repository.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Repository;
+
+import com.cinelog.server.domain.Actor;
+import com.cinelog.server.repository.ActorRepository;
+import com.cinelog.server.repository.jdbc.ActorJdbcRepository;
+
+//배우 조회 캐시 (read-through) -> 영화 생성, 출연진 추가 시 배우마다 조회하지 않도록
+@Primary
+@Repository
+@ManagedResource(objectName = "cinelog:type=ActorCache")
+public class CachingActorRepository extends CachingRepositorySupport<Actor> implements ActorRepository {
+    private final ActorJdbcRepository delegate;
+
+    public CachingActorRepository(ActorJdbcRepository delegate,
+                                  @Value("${cinelog.cache.actor.enabled:true}") boolean enabled,
+                                  @Value("${cinelog.cache.actor.max-size:10000}") int maxSize,
+                                  @Value("${cinelog.cache.actor.ttl:30m}") Duration ttl) {
+        super(new ReadThroughCache<>(enabled, maxSize, ttl, CachingActorRepository::copyOf));
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Actor save(Actor actor) {
+        Actor saved = delegate.save(actor);
+        byId.invalidateAfterWrite(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<Actor> findById(Long id) {
+        return byId.find(id, delegate::findById);
+    }
+
+    @Override
+    public List<Actor> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Actor> findAllByIds(Collection<Long> ids) {//캐시에 없는 id만 IN 절 한 번으로 조회
+        return byId.findAll(ids, delegate::findAllByIds, Actor::getId);
+    }
+
+    @Override
+    public List<Actor> findAllByNameContaining(String keyword) {
+        return delegate.findAllByNameContaining(keyword);
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        boolean deleted = delegate.delete(id);
+        byId.invalidateAfterWrite(id);
+        return deleted;
+    }
+
+    //changeName으로 객체를 직접 바꾸므로 캐시 원본은 밖으로 내보내지 않음
+    private static Actor copyOf(Actor actor) {
+        Actor copy = new Actor(actor.getName());
+        copy.setId(actor.getId());
+        return copy;
+    }
+}
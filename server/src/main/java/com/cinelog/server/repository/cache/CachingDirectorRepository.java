@@ -0,0 +1,72 @@
+package com.cinelog.server.repository.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Repository;
+
+import com.cinelog.server.domain.Director;
+import com.cinelog.server.repository.DirectorRepository;
+import com.cinelog.server.repository.jdbc.DirectorJdbcRepository;
+
+//감독 조회 캐시 (read-through) -> 영화 생성/감독 교체 시 매번 조회하지 않도록
+@Primary
+@Repository
+@ManagedResource(objectName = "cinelog:type=DirectorCache")
+public class CachingDirectorRepository extends CachingRepositorySupport<Director> implements DirectorRepository {
+    private final DirectorJdbcRepository delegate;
+
+    public CachingDirectorRepository(DirectorJdbcRepository delegate,
+                                     @Value("${cinelog.cache.director.enabled:true}") boolean enabled,
+                                     @Value("${cinelog.cache.director.max-size:10000}") int maxSize,
+                                     @Value("${cinelog.cache.director.ttl:30m}") Duration ttl) {
+        super(new ReadThroughCache<>(enabled, maxSize, ttl, CachingDirectorRepository::copyOf));
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Director save(Director director) {
+        Director saved = delegate.save(director);
+        byId.invalidateAfterWrite(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<Director> findById(Long id) {
+        return byId.find(id, delegate::findById);
+    }
+
+    @Override
+    public List<Director> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Director> findAllByIds(Collection<Long> ids) {//캐시에 없는 id만 IN 절 한 번으로 조회
+        return byId.findAll(ids, delegate::findAllByIds, Director::getId);
+    }
+
+    @Override
+    public List<Director> findAllByNameContaining(String keyword) {
+        return delegate.findAllByNameContaining(keyword);
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        boolean deleted = delegate.delete(id);
+        byId.invalidateAfterWrite(id);
+        return deleted;
+    }
+
+    //changeName으로 객체를 직접 바꾸므로 캐시 원본은 밖으로 내보내지 않음
+    private static Director copyOf(Director director) {
+        Director copy = new Director(director.getName());
+        copy.setId(director.getId());
+        return copy;
+    }
+}
@@ -0,0 +1,190 @@
+package com.cinelog.server.repository.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Repository;
+
+import com.cinelog.server.domain.Actor;
+import com.cinelog.server.domain.Director;
+import com.cinelog.server.domain.Movie;
+import com.cinelog.server.domain.event.ActorChangedEvent;
+import com.cinelog.server.domain.event.DirectorChangedEvent;
+import com.cinelog.server.dto.movie.MovieProjection;
+import com.cinelog.server.dto.movie.MovieStamp;
+import com.cinelog.server.dto.movie.MovieView;
+import com.cinelog.server.exception.movie.MovieVersionConflictException;
+import com.cinelog.server.repository.MovieRepository;
+import com.cinelog.server.repository.jdbc.MovieJdbcRepository;
+
+//영화 상세 조회 캐시 (read-through) -> 상세 페이지, 리뷰 작성, 평점 갱신마다 영화+출연진 쿼리 2번이 나가지 않도록
+//영화 변경(save/delete)과 출연 배우/감독 이름 변경 시 해당 영화만 무효화, 검색/목록 조회는 캐시하지 않음
+@Primary
+@Repository
+@ConditionalOnProperty(name = "cinelog.catalog.snapshot.enabled", havingValue = "false", matchIfMissing = true)//스냅샷 모드에서는 SnapshotMovieRepository가 대신함
+@ManagedResource(objectName = "cinelog:type=MovieCache")
+public class CachingMovieRepository extends CachingRepositorySupport<Movie> implements MovieRepository {
+    private final MovieJdbcRepository delegate;
+
+    public CachingMovieRepository(MovieJdbcRepository delegate,
+                                  @Value("${cinelog.cache.movie.enabled:true}") boolean enabled,
+                                  @Value("${cinelog.cache.movie.max-size:5000}") int maxSize,
+                                  @Value("${cinelog.cache.movie.ttl:10m}") Duration ttl) {
+        super(new ReadThroughCache<>(enabled, maxSize, ttl, CachingMovieRepository::copyOf));
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Movie save(Movie movie) {//정보 수정, 감독/출연진 변경 (평점은 updateRating 으로 따로 갱신)
+        Movie saved;
+        try {
+            saved = delegate.save(movie);
+        } catch (MovieVersionConflictException e) {//캐시의 버전이 뒤처진 것 -> 지워야 재시도가 최신 버전을 읽음
+            byId.invalidate(movie.getId());
+            throw e;
+        }
+        byId.invalidateAfterWrite(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<Movie> findById(Long id) {
+        return byId.find(id, delegate::findById);
+    }
+
+    @Override
+    public List<Movie> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Movie> findAllByIds(Collection<Long> ids) {//캐시에 없는 id만 한 번에 조회
+        return byId.findAll(ids, delegate::findAllByIds, Movie::getId);
+    }
+
+    @Override
+    public List<Movie> findAllByDirectorId(Long directorId) {
+        return delegate.findAllByDirectorId(directorId);
+    }
+
+    @Override
+    public List<Movie> findAllByActorId(Long actorId) {
+        return delegate.findAllByActorId(actorId);
+    }
+
+    @Override
+    public List<Movie> findAllByNameContaining(String keyword) {
+        return delegate.findAllByNameContaining(keyword);
+    }
+
+    @Override
+    public List<Movie> findAllByActorNameContaining(String keyword) {
+        return delegate.findAllByActorNameContaining(keyword);
+    }
+
+    @Override
+    public List<Movie> findAllByDirectorNameContaining(String keyword) {
+        return delegate.findAllByDirectorNameContaining(keyword);
+    }
+
+    @Override
+    public Integer countByDirectorId(Long id) {
+        return delegate.countByDirectorId(id);
+    }
+
+    @Override
+    public void updateRating(Long id, Double rating) {//평점 컬럼만 갱신 -> save 와 같이 무효화
+        delegate.updateRating(id, rating);
+        byId.invalidateAfterWrite(id);
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        boolean deleted = delegate.delete(id);
+        byId.invalidateAfterWrite(id);
+        return deleted;
+    }
+
+    //변경 표시는 캐시에 두지 않음 -> 다른 서버의 쓰기도 바로 보임
+    //일부 필드만 읽은 결과는 캐시에 넣지 않음 (캐시에는 완전한 영화만)
+    @Override
+    public List<MovieView> findViewsByIds(Collection<Long> ids, MovieProjection projection) {
+        return delegate.findViewsByIds(ids, projection);
+    }
+
+    @Override
+    public List<MovieView> findViewsByNameContaining(String keyword, MovieProjection projection) {
+        return delegate.findViewsByNameContaining(keyword, projection);
+    }
+
+    @Override
+    public Optional<MovieStamp> findStamp(Long id) {
+        return delegate.findStamp(id);
+    }
+
+    @Override
+    public void touchByActorId(Long actorId) {
+        delegate.touchByActorId(actorId);
+    }
+
+    @Override
+    public void touchByDirectorId(Long directorId) {
+        delegate.touchByDirectorId(directorId);
+    }
+
+    @Override
+    public void touchReviews(Long movieId) {
+        delegate.touchReviews(movieId);
+    }
+
+    @Override
+    public void touchReviewsByUserId(Long userId) {
+        delegate.touchReviewsByUserId(userId);
+    }
+
+    //스냅샷에 배우/감독 이름이 들어있으므로 바뀐 배우/감독이 포함된 영화만 골라서 무효화
+    @EventListener
+    public void handleActorChangedEvent(ActorChangedEvent event) {
+        Long actorId = event.getActorId();
+        byId.invalidateIfAfterWrite((id, movie) -> containsActor(movie, actorId));
+    }
+
+    @EventListener
+    public void handleDirectorChangedEvent(DirectorChangedEvent event) {
+        Long directorId = event.getDirectorId();
+        byId.invalidateIfAfterWrite((id, movie) -> directorId.equals(movie.getDirector().getId()));
+    }
+
+    private static boolean containsActor(Movie movie, Long actorId) {
+        for (Actor actor : movie.getActors()) {
+            if (actorId.equals(actor.getId())) return true;
+        }
+        return false;
+    }
+
+    //서비스에서 updateMovieInfo, addActor 등으로 객체를 직접 바꾸므로 캐시에는 복사본(스냅샷)만 넣고 꺼낼 때도 복사본을 줌
+    private static Movie copyOf(Movie movie) {
+        Director director = new Director(movie.getDirector().getName());
+        director.setId(movie.getDirector().getId());
+        List<Actor> actors = new ArrayList<>(movie.getActors().size());
+        for (Actor actor : movie.getActors()) {
+            Actor copy = new Actor(actor.getName());
+            copy.setId(actor.getId());
+            actors.add(copy);
+        }
+        Movie copy = new Movie(movie.getName(), director, movie.getGenre(), movie.getReleaseDate(), movie.getDescription(), actors);
+        copy.setId(movie.getId());
+        copy.setRating(movie.getRating());
+        copy.setVersion(movie.getVersion());
+        copy.setRevision(movie.getRevision());
+        return copy;
+    }
+}
@@ -0,0 +1,47 @@
+package com.cinelog.server.repository.cache;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+
+//id 캐시 하나를 쓰는 캐시 저장소(영화/배우/감독)의 공통 JMX 지표 -> 하위 클래스의 @ManagedResource 로 노출
+public abstract class CachingRepositorySupport<V> {
+    final ReadThroughCache<Long, V> byId;
+
+    CachingRepositorySupport(ReadThroughCache<Long, V> byId) {
+        this.byId = byId;
+    }
+
+    @ManagedOperation
+    public void invalidateAll() {
+        byId.invalidateAll();
+    }
+
+    @ManagedAttribute
+    public long getHitCount() {
+        return byId.getHitCount();
+    }
+    @ManagedAttribute
+    public long getMissCount() {
+        return byId.getMissCount();
+    }
+    @ManagedAttribute
+    public double getHitRatio() {
+        return byId.getHitRatio();
+    }
+    @ManagedAttribute
+    public long getEvictionCount() {
+        return byId.getEvictionCount();
+    }
+    @ManagedAttribute
+    public long getExpirationCount() {
+        return byId.getExpirationCount();
+    }
+    @ManagedAttribute
+    public int getSize() {
+        return byId.size();
+    }
+    @ManagedAttribute
+    public boolean isEnabled() {
+        return byId.isEnabled();
+    }
+}
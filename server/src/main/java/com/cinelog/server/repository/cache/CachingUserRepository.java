@@ -0,0 +1,104 @@
+package com.cinelog.server.repository.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Repository;
+
+import com.cinelog.server.domain.User;
+import com.cinelog.server.repository.UserRepository;
+import com.cinelog.server.repository.jdbc.UserJdbcRepository;
+
+//유저 조회 캐시 (read-through) -> 권한 체크마다 users 테이블을 조회하지 않도록
+@Primary
+@Repository
+@ManagedResource(objectName = "cinelog:type=UserCache")
+public class CachingUserRepository implements UserRepository {
+    private final UserJdbcRepository delegate;
+    private final ReadThroughCache<Long, User> byId;
+    private final ReadThroughCache<String, User> byName;
+
+    public CachingUserRepository(UserJdbcRepository delegate,
+                                 @Value("${cinelog.cache.user.enabled:true}") boolean enabled,
+                                 @Value("${cinelog.cache.user.max-size:10000}") int maxSize,
+                                 @Value("${cinelog.cache.user.ttl:10m}") Duration ttl) {
+        this.delegate = delegate;
+        this.byId = new ReadThroughCache<>(enabled, maxSize, ttl, CachingUserRepository::copyOf);
+        this.byName = new ReadThroughCache<>(enabled, maxSize, ttl, CachingUserRepository::copyOf);
+    }
+
+    @Override
+    public User save(User user) {
+        String previousName = previousName(user);//저장 전에 읽어 둠 (무효화하면 id 캐시에서 사라짐)
+        User saved = delegate.save(user);
+        Long id = saved.getId();
+        String name = saved.getName();
+        CacheInvalidation.nowAndAfterCompletion(() -> invalidate(id, previousName, name));
+        return saved;
+    }
+
+    @Override
+    public boolean existsByName(String name) {//중복 검사는 항상 db 기준
+        return delegate.existsByName(name);
+    }
+
+    @Override
+    public Optional<User> findByName(String name) {
+        return byName.find(name, delegate::findByName);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return byId.find(id, delegate::findById);
+    }
+
+    @ManagedOperation
+    public void invalidateAll() {
+        byId.invalidateAll();
+        byName.invalidateAll();
+    }
+
+    @ManagedAttribute
+    public long getHitCount() {
+        return byId.getHitCount() + byName.getHitCount();
+    }
+    @ManagedAttribute
+    public long getMissCount() {
+        return byId.getMissCount() + byName.getMissCount();
+    }
+    @ManagedAttribute
+    public long getEvictionCount() {
+        return byId.getEvictionCount() + byName.getEvictionCount();
+    }
+    @ManagedAttribute
+    public int getSize() {
+        return byId.size() + byName.size();
+    }
+
+    //이름이 바뀐 경우 옛 이름 키도 지워야 함 -> 새 유저는 지금 이름, 기존 유저는 id 캐시에 있던 이름 (없으면 null)
+    private String previousName(User user) {
+        if (user.getId() == null) return user.getName();
+        User cached = byId.peek(user.getId());
+        return cached == null ? null : cached.getName();
+    }
+
+    //옛 이름을 모르면(id 캐시에서 밀려남/만료) 이름 캐시 전체에서 id로 찾아 지움 (드문 경우)
+    private void invalidate(Long id, String previousName, String name) {
+        byId.invalidate(id);
+        byName.invalidate(name);
+        if (previousName == null) byName.invalidateIf((key, user) -> id.equals(user.getId()));
+        else if (!previousName.equals(name)) byName.invalidate(previousName);
+    }
+
+    //서비스에서 changeName 등으로 객체를 직접 바꾸므로 캐시 원본은 밖으로 내보내지 않음
+    private static User copyOf(User user) {
+        User copy = new User(user.getName(), user.getPassword(), user.getRole(), user.isDeleted());
+        copy.setId(user.getId());
+        return copy;
+    }
+}
@@ -0,0 +1,313 @@
+package com.cinelog.server.repository.cache;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.cinelog.server.domain.Actor;
+import com.cinelog.server.domain.Director;
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+
+//영화/감독/배우/출연진 전체를 배열로 압축한 불변 이미지 -> 만든 뒤에는 바뀌지 않으므로 락 없이 읽음
+//영화는 id 오름차순으로 구간(Segment)에 나눠 담음 -> 일부 영화가 바뀌면 그 영화가 든 구간만 새로 만들고 나머지 구간은 그대로 공유
+final class CatalogSnapshot {
+    static final int SEGMENT_SIZE = 512;
+    private static final Genre[] GENRES = Genre.values();
+
+    private final Segment[] segments;
+    private final long[] lastIds;//구간별 마지막 id -> 이분 탐색으로 구간을 찾음
+    private final int size;
+
+    private CatalogSnapshot(List<Segment> segments) {
+        this.segments = segments.toArray(new Segment[0]);
+        this.lastIds = new long[this.segments.length];
+        int size = 0;
+        for (int s = 0; s < this.segments.length; s++) {
+            lastIds[s] = this.segments[s].lastId();
+            size += this.segments[s].size();
+        }
+        this.size = size;
+    }
+
+    static CatalogSnapshot of(Collection<Movie> movies) {
+        TreeMap<Long, Movie> sorted = new TreeMap<>();
+        for (Movie movie : movies) sorted.put(movie.getId(), movie);
+        List<Segment> segments = new ArrayList<>();
+        split(new ArrayList<>(sorted.values()), segments);
+        return new CatalogSnapshot(segments);
+    }
+
+    //바뀐 영화가 든 구간만 다시 만든 새 이미지 (기존 이미지는 그대로 -> 읽고 있던 쪽은 영향 없음)
+    //마지막 id보다 큰 새 영화는 마지막 구간에 붙이고, 구간이 두 배를 넘으면 나누고 비면 뺌
+    CatalogSnapshot patch(Collection<Movie> upserts, Collection<Long> removedIds) {
+        if (segments.length == 0) return of(upserts);
+        Map<Integer, TreeMap<Long, Movie>> touched = new TreeMap<>();
+        for (Long id : removedIds) {
+            int s = segmentOf(id);
+            if (s < segments.length && segments[s].indexOf(id) >= 0) touched(touched, s).remove(id);
+        }
+        for (Movie movie : upserts) {
+            touched(touched, Math.min(segmentOf(movie.getId()), segments.length - 1)).put(movie.getId(), movie);
+        }
+        if (touched.isEmpty()) return this;
+
+        List<Segment> patched = new ArrayList<>(segments.length + 1);
+        for (int s = 0; s < segments.length; s++) {
+            TreeMap<Long, Movie> movies = touched.get(s);
+            if (movies == null) patched.add(segments[s]);
+            else split(new ArrayList<>(movies.values()), patched);
+        }
+        return new CatalogSnapshot(patched);
+    }
+
+    private TreeMap<Long, Movie> touched(Map<Integer, TreeMap<Long, Movie>> touched, int s) {
+        return touched.computeIfAbsent(s, key -> {
+            TreeMap<Long, Movie> movies = new TreeMap<>();
+            for (Movie movie : segments[key].materializeAll()) movies.put(movie.getId(), movie);
+            return movies;
+        });
+    }
+
+    private static void split(List<Movie> sorted, List<Segment> into) {
+        int count = sorted.size();
+        if (count == 0) return;
+        if (count <= SEGMENT_SIZE * 2) {
+            into.add(Segment.of(sorted));
+            return;
+        }
+        for (int from = 0; from < count; from += SEGMENT_SIZE) {
+            into.add(Segment.of(sorted.subList(from, Math.min(from + SEGMENT_SIZE, count))));
+        }
+    }
+
+    private int segmentOf(long id) {//id가 들어갈 구간 (마지막 id보다 크면 segments.length)
+        int s = Arrays.binarySearch(lastIds, id);
+        return s >= 0 ? s : -s - 1;
+    }
+
+    Movie find(Long id) {//없으면 null
+        int s = segmentOf(id);
+        if (s == segments.length) return null;
+        int i = segments[s].indexOf(id);
+        return i < 0 ? null : segments[s].materialize(i);
+    }
+
+    List<Movie> findAll() {
+        return filter((segment, i) -> true);
+    }
+
+    List<Movie> filter(Match condition) {//호출할 때마다 새 객체를 만들어 줌 -> 서비스에서 바꿔도 이미지에는 영향 없음
+        List<Movie> results = new ArrayList<>();
+        for (Segment segment : segments) {
+            for (int i = 0; i < segment.size(); i++) {
+                if (condition.test(segment, i)) results.add(segment.materialize(i));
+            }
+        }
+        return results;
+    }
+
+    List<Long> movieIdsWhere(Match condition) {
+        List<Long> ids = new ArrayList<>();
+        for (Segment segment : segments) {
+            for (int i = 0; i < segment.size(); i++) {
+                if (condition.test(segment, i)) ids.add(segment.movieIds[i]);
+            }
+        }
+        return ids;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int segmentCount() {
+        return segments.length;
+    }
+
+    Segment segmentContaining(Long id) {//없으면 null
+        int s = segmentOf(id);
+        return s < segments.length && segments[s].indexOf(id) >= 0 ? segments[s] : null;
+    }
+
+    @FunctionalInterface
+    interface Match {
+        boolean test(Segment segment, int movie);
+    }
+
+    //감독/배우는 구간 안에서 한 번씩만 저장하고 인덱스로 참조, 출연진은 castStart[i]~castStart[i+1] 구간
+    static final class Segment {
+        private final long[] movieIds;
+        private final String[] names;
+        private final String[] descriptions;
+        private final byte[] genres;
+        private final long[] releaseDays;
+        private final double[] ratings;
+        private final long[] versions;
+        private final long[] revisions;
+        private final int[] directorOf;
+        private final int[] castStart;
+        private final int[] cast;
+
+        private final long[] directorIds;
+        private final String[] directorNames;
+        private final long[] actorIds;
+        private final String[] actorNames;
+
+        private Segment(long[] movieIds, String[] names, String[] descriptions, byte[] genres, long[] releaseDays,
+                        double[] ratings, long[] versions, long[] revisions, int[] directorOf, int[] castStart, int[] cast,
+                        long[] directorIds, String[] directorNames, long[] actorIds, String[] actorNames) {
+            this.movieIds = movieIds;
+            this.names = names;
+            this.descriptions = descriptions;
+            this.genres = genres;
+            this.releaseDays = releaseDays;
+            this.ratings = ratings;
+            this.versions = versions;
+            this.revisions = revisions;
+            this.directorOf = directorOf;
+            this.castStart = castStart;
+            this.cast = cast;
+            this.directorIds = directorIds;
+            this.directorNames = directorNames;
+            this.actorIds = actorIds;
+            this.actorNames = actorNames;
+        }
+
+        private static Segment of(List<Movie> sorted) {//id 오름차순으로 받음
+            int size = sorted.size();
+            long[] movieIds = new long[size];
+            String[] names = new String[size];
+            String[] descriptions = new String[size];
+            byte[] genres = new byte[size];
+            long[] releaseDays = new long[size];
+            double[] ratings = new double[size];
+            long[] versions = new long[size];
+            long[] revisions = new long[size];
+            int[] directorOf = new int[size];
+            int[] castStart = new int[size + 1];
+            List<Integer> cast = new ArrayList<>();
+            Map<Long, Integer> directorIndex = new HashMap<>();
+            List<Director> directors = new ArrayList<>();
+            Map<Long, Integer> actorIndex = new HashMap<>();
+            List<Actor> actors = new ArrayList<>();
+
+            for (int i = 0; i < size; i++) {
+                Movie movie = sorted.get(i);
+                movieIds[i] = movie.getId();
+                names[i] = movie.getName();
+                descriptions[i] = movie.getDescription();
+                genres[i] = movie.getGenre() == null ? -1 : (byte) movie.getGenre().ordinal();
+                releaseDays[i] = movie.getReleaseDate() == null ? Long.MIN_VALUE : movie.getReleaseDate().toEpochDay();
+                ratings[i] = movie.getRating() == null ? 0.0 : movie.getRating();
+                versions[i] = movie.getVersion() == null ? 0L : movie.getVersion();
+                revisions[i] = movie.getRevision() == null ? 0L : movie.getRevision();
+                Director director = movie.getDirector();
+                directorOf[i] = directorIndex.computeIfAbsent(director.getId(), id -> {
+                    directors.add(director);
+                    return directors.size() - 1;
+                });
+                castStart[i] = cast.size();
+                for (Actor actor : movie.getActors()) {
+                    cast.add(actorIndex.computeIfAbsent(actor.getId(), id -> {
+                        actors.add(actor);
+                        return actors.size() - 1;
+                    }));
+                }
+            }
+            castStart[size] = cast.size();
+
+            long[] directorIds = new long[directors.size()];
+            String[] directorNames = new String[directors.size()];
+            for (int d = 0; d < directors.size(); d++) {
+                directorIds[d] = directors.get(d).getId();
+                directorNames[d] = directors.get(d).getName();
+            }
+            long[] actorIds = new long[actors.size()];
+            String[] actorNames = new String[actors.size()];
+            for (int a = 0; a < actors.size(); a++) {
+                actorIds[a] = actors.get(a).getId();
+                actorNames[a] = actors.get(a).getName();
+            }
+            return new Segment(movieIds, names, descriptions, genres, releaseDays, ratings, versions, revisions, directorOf, castStart,
+                    cast.stream().mapToInt(Integer::intValue).toArray(), directorIds, directorNames, actorIds, actorNames);
+        }
+
+        boolean nameContains(int movie, String keyword) {
+            return names[movie].contains(keyword);
+        }
+
+        //목록 화면 검색용 -> db 의 findViewsByNameContaining(MovieJdbcRepository)과 같은 규칙, 대소문자 구분 없는 부분 문자열
+        boolean nameContainsIgnoreCase(int movie, String keyword) {
+            String name = names[movie];
+            for (int i = 0; i <= name.length() - keyword.length(); i++) {//행마다 소문자 문자열을 만들지 않음
+                if (name.regionMatches(true, i, keyword, 0, keyword.length())) return true;
+            }
+            return false;
+        }
+
+        boolean directorNameContains(int movie, String keyword) {
+            return directorNames[directorOf[movie]].contains(keyword);
+        }
+
+        boolean directedBy(int movie, Long directorId) {
+            return directorIds[directorOf[movie]] == directorId;
+        }
+
+        boolean hasActor(int movie, Long actorId) {
+            for (int c = castStart[movie]; c < castStart[movie + 1]; c++) {
+                if (actorIds[cast[c]] == actorId) return true;
+            }
+            return false;
+        }
+
+        boolean hasActorNameContaining(int movie, String keyword) {
+            for (int c = castStart[movie]; c < castStart[movie + 1]; c++) {
+                if (actorNames[cast[c]].contains(keyword)) return true;
+            }
+            return false;
+        }
+
+        private int size() {
+            return movieIds.length;
+        }
+
+        private long lastId() {
+            return movieIds[movieIds.length - 1];
+        }
+
+        private int indexOf(long id) {
+            return Arrays.binarySearch(movieIds, id);
+        }
+
+        private List<Movie> materializeAll() {
+            List<Movie> movies = new ArrayList<>(size());
+            for (int i = 0; i < size(); i++) movies.add(materialize(i));
+            return movies;
+        }
+
+        private Movie materialize(int i) {
+            Director director = new Director(directorNames[directorOf[i]]);
+            director.setId(directorIds[directorOf[i]]);
+            List<Actor> actors = new ArrayList<>(castStart[i + 1] - castStart[i]);
+            for (int c = castStart[i]; c < castStart[i + 1]; c++) {
+                Actor actor = new Actor(actorNames[cast[c]]);
+                actor.setId(actorIds[cast[c]]);
+                actors.add(actor);
+            }
+            Genre genre = genres[i] < 0 ? null : GENRES[genres[i]];
+            LocalDate releaseDate = releaseDays[i] == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(releaseDays[i]);
+            Movie movie = new Movie(names[i], director, genre, releaseDate, descriptions[i], actors);
+            movie.setId(movieIds[i]);
+            movie.setRating(ratings[i]);
+            movie.setVersion(versions[i]);
+            movie.setRevision(revisions[i]);
+            return movie;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.cinelog.server.repository.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+//조회 캐시(read-through) 공통 부분 -> 캐시 저장소(영화/배우/감독/유저)마다 같은 뼈대를 반복하지 않도록
+//꺼져 있으면 매번 loader, 캐시 채우기는 원본에서(ReplicaSafeLoad), 서비스가 객체를 직접 바꾸므로 꺼낼 때는 copier 로 만든 복사본만 줌
+final class ReadThroughCache<K, V> {
+    private final BoundedCache<K, V> cache;
+    private final boolean enabled;
+    private final UnaryOperator<V> copier;
+
+    ReadThroughCache(boolean enabled, int maxSize, Duration ttl, UnaryOperator<V> copier) {
+        this.cache = new BoundedCache<>(maxSize, ttl);
+        this.enabled = enabled;
+        this.copier = copier;
+    }
+
+    Optional<V> find(K key, Function<K, Optional<V>> loader) {
+        if (!enabled) return loader.apply(key);
+        V value = ReplicaSafeLoad.getOrLoad(cache, key, k -> loader.apply(k).orElse(null));
+        return Optional.ofNullable(value).map(copier);
+    }
+
+    //캐시에 없는 키만 모아서 loader 한 번으로 조회 (IN 절 한 번)
+    List<V> findAll(Collection<K> keys, Function<Collection<K>, List<V>> loader, Function<V, K> keyOf) {
+        if (!enabled) return loader.apply(keys);
+        Map<K, V> found = ReplicaSafeLoad.getAllOrLoad(cache, keys, missing -> {
+            Map<K, V> loaded = new HashMap<>();
+            for (V value : loader.apply(missing)) loaded.put(keyOf.apply(value), value);
+            return loaded;
+        });
+        List<V> results = new ArrayList<>(found.size());
+        for (V value : found.values()) results.add(copier.apply(value));
+        return results;
+    }
+
+    //쓰기 직후 + 트랜잭션 종료 후 무효화 (CacheInvalidation)
+    void invalidateAfterWrite(K key) {
+        CacheInvalidation.nowAndAfterCompletion(() -> cache.invalidate(key));
+    }
+
+    void invalidateIfAfterWrite(BiPredicate<K, V> condition) {
+        CacheInvalidation.nowAndAfterCompletion(() -> cache.invalidateIf(condition));
+    }
+
+    void invalidate(K key) {
+        cache.invalidate(key);
+    }
+
+    void invalidateIf(BiPredicate<K, V> condition) {
+        cache.invalidateIf(condition);
+    }
+
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    V peek(K key) {//복사하지 않음 -> 읽기만
+        return cache.peek(key);
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+    long getHitCount() {
+        return cache.getHitCount();
+    }
+    long getMissCount() {
+        return cache.getMissCount();
+    }
+    double getHitRatio() {
+        return cache.getHitRatio();
+    }
+    long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+    long getExpirationCount() {
+        return cache.getExpirationCount();
+    }
+    int size() {
+        return cache.size();
+    }
+}
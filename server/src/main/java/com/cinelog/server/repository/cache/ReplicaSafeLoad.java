@@ -0,0 +1,27 @@
+package com.cinelog.server.repository.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.cinelog.server.repository.routing.ReadWriteRoutingDataSource;
+
+//캐시를 채우는 조회는 원본에서 -> 복제본 지연 중 읽은 옛 값(옛 version)이 ttl 동안 남지 않도록
+//트랜잭션이 이미 복제본 커넥션을 잡아 원본으로 돌릴 수 없었다면 결과만 쓰고 캐시에는 넣지 않음
+final class ReplicaSafeLoad {
+    private ReplicaSafeLoad() {
+    }
+
+    static <K, V> V getOrLoad(BoundedCache<K, V> cache, K key, Function<K, V> loader) {
+        return cache.getOrLoad(key,
+                k -> ReadWriteRoutingDataSource.readFromPrimary(() -> loader.apply(k)),
+                () -> !ReadWriteRoutingDataSource.isBoundToReplica());
+    }
+
+    static <K, V> Map<K, V> getAllOrLoad(BoundedCache<K, V> cache, Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+        return cache.getAllOrLoad(keys,
+                missing -> ReadWriteRoutingDataSource.readFromPrimary(() -> loader.apply(missing)),
+                () -> !ReadWriteRoutingDataSource.isBoundToReplica());
+    }
+}
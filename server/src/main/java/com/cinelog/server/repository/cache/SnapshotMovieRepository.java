@@ -0,0 +1,335 @@
+package com.cinelog.server.repository.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.cinelog.server.domain.Movie;
+import com.cinelog.server.domain.event.ActorChangedEvent;
+import com.cinelog.server.domain.event.DirectorChangedEvent;
+import com.cinelog.server.dto.movie.MovieProjection;
+import com.cinelog.server.dto.movie.MovieStamp;
+import com.cinelog.server.dto.movie.MovieView;
+import com.cinelog.server.exception.movie.MovieVersionConflictException;
+import com.cinelog.server.repository.MovieRepository;
+import com.cinelog.server.repository.jdbc.MovieJdbcRepository;
+import com.cinelog.server.repository.routing.ReadWriteRoutingDataSource;
+
+//카탈로그 스냅샷 모드 -> 영화 조회/검색을 메모리 이미지에서 처리 (CachingMovieRepository 대신 사용)
+//쓰기는 db에 반영하고, 커밋 이후 바뀐 영화만 다시 읽어 새 이미지로 교체 (copy-on-write)
+@Primary
+@Repository
+@ConditionalOnProperty(name = "cinelog.catalog.snapshot.enabled", havingValue = "true")
+@ManagedResource(objectName = "cinelog:type=CatalogSnapshot")
+public class SnapshotMovieRepository implements MovieRepository {
+    private static final Logger log = LoggerFactory.getLogger(SnapshotMovieRepository.class);
+    private static final long RETRY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);//다시 읽기가 또 실패하면 이 간격 뒤에 재시도
+
+    private final MovieJdbcRepository delegate;
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    //이미지 교체는 한 번에 하나씩 -> 늦게 읽은 값이 먼저 읽은 값에 덮이지 않음
+    //락을 잡은 채 db를 조회하므로 synchronized 대신 ReentrantLock (가상 스레드가 캐리어 스레드에 고정되지 않도록)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicLong patchCount = new AtomicLong();
+    private final AtomicLong refreshFailures = new AtomicLong();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();//커밋됐지만 이미지에 반영하지 못한 영화 -> 다음 조회 때 다시 읽음
+    private volatile long nextRetryNanos = System.nanoTime();
+    private volatile long lastRebuildMillis;
+
+    public SnapshotMovieRepository(MovieJdbcRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @ManagedOperation
+    public void rebuild() {
+        refreshLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            snapshot.set(CatalogSnapshot.of(delegate.findAll()));
+            dirty.clear();
+            lastRebuildMillis = System.currentTimeMillis() - start;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Override
+    public Movie save(Movie movie) {
+        Movie saved;
+        try {
+            saved = delegate.save(movie);
+        } catch (MovieVersionConflictException e) {//다른 서버의 수정이면 이미지가 옛 버전 -> 바로 다시 읽어야 재시도가 최신 버전을 봄
+            refresh(List.of(movie.getId()));
+            throw e;
+        }
+        refreshAfterCommit(List.of(saved.getId()));
+        return saved;
+    }
+
+    @Override
+    public void updateRating(Long id, Double rating) {
+        delegate.updateRating(id, rating);
+        refreshAfterCommit(List.of(id));
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        boolean deleted = delegate.delete(id);
+        if (deleted) refreshAfterCommit(List.of(id));
+        return deleted;
+    }
+
+    @Override
+    public Optional<Movie> findById(Long id) {
+        if (isPending(id)) return delegate.findById(id);
+        return Optional.ofNullable(current().find(id));
+    }
+
+    @Override
+    public List<Movie> findAll() {
+        if (hasPending()) return delegate.findAll();
+        return current().findAll();
+    }
+
+    @Override
+    public List<Movie> findAllByIds(Collection<Long> ids) {
+        if (hasPending()) return delegate.findAllByIds(ids);
+        CatalogSnapshot current = current();
+        List<Movie> movies = new ArrayList<>();
+        for (Long id : new HashSet<>(ids)) {
+            Movie movie = current.find(id);
+            if (movie != null) movies.add(movie);
+        }
+        return movies;
+    }
+
+    @Override
+    public List<Movie> findAllByDirectorId(Long directorId) {
+        if (hasPending()) return delegate.findAllByDirectorId(directorId);
+        return current().filter((segment, i) -> segment.directedBy(i, directorId));
+    }
+
+    @Override
+    public List<Movie> findAllByActorId(Long actorId) {
+        if (hasPending()) return delegate.findAllByActorId(actorId);
+        return current().filter((segment, i) -> segment.hasActor(i, actorId));
+    }
+
+    @Override
+    public List<Movie> findAllByNameContaining(String keyword) {
+        if (hasPending()) return delegate.findAllByNameContaining(keyword);
+        return current().filter((segment, i) -> segment.nameContains(i, keyword));
+    }
+
+    @Override
+    public List<Movie> findAllByActorNameContaining(String keyword) {
+        if (hasPending()) return delegate.findAllByActorNameContaining(keyword);
+        return current().filter((segment, i) -> segment.hasActorNameContaining(i, keyword));
+    }
+
+    @Override
+    public List<Movie> findAllByDirectorNameContaining(String keyword) {
+        if (hasPending()) return delegate.findAllByDirectorNameContaining(keyword);
+        return current().filter((segment, i) -> segment.directorNameContains(i, keyword));
+    }
+
+    @Override
+    public Integer countByDirectorId(Long id) {//감독 삭제 가능 여부 판단용 -> 항상 db 기준
+        return delegate.countByDirectorId(id);
+    }
+
+    //변경 표시는 이미지에 두지 않고 항상 db 기준
+    //이미지에 전부 있으므로 db를 타지 않고 잘라내기만 함
+    @Override
+    public List<MovieView> findViewsByIds(Collection<Long> ids, MovieProjection projection) {
+        if (hasPending()) return delegate.findViewsByIds(ids, projection);
+        return findAllByIds(ids).stream().map(movie -> MovieView.from(movie, projection)).toList();
+    }
+
+    @Override
+    public List<MovieView> findViewsByNameContaining(String keyword, MovieProjection projection) {
+        if (hasPending()) return delegate.findViewsByNameContaining(keyword, projection);
+        return current().filter((segment, i) -> segment.nameContainsIgnoreCase(i, keyword)).stream()
+                .map(movie -> MovieView.from(movie, projection)).toList();
+    }
+
+    @Override
+    public Optional<MovieStamp> findStamp(Long id) {
+        return delegate.findStamp(id);
+    }
+
+    @Override
+    public void touchByActorId(Long actorId) {
+        delegate.touchByActorId(actorId);
+    }
+
+    @Override
+    public void touchByDirectorId(Long directorId) {
+        delegate.touchByDirectorId(directorId);
+    }
+
+    @Override
+    public void touchReviews(Long movieId) {
+        delegate.touchReviews(movieId);
+    }
+
+    @Override
+    public void touchReviewsByUserId(Long userId) {
+        delegate.touchReviewsByUserId(userId);
+    }
+
+    //출연진/감독 이름은 이미지에 들어있으므로 해당 배우/감독이 포함된 영화만 다시 읽음
+    @EventListener
+    public void handleActorChangedEvent(ActorChangedEvent event) {
+        refreshAfterCommit(current().movieIdsWhere((segment, i) -> segment.hasActor(i, event.getActorId())));
+    }
+
+    @EventListener
+    public void handleDirectorChangedEvent(DirectorChangedEvent event) {
+        refreshAfterCommit(current().movieIdsWhere((segment, i) -> segment.directedBy(i, event.getDirectorId())));
+    }
+
+    @ManagedAttribute
+    public int getMovieCount() {
+        CatalogSnapshot current = snapshot.get();
+        return current == null ? 0 : current.size();
+    }
+    @ManagedAttribute
+    public long getPatchCount() {
+        return patchCount.get();
+    }
+    @ManagedAttribute
+    public long getLastRebuildMillis() {
+        return lastRebuildMillis;
+    }
+    @ManagedAttribute
+    public long getRefreshFailureCount() {
+        return refreshFailures.get();
+    }
+    @ManagedAttribute
+    public int getDirtyCount() {//아직 이미지에 반영하지 못한 영화 수
+        return dirty.size();
+    }
+
+    private CatalogSnapshot current() {
+        if (!dirty.isEmpty()) retryDirty();
+        return built();
+    }
+
+    private CatalogSnapshot built() {
+        CatalogSnapshot current = snapshot.get();
+        if (current != null) return current;
+        rebuild();//기동 완료 전에 들어온 조회
+        return snapshot.get();
+    }
+
+    private void refresh(Collection<Long> movieIds) {
+        if (movieIds.isEmpty()) return;
+        refreshLock.lock();
+        try {
+            List<Movie> loaded = delegate.findAllByIds(movieIds);
+            Set<Long> removed = new HashSet<>(movieIds);
+            for (Movie movie : loaded) removed.remove(movie.getId());
+            snapshot.set(built().patch(loaded, removed));
+            patchCount.incrementAndGet();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    //커밋 이후라 쓰기는 이미 반영됨 -> 다시 읽기 실패를 요청 실패(500)로 돌려주지 않고, 남겨 두었다가 다음 조회에서 다시 읽음
+    private boolean refreshOrMarkDirty(Collection<Long> movieIds) {
+        try {
+            refresh(movieIds);
+            return true;
+        } catch (RuntimeException e) {
+            dirty.addAll(movieIds);
+            refreshFailures.incrementAndGet();
+            log.warn("커밋된 영화 {}건을 스냅샷에 반영하지 못했습니다. 다음 조회 때 다시 읽습니다. ids={}", movieIds.size(), movieIds, e);
+            return false;
+        }
+    }
+
+    //다른 조회를 막지 않도록 잠금을 바로 얻을 때만, 원본에서 읽을 수 있을 때만 (쓰기 트랜잭션 안이면 커밋 전 값, 복제본이면 옛 값을 읽을 수 있음)
+    private void retryDirty() {
+        if (System.nanoTime() - nextRetryNanos < 0 || !canReadCommittedFromPrimary() || !refreshLock.tryLock()) return;
+        try {
+            List<Long> movieIds = new ArrayList<>(dirty);
+            if (movieIds.isEmpty()) return;
+            dirty.removeAll(movieIds);
+            boolean refreshed = ReadWriteRoutingDataSource.readFromPrimary(() -> refreshOrMarkDirty(movieIds));
+            if (!refreshed) nextRetryNanos = System.nanoTime() + RETRY_INTERVAL_NANOS;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private static boolean canReadCommittedFromPrimary() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) return true;
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReadWriteRoutingDataSource.isBoundToReplica();
+    }
+
+    //롤백된 변경이 이미지에 들어가지 않도록 커밋 이후에 반영
+    //그 전까지 같은 트랜잭션의 조회는 자기가 쓴 값을 봐야 하므로 db로 보냄
+    private void refreshAfterCommit(Collection<Long> movieIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshOrMarkDirty(movieIds);
+            return;
+        }
+        PendingRefresh pending = (PendingRefresh) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingRefresh();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.movieIds.addAll(movieIds);
+    }
+
+    private boolean hasPending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return false;
+        PendingRefresh pending = (PendingRefresh) TransactionSynchronizationManager.getResource(this);
+        return pending != null && !pending.movieIds.isEmpty();
+    }
+
+    private boolean isPending(Long movieId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return false;
+        PendingRefresh pending = (PendingRefresh) TransactionSynchronizationManager.getResource(this);
+        return pending != null && pending.movieIds.contains(movieId);
+    }
+
+    private final class PendingRefresh implements TransactionSynchronization {
+        private final Set<Long> movieIds = new HashSet<>();
+
+        @Override
+        public void afterCommit() {
+            refreshOrMarkDirty(movieIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SnapshotMovieRepository.this);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.cinelog.server.repository.jdbc;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Repository;
 
 import com.cinelog.server.domain.Actor;
 import com.cinelog.server.repository.ActorRepository;
+import com.cinelog.server.util.Chunks;
 @Repository
 public class ActorJdbcRepository implements ActorRepository{
     private final NamedParameterJdbcTemplate jdbcTemplate;
@@ -51,6 +54,15 @@ public class ActorJdbcRepository implements ActorRepository{
         return jdbcTemplate.query(sql, actorMapper);
     }
     @Override
+    public List<Actor> findAllByIds(Collection<Long> ids){//id 개수만큼 조회하지 않고 IN 절로 묶어서 조회
+        String sql = "SELECT id, name FROM actors WHERE id IN (:ids)";
+        List<Actor> actors = new ArrayList<>();
+        for(List<Long> chunk : Chunks.distinct(ids, Chunks.IN_CLAUSE_SIZE)){
+            actors.addAll(jdbcTemplate.query(sql, Map.of("ids", chunk), actorMapper));
+        }
+        return actors;
+    }
+    @Override
     public List<Actor> findAllByNameContaining(String keyword){
         String sql = "SELECT id, name FROM actors WHERE name LIKE :keyword";
         String likeKeyword = "%" + keyword + "%";
@@ -1,5 +1,7 @@
 package com.cinelog.server.repository.jdbc;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Repository;
 
 import com.cinelog.server.domain.Director;
 import com.cinelog.server.repository.DirectorRepository;
+import com.cinelog.server.util.Chunks;
 @Repository
 public class DirectorJdbcRepository implements DirectorRepository{
     private final NamedParameterJdbcTemplate jdbcTemplate;//-> update는 cud에사용 query는 r에 사용
@@ -49,6 +52,15 @@ public class DirectorJdbcRepository implements DirectorRepository{
         return jdbcTemplate.query(sql, directorMapper);
     }
     @Override
+    public List<Director> findAllByIds(Collection<Long> ids){//id 개수만큼 조회하지 않고 IN 절로 묶어서 조회
+        String sql = "SELECT id, name FROM directors WHERE id IN (:ids)";
+        List<Director> directors = new ArrayList<>();
+        for(List<Long> chunk : Chunks.distinct(ids, Chunks.IN_CLAUSE_SIZE)){
+            directors.addAll(jdbcTemplate.query(sql, Map.of("ids", chunk), directorMapper));
+        }
+        return directors;
+    }
+    @Override
     public List<Director> findAllByNameContaining(String keyword){
         String sql = "SELECT id, name FROM directors WHERE name LIKE :keyword";
         String likeKeyword = "%" + keyword + "%";
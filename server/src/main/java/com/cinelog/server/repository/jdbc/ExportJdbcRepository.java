@@ -0,0 +1,113 @@
+package com.cinelog.server.repository.jdbc;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.dto.export.MovieExportRow;
+import com.cinelog.server.dto.export.ReviewExportRow;
+import com.cinelog.server.repository.ExportRepository;
+
+//내보내기용 커서 조회 -> fetch size 만큼씩 받아 RowCallbackHandler 로 한 행씩 넘김 (결과 전체를 List 로 만들지 않음)
+//MySQL 은 url 에 useCursorFetch=true 가 있어야 fetch size 대로 나눠 받음 (없으면 드라이버가 결과를 통째로 읽음)
+@Repository
+public class ExportJdbcRepository implements ExportRepository {
+    private static final int FETCH_SIZE = 500;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ExportJdbcRepository(DataSource dataSource) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+    }
+
+    //출연진은 조인으로 같이 읽고 (영화 id, 배우 id) 순으로 정렬 -> 같은 영화의 행이 연달아 오므로 영화 하나 분량만 들고 있으면 됨
+    @Override
+    public void streamMoviesAfter(long afterId, Consumer<MovieExportRow> consumer) {
+        String sql = "SELECT m.id, m.name, m.genre, m.release_date, m.description, m.rating, m.director_id, d.name as director_name, " +
+                     "a.id as actor_id, a.name as actor_name " +
+                     "FROM movies m " +
+                     "JOIN directors d ON m.director_id = d.id " +
+                     "LEFT JOIN movie_actor ma ON m.id = ma.movie_id " +
+                     "LEFT JOIN actors a ON ma.actor_id = a.id " +
+                     "WHERE m.id > :afterId " +
+                     "ORDER BY m.id, a.id";
+        MovieRowCollector collector = new MovieRowCollector(consumer);
+        jdbcTemplate.query(sql, Map.of("afterId", afterId), collector);
+        collector.finish();
+    }
+
+    @Override
+    public void streamReviewsAfter(long afterId, Consumer<ReviewExportRow> consumer) {
+        String sql = "SELECT r.id, r.movie_id, r.user_id, u.user_name, r.rating, r.content, r.created_at " +
+                     "FROM reviews r " +
+                     "JOIN users u ON r.user_id = u.id " +
+                     "WHERE r.id > :afterId " +
+                     "ORDER BY r.id";
+        jdbcTemplate.query(sql, Map.of("afterId", afterId), (RowCallbackHandler) rs -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            consumer.accept(new ReviewExportRow(
+                rs.getLong("id"),
+                rs.getLong("movie_id"),
+                rs.getLong("user_id"),
+                rs.getString("user_name"),
+                rs.getInt("rating"),
+                rs.getString("content"),
+                createdAt == null ? null : createdAt.toLocalDateTime()
+            ));
+        });
+    }
+
+    //영화 id가 바뀌면 모아둔 영화를 넘기고 다음 영화를 시작
+    private static final class MovieRowCollector implements RowCallbackHandler {
+        private final Consumer<MovieExportRow> consumer;
+        private MovieExportRow current;
+        private List<MovieExportRow.CastMember> cast;
+
+        private MovieRowCollector(Consumer<MovieExportRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long movieId = rs.getLong("id");
+            if (current == null || current.getId() != movieId) {
+                finish();
+                cast = new ArrayList<>();
+                String genre = rs.getString("genre");
+                Date releaseDate = rs.getDate("release_date");
+                current = new MovieExportRow(
+                    movieId,
+                    rs.getString("name"),
+                    genre == null ? null : Genre.valueOf(genre),
+                    releaseDate == null ? null : releaseDate.toLocalDate(),
+                    rs.getString("description"),
+                    rs.getDouble("rating"),
+                    rs.getLong("director_id"),
+                    rs.getString("director_name"),
+                    cast
+                );
+            }
+            long actorId = rs.getLong("actor_id");
+            if (!rs.wasNull()) cast.add(new MovieExportRow.CastMember(actorId, rs.getString("actor_name")));
+        }
+
+        private void finish() {
+            if (current != null) consumer.accept(current);
+            current = null;
+        }
+    }
+}
@@ -3,8 +3,11 @@ package com.cinelog.server.repository.jdbc;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
@@ -24,7 +27,13 @@ import com.cinelog.server.domain.Actor;
 import com.cinelog.server.domain.Director;
 import com.cinelog.server.domain.Genre;
 import com.cinelog.server.domain.Movie;
+import com.cinelog.server.dto.movie.MovieDetail;
+import com.cinelog.server.dto.movie.MovieProjection;
+import com.cinelog.server.dto.movie.MovieStamp;
+import com.cinelog.server.dto.movie.MovieView;
+import com.cinelog.server.exception.movie.MovieVersionConflictException;
 import com.cinelog.server.repository.MovieRepository;
+import com.cinelog.server.util.Chunks;
 
 @Repository
 public class MovieJdbcRepository implements MovieRepository{
@@ -73,6 +82,33 @@ public class MovieJdbcRepository implements MovieRepository{
 
         return jdbcTemplate.query(sql, movieResultSetExtractor());
     }
+
+    @Override
+    public List<Movie> findAllByIds(Collection<Long> ids) {//영화 IN 쿼리 + 출연진 IN 쿼리 (청크당 2번) -> 영화 수만큼 조회하지 않음
+        String movieSql = "SELECT m.*, d.name as director_name " +
+                          "FROM movies m " +
+                          "JOIN directors d ON m.director_id = d.id " +
+                          "WHERE m.id IN (:ids)";
+        String castSql = "SELECT ma.movie_id, a.id, a.name " +
+                         "FROM movie_actor ma " +
+                         "JOIN actors a ON ma.actor_id = a.id " +
+                         "WHERE ma.movie_id IN (:ids)";
+        List<Movie> movies = new ArrayList<>();
+        for (List<Long> chunk : Chunks.distinct(ids, Chunks.IN_CLAUSE_SIZE)) {
+            Map<Long, Movie> byId = new HashMap<>();
+            for (Movie movie : jdbcTemplate.query(movieSql, Map.of("ids", chunk), movieMapper())) {
+                byId.put(movie.getId(), movie);
+            }
+            if (byId.isEmpty()) continue;
+            jdbcTemplate.query(castSql, Map.of("ids", new ArrayList<>(byId.keySet())), rs -> {
+                Actor actor = new Actor(rs.getString("name"));
+                actor.setId(rs.getLong("id"));
+                byId.get(rs.getLong("movie_id")).addActor(actor);
+            });
+            movies.addAll(byId.values());
+        }
+        return movies;
+    }
     
     @Override
     public List<Movie> findAllByDirectorId(Long directorId) {
@@ -141,6 +177,109 @@ public class MovieJdbcRepository implements MovieRepository{
         return jdbcTemplate.query(sql, Map.of("keyword", likeKeyword), movieResultSetExtractor());
     }
 
+    @Override
+    public List<MovieView> findViewsByIds(Collection<Long> ids, MovieProjection projection) {
+        List<MovieView> views = new ArrayList<>();
+        for (List<Long> chunk : Chunks.distinct(ids, Chunks.IN_CLAUSE_SIZE)) {
+            views.addAll(findViews(projection, "m.id IN (:ids)", Map.of("ids", chunk)));
+        }
+        return views;
+    }
+
+    @Override
+    public List<MovieView> findViewsByNameContaining(String keyword, MovieProjection projection) {
+        return findViews(projection, "LOWER(m.name) LIKE :keyword", Map.of("keyword", containing(keyword)));
+    }
+
+    //목록 화면 검색(findViewsByNameContaining)은 스냅샷 모드(CatalogSnapshot)와 같은 규칙 -> 대소문자 구분 없이, %/_ 도 글자 그대로 포함 여부만 봄 (db 콜레이션과 상관없음)
+    //이스케이프 문자는 H2/MySQL LIKE 기본값인 역슬래시
+    private static String containing(String keyword) {
+        String escaped = keyword.toLowerCase(Locale.ROOT).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    //SUMMARY 는 movies 한 테이블만 (감독/출연진 조인, 설명 컬럼 없음)
+    //출연진은 조인으로 영화 행을 늘리지 않고 읽은 영화 id로 IN 쿼리 한 번 더 (findAllByIds 와 같은 방식)
+    private List<MovieView> findViews(MovieProjection projection, String condition, Map<String, ?> params) {
+        StringBuilder sql = new StringBuilder("SELECT m.id, m.name, m.genre, m.release_date, m.rating");
+        if (projection.includesCast()) sql.append(", m.director_id, d.name as director_name");
+        if (projection.includesDescription()) sql.append(", m.description");
+        sql.append(" FROM movies m");
+        if (projection.includesCast()) sql.append(" JOIN directors d ON m.director_id = d.id");
+        sql.append(" WHERE ").append(condition);
+
+        Map<Long, List<MovieDetail.Person>> casts = new HashMap<>();
+        List<MovieView> views = jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> {
+            List<MovieDetail.Person> cast = null;
+            MovieDetail.Person director = null;
+            if (projection.includesCast()) {
+                cast = new ArrayList<>();
+                casts.put(rs.getLong("id"), cast);
+                director = new MovieDetail.Person(rs.getLong("director_id"), rs.getString("director_name"));
+            }
+            return new MovieView(
+                rs.getLong("id"),
+                rs.getString("name"),
+                Genre.valueOf(rs.getString("genre")),
+                rs.getDate("release_date").toLocalDate(),
+                rs.getDouble("rating"),
+                director,
+                cast,
+                projection.includesDescription() ? rs.getString("description") : null
+            );
+        });
+        if (casts.isEmpty()) return views;
+
+        String castSql = "SELECT ma.movie_id, a.id, a.name " +
+                         "FROM movie_actor ma " +
+                         "JOIN actors a ON ma.actor_id = a.id " +
+                         "WHERE ma.movie_id IN (:ids)";
+        for (List<Long> chunk : Chunks.distinct(casts.keySet(), Chunks.IN_CLAUSE_SIZE)) {
+            jdbcTemplate.query(castSql, Map.of("ids", chunk), rs -> {
+                casts.get(rs.getLong("movie_id")).add(new MovieDetail.Person(rs.getLong("id"), rs.getString("name")));
+            });
+        }
+        return views;
+    }
+
+    @Override
+    public void updateRating(Long id, Double rating) {//리뷰마다 다시 계산되는 값이라 버전을 올리지 않음 -> 출연진 수정과 충돌하지 않음
+        String sql = "UPDATE movies SET rating = :rating, revision = revision + 1 WHERE id = :id";
+        jdbcTemplate.update(sql, Map.of("id", id, "rating", rating));
+    }
+
+    @Override
+    public Optional<MovieStamp> findStamp(Long id) {
+        String sql = "SELECT revision, reviews_revision FROM movies WHERE id = :id";
+        List<MovieStamp> stamps = jdbcTemplate.query(sql, Map.of("id", id),
+                (rs, rowNum) -> new MovieStamp(rs.getLong("revision"), rs.getLong("reviews_revision")));
+        return stamps.stream().findFirst();
+    }
+
+    @Override
+    public void touchByActorId(Long actorId) {
+        String sql = "UPDATE movies SET revision = revision + 1 WHERE id IN (SELECT movie_id FROM movie_actor WHERE actor_id = :actorId)";
+        jdbcTemplate.update(sql, Map.of("actorId", actorId));
+    }
+
+    @Override
+    public void touchByDirectorId(Long directorId) {
+        String sql = "UPDATE movies SET revision = revision + 1 WHERE director_id = :directorId";
+        jdbcTemplate.update(sql, Map.of("directorId", directorId));
+    }
+
+    @Override
+    public void touchReviews(Long movieId) {
+        String sql = "UPDATE movies SET reviews_revision = reviews_revision + 1 WHERE id = :id";
+        jdbcTemplate.update(sql, Map.of("id", movieId));
+    }
+
+    @Override
+    public void touchReviewsByUserId(Long userId) {
+        String sql = "UPDATE movies SET reviews_revision = reviews_revision + 1 WHERE id IN (SELECT movie_id FROM reviews WHERE user_id = :userId)";
+        jdbcTemplate.update(sql, Map.of("userId", userId));
+    }
+
     @Override
     public Integer countByDirectorId(Long id){
         String sql = "SELECT count(*) FROM movies WHERE director_id = :id";
@@ -165,15 +304,19 @@ public class MovieJdbcRepository implements MovieRepository{
                 .addValue("genre", movie.getGenre().name()) // Enum을 String으로 저장
                 .addValue("description", movie.getDescription())
                 .addValue("release_date", movie.getReleaseDate())
-                .addValue("rating", movie.getRating());
+                .addValue("rating", movie.getRating())
+                .addValue("version", 0L);
 
         Number key = jdbcInsert.executeAndReturnKey(params);
         movie.setId(key.longValue());
+        movie.setVersion(0L);
 
         saveRelatedEntities(movie);//배우와 영화사이 관계엔티티 레코드 작성
         return movie;
     }
 
+    //조회 이후 다른 수정이 먼저 반영됐으면(버전이 다르면) 덮어쓰지 않고 예외 -> 출연진 변경이 사라지지 않음
+    //평점은 updateRating으로만 바뀌므로 여기서는 쓰지 않음 (옛 평점으로 덮어쓰지 않도록)
     private Movie update(Movie movie) {
         String sql = "UPDATE movies SET " +
                      "name = :name, " +
@@ -181,8 +324,9 @@ public class MovieJdbcRepository implements MovieRepository{
                      "genre = :genre, " +
                      "description = :description, " +
                      "release_date = :releaseDate, " +
-                     "rating = :rating " +
-                     "WHERE id = :id";
+                     "version = version + 1, " +
+                     "revision = revision + 1 " +
+                     "WHERE id = :id AND version = :version";
 
         SqlParameterSource params = new MapSqlParameterSource()
                 .addValue("id", movie.getId())
@@ -191,9 +335,10 @@ public class MovieJdbcRepository implements MovieRepository{
                 .addValue("genre", movie.getGenre().name())
                 .addValue("description", movie.getDescription())
                 .addValue("releaseDate", movie.getReleaseDate())
-                .addValue("rating", movie.getRating());
+                .addValue("version", movie.getVersion());
 
-        jdbcTemplate.update(sql, params);
+        if (jdbcTemplate.update(sql, params) == 0) throw new MovieVersionConflictException(movie.getId());
+        movie.setVersion(movie.getVersion() + 1);
 
         clearRelatedData(movie.getId());//관련된 관계엔티티 레코드 전부 삭제
         saveRelatedEntities(movie);//다시 관계 만들기
@@ -226,7 +371,8 @@ public class MovieJdbcRepository implements MovieRepository{
     private RowMapper<Movie> movieMapper() {
         return (rs, rowNum) -> mapRowToMovie(rs);
     }
-    private Movie mapRowToMovie(ResultSet rs) throws SQLException {
+    //매핑 비용은 src/jmh 벤치마크에서 직접 측정하므로 패키지 범위로 둠
+    Movie mapRowToMovie(ResultSet rs) throws SQLException {
         // 1. Director 객체 생성
         Director director = new Director(rs.getString("director_name"));
         director.setId(rs.getLong("director_id"));
@@ -242,12 +388,14 @@ public class MovieJdbcRepository implements MovieRepository{
         movie.setId(rs.getLong("id"));
         // 3. [변경] 평점 매핑
         movie.setRating(rs.getDouble("rating"));
+        movie.setVersion(rs.getLong("version"));
+        movie.setRevision(rs.getLong("revision"));
         return movie;
         //여기서 actors처리 안하는 이유  ->  n+1문제... findAll할시에 전체 쿼리+배우와의 관계에 대한 n번의 쿼리가 더 나감 
     }
 
     //ResultSetExtractor
-    private ResultSetExtractor<List<Movie>> movieResultSetExtractor() {
+    ResultSetExtractor<List<Movie>> movieResultSetExtractor() {
         return rs -> {
             Map<Long, Movie> movieMap = new LinkedHashMap<>();//중복제거&순서보장
             while (rs.next()) {
@@ -1,5 +1,6 @@
 package com.cinelog.server.repository.jdbc;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import java.util.Map;
@@ -7,6 +8,7 @@ import java.util.ArrayList;
 
 import javax.sql.DataSource;
 
+import com.cinelog.server.domain.Genre;
 import com.cinelog.server.domain.Review;
 import com.cinelog.server.domain.User;
 import com.cinelog.server.domain.Movie;
@@ -44,7 +46,7 @@ public class ReviewJdbcRepository implements ReviewRepository {
     @Override
     public Optional<Review> findById(Long id) {
         // d.id와 d.name 조인 추가
-        String sql = "SELECT r.*, m.name as movie_name, m.director_id, d.name as director_name, u.user_name " +
+        String sql = "SELECT r.*, m.name as movie_name, m.genre as movie_genre, m.director_id, d.name as director_name, u.user_name " +
                      "FROM reviews r " +
                      "JOIN movies m ON r.movie_id = m.id " +
                      "JOIN directors d ON m.director_id = d.id " + // 감독 조인
@@ -59,7 +61,7 @@ public class ReviewJdbcRepository implements ReviewRepository {
 
     @Override
     public List<Review> findByMovieId(Long movieId) {
-        String sql = "SELECT r.*, m.name as movie_name, m.director_id, d.name as director_name, u.user_name " +
+        String sql = "SELECT r.*, m.name as movie_name, m.genre as movie_genre, m.director_id, d.name as director_name, u.user_name " +
                      "FROM reviews r " +
                      "JOIN movies m ON r.movie_id = m.id " +
                      "JOIN directors d ON m.director_id = d.id " +
@@ -70,7 +72,7 @@ public class ReviewJdbcRepository implements ReviewRepository {
 
     @Override
     public List<Review> findByUserId(Long id) {
-        String sql = "SELECT r.*, m.name as movie_name, m.director_id, d.name as director_name, u.user_name " +
+        String sql = "SELECT r.*, m.name as movie_name, m.genre as movie_genre, m.director_id, d.name as director_name, u.user_name " +
                      "FROM reviews r " +
                      "JOIN movies m ON r.movie_id = m.id " +
                      "JOIN directors d ON m.director_id = d.id " +
@@ -79,6 +81,31 @@ public class ReviewJdbcRepository implements ReviewRepository {
         return jdbcTemplate.query(sql, Map.of("userId", id), reviewRowMapper());
     }
 
+    @Override
+    public List<Review> findRecent(int limit) {
+        String sql = "SELECT r.*, m.name as movie_name, m.genre as movie_genre, m.director_id, d.name as director_name, u.user_name " +
+                     "FROM reviews r " +
+                     "JOIN movies m ON r.movie_id = m.id " +
+                     "JOIN directors d ON m.director_id = d.id " +
+                     "JOIN users u ON r.user_id = u.id " +
+                     "ORDER BY r.created_at DESC, r.id DESC " +
+                     "LIMIT :limit";
+        return jdbcTemplate.query(sql, Map.of("limit", limit), reviewRowMapper());
+    }
+
+    @Override
+    public List<Review> findRecentByGenre(Genre genre, int limit) {
+        String sql = "SELECT r.*, m.name as movie_name, m.genre as movie_genre, m.director_id, d.name as director_name, u.user_name " +
+                     "FROM reviews r " +
+                     "JOIN movies m ON r.movie_id = m.id " +
+                     "JOIN directors d ON m.director_id = d.id " +
+                     "JOIN users u ON r.user_id = u.id " +
+                     "WHERE m.genre = :genre " +
+                     "ORDER BY r.created_at DESC, r.id DESC " +
+                     "LIMIT :limit";
+        return jdbcTemplate.query(sql, Map.of("genre", genre.name(), "limit", limit), reviewRowMapper());
+    }
+
     @Override
     public boolean existsByUserIdAndMovieId(Long userId,Long movieId){
         String sql = "SELECT COUNT(*) FROM reviews WHERE user_id = :userId AND movie_id = :movieId";
@@ -105,7 +132,8 @@ public class ReviewJdbcRepository implements ReviewRepository {
                 .addValue("content", review.getContent())
                 .addValue("rating", review.getRating())
                 .addValue("movie_id", review.getMovie().getId())
-                .addValue("user_id", review.getUser().getId());
+                .addValue("user_id", review.getUser().getId())
+                .addValue("created_at", review.getCreatedAt());
         Number key = jdbcInsert.executeAndReturnKey(params);
         review.setId(key.longValue());
         return review;
@@ -123,29 +151,33 @@ public class ReviewJdbcRepository implements ReviewRepository {
         return review;
     }
 
-    private RowMapper<Review> reviewRowMapper() {//maprow라는 RowMapper 함수형 인터페이스 메서드를 구현하는 람다 리턴
+    //src/jmh 벤치마크에서 직접 호출하므로 패키지 범위
+    RowMapper<Review> reviewRowMapper() {//maprow라는 RowMapper 함수형 인터페이스 메서드를 구현하는 람다 리턴
         return (rs, rowNum) -> {
             User user = new User(rs.getString("user_name"), "PROTECTED_PASSWORD");
             user.setId(rs.getLong("user_id"));
             Director director = new Director(rs.getString("director_name"));
             director.setId(rs.getLong("director_id"));
+            String genre = rs.getString("movie_genre");
             Movie movie = new Movie(
                 rs.getString("movie_name"), 
                 director, // 더 이상 null이 아님
-                null, 
+                genre == null ? null : Genre.valueOf(genre), //장르별 피드 구성에 필요
                 null, 
                 null, 
                 new ArrayList<>() 
             );
             movie.setId(rs.getLong("movie_id"));
             
+            Timestamp createdAt = rs.getTimestamp("created_at");
             //Review 객체 복원 (reconstitute 사용하여 addRating 부작용 방지)
             return Review.reconstitute(
                 rs.getLong("id"),
                 rs.getString("content"),
                 rs.getInt("rating"),
                 user,
-                movie
+                movie,
+                createdAt == null ? null : createdAt.toLocalDateTime()
             );  
         };
     }
@@ -0,0 +1,117 @@
+package com.cinelog.server.repository.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+//HDR 방식(2의 거듭제곱 구간마다 8칸) 지연시간 히스토그램, 단위 마이크로초 -> 상대 오차 12.5% 이내, 약 18분까지 구분
+//요청/커넥션 대기/gc 지표(com.cinelog.server.metrics)에서도 같이 사용
+//스레드마다 고른 셀에만 더하므로 락도, 한 카운터에 몰리는 경합도 없음 (셀 수는 코어 수 기준으로 고정 -> 가상 스레드가 많아도 메모리 일정)
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 30;
+    static final int BUCKETS = SUB_BUCKETS + (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    //버킷 뒤에 합계 칸
+    private static final int COUNT = BUCKETS;
+    private static final int ERRORS = BUCKETS + 1;
+    private static final int ROWS = BUCKETS + 2;
+    private static final int TOTAL_MICROS = BUCKETS + 3;
+    private static final int MAX_MICROS = BUCKETS + 4;
+    private static final int CELL_LENGTH = BUCKETS + 5;
+
+    private final AtomicReferenceArray<AtomicLongArray> cells;
+    private final int mask;
+
+    public LatencyHistogram() {
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.cells = new AtomicReferenceArray<>(stripes);
+        this.mask = stripes - 1;
+    }
+
+    public void record(long micros, long rows, boolean error) {
+        AtomicLongArray cell = cell();
+        cell.getAndIncrement(bucket(micros));
+        cell.getAndIncrement(COUNT);
+        if (error) cell.getAndIncrement(ERRORS);
+        if (rows > 0) cell.getAndAdd(ROWS, rows);
+        cell.getAndAdd(TOTAL_MICROS, micros);
+        if (micros > cell.get(MAX_MICROS)) cell.accumulateAndGet(MAX_MICROS, micros, Math::max);
+    }
+
+    public Snapshot snapshot() {
+        long[] merged = new long[CELL_LENGTH];
+        for (int i = 0; i < cells.length(); i++) {
+            AtomicLongArray cell = cells.get(i);
+            if (cell == null) continue;
+            for (int j = 0; j < MAX_MICROS; j++) merged[j] += cell.get(j);
+            merged[MAX_MICROS] = Math.max(merged[MAX_MICROS], cell.get(MAX_MICROS));
+        }
+        return new Snapshot(merged);
+    }
+
+    static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) return (int) Math.max(0, micros);
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros);
+        if (magnitude > MAX_MAGNITUDE) return BUCKETS - 1;
+        int sub = (int) ((micros >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return SUB_BUCKETS + (magnitude - SUB_BUCKET_BITS) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int bucket) {//버킷에 들어가는 가장 큰 값
+        if (bucket < SUB_BUCKETS) return bucket;
+        int magnitude = (bucket - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        int sub = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + sub) << (magnitude - SUB_BUCKET_BITS);
+        return lower + (1L << (magnitude - SUB_BUCKET_BITS)) - 1;
+    }
+
+    private AtomicLongArray cell() {
+        int hash = System.identityHashCode(Thread.currentThread());
+        int index = (hash ^ (hash >>> 16)) & mask;
+        AtomicLongArray cell = cells.get(index);
+        if (cell != null) return cell;
+        cells.compareAndSet(index, null, new AtomicLongArray(CELL_LENGTH));//처음 쓰는 셀만 만듦
+        return cells.get(index);
+    }
+
+    public static final class Snapshot {
+        private final long[] values;
+
+        private Snapshot(long[] values) {
+            this.values = values;
+        }
+
+        public long count() {
+            return values[COUNT];
+        }
+
+        public long errors() {
+            return values[ERRORS];
+        }
+
+        public long rows() {
+            return values[ROWS];
+        }
+
+        public long totalMicros() {
+            return values[TOTAL_MICROS];
+        }
+
+        public long maxMicros() {
+            return values[MAX_MICROS];
+        }
+
+        public long percentileMicros(double quantile) {
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) count += values[i];//합계 칸과 따로 더한 값 -> 기록 도중 읽어도 범위를 벗어나지 않음
+            if (count == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(count * quantile));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += values[i];
+                if (seen >= rank) return Math.min(upperBound(i), values[MAX_MICROS]);
+            }
+            return values[MAX_MICROS];
+        }
+    }
+}
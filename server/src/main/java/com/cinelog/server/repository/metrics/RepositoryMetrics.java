@@ -0,0 +1,120 @@
+package com.cinelog.server.repository.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+//jdbc 저장소 메서드별 호출 수, 오류 수, 행 수, 지연시간 분포
+//enabled=false 이면 기록하지 않음 (프록시는 남아 있으므로 volatile 읽기 한 번만 추가됨)
+@ManagedResource(objectName = "cinelog:type=RepositoryMetrics")
+public class RepositoryMetrics {
+    private final ConcurrentMap<String, LatencyHistogram> methods = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    public RepositoryMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void record(String method, long nanos, long rows, boolean error) {
+        LatencyHistogram histogram = methods.get(method);
+        if (histogram == null) histogram = methods.computeIfAbsent(method, key -> new LatencyHistogram());
+        histogram.record(nanos / 1000, rows, error);
+    }
+
+    //총 소요 시간이 큰 순서
+    public List<MethodStats> snapshot() {
+        List<MethodStats> stats = new ArrayList<>(methods.size());
+        methods.forEach((method, histogram) -> stats.add(new MethodStats(method, histogram.snapshot())));
+        stats.sort(Comparator.comparingDouble(MethodStats::getTotalMillis).reversed());
+        return stats;
+    }
+
+    @ManagedAttribute
+    public boolean isEnabled() {
+        return enabled;
+    }
+    @ManagedAttribute
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    @ManagedAttribute
+    public String[] getMethods() {
+        return snapshot().stream().map(MethodStats::toString).toArray(String[]::new);
+    }
+    @ManagedOperation
+    public void reset() {
+        methods.clear();
+    }
+
+    public static final class MethodStats {
+        private final String method;
+        private final long calls;
+        private final long errors;
+        private final long rows;
+        private final double totalMillis;
+        private final double p50Millis;
+        private final double p99Millis;
+        private final double p999Millis;
+        private final double maxMillis;
+
+        private MethodStats(String method, LatencyHistogram.Snapshot snapshot) {
+            this.method = method;
+            this.calls = snapshot.count();
+            this.errors = snapshot.errors();
+            this.rows = snapshot.rows();
+            this.totalMillis = snapshot.totalMicros() / 1000.0;
+            this.p50Millis = snapshot.percentileMicros(0.50) / 1000.0;
+            this.p99Millis = snapshot.percentileMicros(0.99) / 1000.0;
+            this.p999Millis = snapshot.percentileMicros(0.999) / 1000.0;
+            this.maxMillis = snapshot.maxMicros() / 1000.0;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public double getTotalMillis() {
+            return totalMillis;
+        }
+
+        public double getP50Millis() {
+            return p50Millis;
+        }
+
+        public double getP99Millis() {
+            return p99Millis;
+        }
+
+        public double getP999Millis() {
+            return p999Millis;
+        }
+
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s calls=%d errors=%d rows=%d total=%.1fms p50=%.3fms p99=%.3fms p999=%.3fms max=%.3fms",
+                    method, calls, errors, rows, totalMillis, p50Millis, p99Millis, p999Millis, maxMillis);
+        }
+    }
+}
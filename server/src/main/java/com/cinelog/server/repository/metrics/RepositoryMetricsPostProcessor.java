@@ -0,0 +1,77 @@
+package com.cinelog.server.repository.metrics;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import com.cinelog.server.repository.jdbc.MovieJdbcRepository;
+
+//repository.jdbc 의 저장소 빈에 측정 프록시를 씌움 (이미 예외 변환 프록시가 있으면 거기에 advisor만 추가)
+//캐시/스냅샷 저장소가 jdbc 저장소를 구체 타입으로 주입받으므로 클래스 기반 프록시
+public class RepositoryMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+    private static final String JDBC_PACKAGE = MovieJdbcRepository.class.getPackageName();
+
+    public RepositoryMetricsPostProcessor(RepositoryMetrics metrics) {
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);//예외 변환 전 원래 예외 기준으로 기록
+        this.advisor = new DefaultPointcutAdvisor(new JdbcRepositoryMethods(), new Interceptor(metrics));
+    }
+
+    private static final class JdbcRepositoryMethods extends StaticMethodMatcherPointcut {
+        private JdbcRepositoryMethods() {
+            setClassFilter(type -> JDBC_PACKAGE.equals(type.getPackageName()));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+        }
+    }
+
+    private static final class Interceptor implements MethodInterceptor {
+        private final RepositoryMetrics metrics;
+        private final Map<Method, String> names = new ConcurrentHashMap<>();
+
+        private Interceptor(RepositoryMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            if (!metrics.isEnabled()) return invocation.proceed();
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                metrics.record(name(invocation), System.nanoTime() - start, rows(result), false);
+                return result;
+            } catch (Throwable e) {
+                metrics.record(name(invocation), System.nanoTime() - start, 0, true);
+                throw e;
+            }
+        }
+
+        private String name(MethodInvocation invocation) {//ActorJdbcRepository.findById
+            Method method = invocation.getMethod();
+            String name = names.get(method);
+            if (name != null) return name;
+            return names.computeIfAbsent(method, key -> invocation.getThis().getClass().getSimpleName() + "." + key.getName());
+        }
+
+        //목록은 크기, Optional 은 0/1, 그 외 반환값(엔티티, 개수, 성공 여부)은 1행으로 봄
+        private static long rows(Object result) {
+            if (result == null) return 0;
+            if (result instanceof Collection<?> collection) return collection.size();
+            if (result instanceof Optional<?> optional) return optional.isPresent() ? 1 : 0;
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.cinelog.server.repository.routing;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+//readOnly 트랜잭션은 복제본, 나머지(쓰기 트랜잭션, 트랜잭션 밖)는 원본으로 보냄
+//복제본 지연이 허용치를 넘으면(replicaAvailable=false) 읽기도 원본으로
+@ManagedResource(objectName = "cinelog:type=ReadWriteRouting")
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    enum Route { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+    private static final Object ROUTE_KEY = new Object();//트랜잭션이 잡은 커넥션의 경로를 묶어두는 리소스 키
+
+    private final BooleanSupplier replicaAvailable;
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder replicaRoutes = new LongAdder();
+    private final LongAdder fallbackRoutes = new LongAdder();
+    private final LongAdder forcedRoutes = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    //트랜잭션 매니저는 readOnly 표시 전에 커넥션을 가져오므로, 실제 커넥션은 첫 쿼리 시점에 고르도록 지연 프록시로 감쌈
+    public static DataSource lazy(ReadWriteRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    //readOnly 트랜잭션 안이라도 원본에서 읽음 (캐시 채우기처럼 옛 값이 오래 남으면 안 되는 조회)
+    //트랜잭션이 아직 커넥션을 잡지 않았을 때만 효과가 있음 -> 이미 복제본에 묶였는지는 isBoundToReplica 로 확인
+    public static <T> T readFromPrimary(Supplier<T> reader) {
+        if (PRIMARY_FORCED.get() != null) return reader.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            PRIMARY_FORCED.remove();
+        }
+    }
+
+    //현재 트랜잭션이 복제본 커넥션을 쓰고 있는지 -> 그 안에서 읽은 값은 원본보다 뒤처졌을 수 있음
+    public static boolean isBoundToReplica() {
+        return TransactionSynchronizationManager.getResource(ROUTE_KEY) == Route.REPLICA;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = route();
+        bindToTransaction(route);
+        return route;
+    }
+
+    private Route route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            return Route.PRIMARY;
+        }
+        if (PRIMARY_FORCED.get() != null) {
+            forcedRoutes.increment();
+            return Route.PRIMARY;
+        }
+        if (!replicaAvailable.getAsBoolean()) {
+            fallbackRoutes.increment();
+            return Route.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return Route.REPLICA;
+    }
+
+    //지연 프록시 덕분에 트랜잭션당 한 번만 호출됨 -> 고른 경로를 트랜잭션이 끝날 때까지 기록
+    private static void bindToTransaction(Route route) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || TransactionSynchronizationManager.hasResource(ROUTE_KEY)) return;
+        TransactionSynchronizationManager.bindResource(ROUTE_KEY, route);
+        TransactionSynchronizationManager.registerSynchronization(new RouteBinding(route));
+    }
+
+    @ManagedAttribute
+    public long getPrimaryRouteCount() {
+        return primaryRoutes.sum();
+    }
+
+    @ManagedAttribute
+    public long getReplicaRouteCount() {
+        return replicaRoutes.sum();
+    }
+
+    @ManagedAttribute
+    public long getFallbackRouteCount() {//복제본 지연으로 원본에서 처리한 읽기
+        return fallbackRoutes.sum();
+    }
+
+    @ManagedAttribute
+    public long getForcedPrimaryRouteCount() {//readFromPrimary 로 원본에서 처리한 읽기
+        return forcedRoutes.sum();
+    }
+
+    //REQUIRES_NEW 로 바깥 트랜잭션이 잠시 멈추면 기록도 같이 내렸다가 되돌림
+    private static final class RouteBinding implements TransactionSynchronization {
+        private final Route route;
+
+        private RouteBinding(Route route) {
+            this.route = route;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ROUTE_KEY);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ROUTE_KEY, route);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ROUTE_KEY);
+        }
+    }
+}
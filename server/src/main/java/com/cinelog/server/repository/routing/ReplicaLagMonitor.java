@@ -0,0 +1,92 @@
+package com.cinelog.server.repository.routing;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+//복제본 지연을 주기적으로 확인 -> 허용치를 넘거나 연결이 안 되면 읽기를 원본으로 돌림
+//lagQuery: 복제 지연(초)을 한 칸으로 반환하는 쿼리, 비어 있으면 연결 가능 여부만 확인
+@ManagedResource(objectName = "cinelog:type=ReplicaLagMonitor")
+public class ReplicaLagMonitor implements BooleanSupplier, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean available = true;
+    private volatile long lastLagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, Duration interval) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLag.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        check();//첫 요청 전에 상태를 알 수 있도록 기동 시 한 번은 바로 확인
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::check, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    void check() {
+        boolean wasAvailable = available;
+        try (Connection connection = replica.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                lastLagMillis = 0;
+                available = connection.isValid(1);
+            } else {
+                try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(lagQuery)) {
+                    //결과가 없거나 null이면 복제가 멈춘 것으로 봄
+                    double lagSeconds = rs.next() ? rs.getDouble(1) : Double.NaN;
+                    boolean known = !Double.isNaN(lagSeconds) && !rs.wasNull();
+                    lastLagMillis = known ? (long) (lagSeconds * 1000) : -1;
+                    available = known && lastLagMillis <= maxLagMillis;
+                }
+            }
+        } catch (SQLException | RuntimeException e) {//예외로 스케줄이 멈추지 않도록
+            lastLagMillis = -1;
+            available = false;
+        }
+        if (wasAvailable != available) {
+            if (available) log.info("복제본이 복구되어 읽기를 복제본으로 보냅니다. (지연 {}ms)", lastLagMillis);
+            else log.warn("복제본 지연({}ms)이 허용치({}ms)를 넘었거나 연결할 수 없어 읽기를 원본으로 보냅니다.", lastLagMillis, maxLagMillis);
+        }
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return available;
+    }
+
+    @ManagedAttribute
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    @ManagedAttribute
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
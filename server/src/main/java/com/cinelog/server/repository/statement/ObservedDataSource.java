@@ -0,0 +1,144 @@
+package com.cinelog.server.repository.statement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+//커넥션과 그 커넥션으로 만든 Statement 를 감싸 execute* 호출마다 리스너에 알림
+//리스너가 없으면 원래 커넥션을 그대로 반환
+public class ObservedDataSource extends DelegatingDataSource {
+    private final Supplier<List<StatementListener>> listeners;
+
+    public ObservedDataSource(DataSource target, Supplier<List<StatementListener>> listeners) {
+        super(target);
+        this.listeners = listeners;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return observe(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return observe(super.getConnection(username, password));
+    }
+
+    private Connection observe(Connection connection) {
+        List<StatementListener> current = listeners.get();
+        if (current.isEmpty()) return connection;
+        boolean captureParameters = current.stream().anyMatch(StatementListener::capturesParameters);
+        return proxy(Connection.class, connection, new ConnectionHandler(connection, current, captureParameters));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static Object identity(Object proxy, Method method, Object[] args) {//트랜잭션 매니저가 커넥션을 비교할 때 프록시 기준으로
+        return method.getName().equals("equals") ? (Object) (proxy == args[0]) : (Object) System.identityHashCode(proxy);
+    }
+
+    private static Object snapshotValue(Object value) {//스트림/LOB 등은 내용을 읽지 않고 타입만
+        if (value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Date || value instanceof Temporal || value instanceof Enum<?>) return value;
+        return "<" + value.getClass().getSimpleName() + ">";
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return (method.getName().equals("equals") && method.getParameterCount() == 1) || (method.getName().equals("hashCode") && method.getParameterCount() == 0);
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private final List<StatementListener> listeners;
+        private final boolean captureParameters;
+
+        private ConnectionHandler(Connection target, List<StatementListener> listeners, boolean captureParameters) {
+            this.target = target;
+            this.listeners = listeners;
+            this.captureParameters = captureParameters;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) return identity(proxy, method, args);
+            Object result = ObservedDataSource.invoke(method, target, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;//prepareStatement(sql, ...)
+            if (result instanceof CallableStatement statement) return proxy(CallableStatement.class, statement, new StatementHandler(statement, sql, listeners, captureParameters));
+            if (result instanceof PreparedStatement statement) return proxy(PreparedStatement.class, statement, new StatementHandler(statement, sql, listeners, captureParameters));
+            if (result instanceof Statement statement) return proxy(Statement.class, statement, new StatementHandler(statement, null, listeners, false));
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        private final List<StatementListener> listeners;
+        private final List<Object> parameters;
+
+        private StatementHandler(Statement target, String preparedSql, List<StatementListener> listeners, boolean captureParameters) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.listeners = listeners;
+            this.parameters = captureParameters ? new ArrayList<>() : null;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) return identity(proxy, method, args);
+            if (parameters != null) capture(method.getName(), args);
+            if (!method.getName().startsWith("execute")) return ObservedDataSource.invoke(method, target, args);
+            //Statement.execute(sql) 는 인자, PreparedStatement.execute() 는 만들 때의 sql
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            for (StatementListener listener : listeners) listener.beforeExecute(sql);
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = ObservedDataSource.invoke(method, target, args);
+                failed = false;
+                return result;
+            } finally {
+                long nanos = System.nanoTime() - start;
+                List<Object> captured = parameters == null ? null : parameters.stream().map(ObservedDataSource::snapshotValue).toList();
+                for (StatementListener listener : listeners) listener.afterExecute(sql, captured, nanos, failed);
+            }
+        }
+
+        //setString(1, ...), setObject(2, ...), setNull(3, ...) -> 순서대로 보관, clearParameters() 면 비움
+        private void capture(String name, Object[] args) {
+            if (name.equals("clearParameters")) {
+                parameters.clear();
+                return;
+            }
+            if (!name.startsWith("set") || args == null || args.length < 2 || !(args[0] instanceof Integer index)) return;
+            while (parameters.size() < index) parameters.add(null);
+            parameters.set(index - 1, name.equals("setNull") ? null : args[1]);
+        }
+    }
+}
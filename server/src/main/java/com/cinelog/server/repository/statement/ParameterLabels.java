@@ -0,0 +1,44 @@
+package com.cinelog.server.repository.statement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//jdbc 에는 ? 만 넘어오므로 sql 에서 각 ? 앞의 컬럼 이름을 찾아 파라미터 이름으로 사용
+//INSERT INTO t (a, b) VALUES (?, ?) 는 컬럼 목록 순서, 그 외는 "컬럼 =, <, >, LIKE, IN (" 바로 뒤의 ?, 못 찾으면 ?n
+final class ParameterLabels {
+    private static final Pattern INSERT = Pattern.compile("(?is)^\\s*insert\\s+into\\s+\\S+\\s*\\(([^)]*)\\)\\s*values\\s*\\(");
+    private static final Pattern COMPARISON = Pattern.compile("(?is)([a-z_][a-z0-9_]*)\\s*(?:=|<>|!=|<=|>=|<|>|\\blike|\\bin\\s*\\([?,\\s]*)\\s*$");
+    private static final Pattern KEYWORD = Pattern.compile("(?is)\\b(limit|offset)\\s*$");
+
+    private ParameterLabels() {
+    }
+
+    static List<String> of(String sql) {
+        List<String> labels = new ArrayList<>();
+        Matcher insert = INSERT.matcher(sql);
+        if (insert.find()) {
+            for (String column : insert.group(1).split(",")) labels.add(column.trim().toLowerCase(Locale.ROOT));
+        }
+        boolean inLiteral = false;
+        int position = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') inLiteral = !inLiteral;
+            if (c != '?' || inLiteral) continue;
+            if (position >= labels.size()) labels.add(labelBefore(sql.substring(0, i), position));
+            position++;
+        }
+        return labels.subList(0, position);
+    }
+
+    private static String labelBefore(String prefix, int position) {
+        Matcher comparison = COMPARISON.matcher(prefix);
+        if (comparison.find()) return comparison.group(1).toLowerCase(Locale.ROOT);
+        Matcher keyword = KEYWORD.matcher(prefix);
+        if (keyword.find()) return keyword.group(1).toLowerCase(Locale.ROOT);
+        return "?" + (position + 1);
+    }
+}
@@ -0,0 +1,22 @@
+package com.cinelog.server.repository.statement;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.Value;
+
+//느린 쿼리 한 건 -> plan 은 실행 계획을 뜬 경우에만 (비동기로 나중에 채워짐)
+@Value
+public class SlowQuery {
+    private LocalDateTime recordedAt;
+    private String thread;
+    private double millis;
+    private boolean failed;
+    private String sql;
+    private Map<String, Object> parameters;//민감 컬럼 값은 가려짐
+    private String plan;
+
+    SlowQuery withPlan(String plan) {
+        return new SlowQuery(recordedAt, thread, millis, failed, sql, parameters, plan);
+    }
+}
@@ -0,0 +1,199 @@
+package com.cinelog.server.repository.statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+import com.cinelog.server.util.RingBuffer;
+
+//threshold 를 넘은 쿼리를 파라미터와 함께 고정 크기 링 버퍼에 기록 (가장 오래된 것부터 덮어씀)
+//SELECT 가 자기 모양(StatementShape) 중 가장 느린 기록을 갱신하면 별도 스레드에서 EXPLAIN 을 떠서 붙임
+@ManagedResource(objectName = "cinelog:type=SlowQueryLog")
+public class SlowQueryLog implements StatementListener, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLog.class);
+    private static final String REDACTED = "****";
+    private static final int MAX_TRACKED_SHAPES = 512;
+    private static final int MAX_VALUE_LENGTH = 200;
+
+    private final Supplier<DataSource> explainDataSource;
+    private final long thresholdNanos;
+    private final Set<String> sensitiveColumns;
+    private final boolean explain;
+    private final RingBuffer<SlowQuery> recent;
+    private final Map<String, Long> slowestByShape = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> labelsBySql = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explainer;
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder explained = new LongAdder();
+
+    //explainDataSource: 관찰 래퍼를 거치지 않는 원본 (EXPLAIN 자체가 다시 기록되지 않도록)
+    public SlowQueryLog(Supplier<DataSource> explainDataSource, Duration threshold, int capacity, Set<String> sensitiveColumns, boolean explain) {
+        this.explainDataSource = explainDataSource;
+        this.thresholdNanos = threshold.toNanos();
+        this.sensitiveColumns = sensitiveColumns;
+        this.explain = explain;
+        this.recent = new RingBuffer<>(capacity);
+        //실행 계획 요청이 몰리면 버림 -> 요청 스레드는 기다리지 않음
+        this.explainer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16), runnable -> {
+            Thread thread = new Thread(runnable, "slow-query-explain");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Override
+    public boolean capturesParameters() {
+        return true;
+    }
+
+    @Override
+    public void afterExecute(String sql, List<Object> parameters, long nanos, boolean failed) {
+        if (nanos < thresholdNanos || sql == null) return;
+        SlowQuery slowQuery = new SlowQuery(LocalDateTime.now(), Thread.currentThread().getName(), nanos / 1e6, failed, sql, describe(sql, parameters), null);
+        recent.append(slowQuery);
+        recorded.increment();
+        log.warn("느린 쿼리 {}ms: {} {}", String.format("%.1f", slowQuery.getMillis()), sql, slowQuery.getParameters());
+        if (explain && !failed && isSelect(sql) && isSlowestOfShape(sql, nanos)) {
+            explainer.execute(() -> attachPlan(slowQuery, parameters));
+        }
+    }
+
+    public List<SlowQuery> getRecent(int limit) {//최신순
+        return recent.latest(limit);
+    }
+
+    private Map<String, Object> describe(String sql, List<Object> parameters) {
+        Map<String, Object> described = new LinkedHashMap<>();
+        if (parameters == null) return described;
+        List<String> labels = labelsBySql.computeIfAbsent(sql, ParameterLabels::of);
+        if (labelsBySql.size() > MAX_TRACKED_SHAPES) labelsBySql.clear();
+        boolean sensitiveSql = containsSensitiveColumn(sql);
+        for (int i = 0; i < parameters.size(); i++) {
+            String label = i < labels.size() ? labels.get(i) : "?" + (i + 1);
+            String key = described.containsKey(label) ? label + "#" + (i + 1) : label;
+            //이름을 못 찾은 값은 민감 컬럼이 있는 쿼리면 같이 가림
+            boolean redact = isSensitive(label) || (label.startsWith("?") && sensitiveSql);
+            described.put(key, redact ? REDACTED : truncate(parameters.get(i)));
+        }
+        return described;
+    }
+
+    private boolean isSensitive(String label) {
+        for (String column : sensitiveColumns) {
+            if (label.contains(column)) return true;
+        }
+        return false;
+    }
+
+    private boolean containsSensitiveColumn(String sql) {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        for (String column : sensitiveColumns) {
+            if (lower.contains(column)) return true;
+        }
+        return false;
+    }
+
+    private static Object truncate(Object value) {
+        if (value instanceof CharSequence text && text.length() > MAX_VALUE_LENGTH) return text.subSequence(0, MAX_VALUE_LENGTH) + "...";
+        return value;
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+    }
+
+    private boolean isSlowestOfShape(String sql, long nanos) {
+        String shape = StatementShape.of(sql);
+        Long previous = slowestByShape.get(shape);
+        if (previous != null ? previous >= nanos : slowestByShape.size() >= MAX_TRACKED_SHAPES) return false;
+        slowestByShape.merge(shape, nanos, Math::max);//동시에 갱신되면 계획을 두 번 뜰 수 있지만 결과는 같음
+        return true;
+    }
+
+    private void attachPlan(SlowQuery slowQuery, List<Object> parameters) {
+        String plan;
+        try (Connection connection = explainDataSource.get().getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + slowQuery.getSql())) {
+            if (parameters != null) {
+                for (int i = 0; i < parameters.size(); i++) statement.setObject(i + 1, parameters.get(i));
+            }
+            plan = readPlan(statement.executeQuery());
+        } catch (SQLException | RuntimeException e) {
+            plan = "EXPLAIN 실패: " + e.getMessage();
+        }
+        String attached = plan;
+        recent.replaceIf(entry -> entry == slowQuery, entry -> entry.withPlan(attached));
+        explained.increment();
+    }
+
+    private static String readPlan(ResultSet rs) throws SQLException {//H2 는 한 칸짜리 계획문, MySQL 은 표 -> 행마다 "컬럼=값" 한 줄
+        try (rs) {
+            ResultSetMetaData meta = rs.getMetaData();
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                if (plan.length() > 0) plan.append('\n');
+                if (meta.getColumnCount() == 1) {
+                    plan.append(rs.getString(1));
+                    continue;
+                }
+                for (int c = 1; c <= meta.getColumnCount(); c++) {
+                    if (c > 1) plan.append(", ");
+                    plan.append(meta.getColumnLabel(c)).append('=').append(rs.getString(c));
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    @ManagedAttribute
+    public long getThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+    @ManagedAttribute
+    public long getRecordedCount() {
+        return recorded.sum();
+    }
+    @ManagedAttribute
+    public long getExplainedCount() {
+        return explained.sum();
+    }
+    @ManagedAttribute
+    public String[] getRecentQueries() {
+        return recent.latest(recent.capacity()).stream()
+                .map(query -> String.format("%s %.1fms %s %s", query.getRecordedAt(), query.getMillis(), query.getSql(), query.getParameters()))
+                .toArray(String[]::new);
+    }
+    @ManagedOperation
+    public void resetSlowest() {//실행 계획을 다시 뜨게 함 (인덱스 추가 후 등)
+        slowestByShape.clear();
+    }
+
+    @Override
+    public void destroy() {
+        explainer.shutdownNow();
+    }
+}
@@ -0,0 +1,124 @@
+package com.cinelog.server.repository.statement;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.cinelog.server.exception.statement.StatementBudgetExceededException;
+
+//요청/트랜잭션 단위 쿼리 수와 db 시간 집계 + 예산 확인
+//열린 구간이 없을 때 트랜잭션 안에서 쿼리가 나가면 트랜잭션 이름(서비스 메서드)으로 구간을 자동으로 열고 완료 시 닫음
+//mode=log: 끝날 때 예산 초과/반복 쿼리를 경고 로그로, mode=fail: 초과하는 쿼리를 실행하기 전에 예외 (테스트용)
+@ManagedResource(objectName = "cinelog:type=StatementBudget")
+public class StatementBudget implements StatementListener {
+    private static final Logger log = LoggerFactory.getLogger(StatementBudget.class);
+
+    public enum Mode { LOG, FAIL }
+
+    private final ThreadLocal<StatementScope> current = new ThreadLocal<>();
+    private final Mode mode;
+    private final int maxStatements;
+    private final int maxRepeats;
+    private final LongAdder scopes = new LongAdder();
+    private final LongAdder overBudget = new LongAdder();
+    private final LongAdder repeatedShapes = new LongAdder();
+    private volatile String lastViolation = "";
+
+    public StatementBudget(Mode mode, int maxStatements, int maxRepeats) {
+        this.mode = mode;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+    }
+
+    //try (StatementScope scope = budget.open("...")) { ... } -> 안쪽 쿼리가 이 구간으로 집계됨
+    public StatementScope open(String name) {
+        StatementScope scope = new StatementScope(name, current.get(), this);
+        current.set(scope);
+        return scope;
+    }
+
+    @Override
+    public void beforeExecute(String sql) {
+        if (mode != Mode.FAIL) return;
+        StatementScope scope = currentOrTransactionScope();
+        if (scope == null) return;
+        if (scope.getStatementCount() + 1 > maxStatements) {
+            throw new StatementBudgetExceededException(scope.getName() + ": 쿼리 수 예산(" + maxStatements + "회)을 넘었습니다.");
+        }
+        String shape = StatementShape.of(sql);
+        if (scope.countOf(shape) + 1 > maxRepeats) {
+            throw new StatementBudgetExceededException(scope.getName() + ": 같은 쿼리가 " + maxRepeats + "회를 넘게 반복됩니다. (n+1 의심) " + shape);
+        }
+    }
+
+    @Override
+    public void afterExecute(String sql, List<Object> parameters, long nanos, boolean failed) {
+        StatementScope scope = currentOrTransactionScope();
+        if (scope != null) scope.record(StatementShape.of(sql), nanos);
+    }
+
+    void close(StatementScope scope) {
+        if (current.get() == scope) {
+            if (scope.parent() == null) current.remove();
+            else current.set(scope.parent());
+        }
+        scopes.increment();
+        Map<String, Integer> repeated = scope.getRepeatedShapes(maxRepeats);
+        boolean over = scope.getStatementCount() > maxStatements;
+        if (!over && repeated.isEmpty()) return;
+        if (over) overBudget.increment();
+        if (!repeated.isEmpty()) repeatedShapes.increment();
+        lastViolation = scope + (repeated.isEmpty() ? "" : " 반복 " + repeated);
+        log.warn("쿼리 예산 초과: {} (예산 {}회, 같은 쿼리 반복 허용 {}회) 반복={}", scope, maxStatements, maxRepeats, repeated);
+    }
+
+    private StatementScope currentOrTransactionScope() {
+        StatementScope scope = current.get();
+        if (scope != null || !TransactionSynchronizationManager.isSynchronizationActive()) return scope;
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        StatementScope transactionScope = open(name == null ? "transaction" : name);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                transactionScope.close();
+            }
+        });
+        return transactionScope;
+    }
+
+    @ManagedAttribute
+    public String getMode() {
+        return mode.name();
+    }
+    @ManagedAttribute
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+    @ManagedAttribute
+    public int getMaxRepeats() {
+        return maxRepeats;
+    }
+    @ManagedAttribute
+    public long getScopeCount() {
+        return scopes.sum();
+    }
+    @ManagedAttribute
+    public long getOverBudgetCount() {
+        return overBudget.sum();
+    }
+    @ManagedAttribute
+    public long getRepeatedShapeCount() {//n+1 의심 구간 수
+        return repeatedShapes.sum();
+    }
+    @ManagedAttribute
+    public String getLastViolation() {
+        return lastViolation;
+    }
+}
@@ -0,0 +1,27 @@
+package com.cinelog.server.repository.statement;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+//http 요청 하나를 쿼리 집계 구간으로 (안쪽 트랜잭션들의 쿼리도 모두 이 요청에 합산)
+public class StatementBudgetFilter extends OncePerRequestFilter {
+    private final StatementBudget budget;
+
+    public StatementBudgetFilter(StatementBudget budget) {
+        this.budget = budget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (StatementScope scope = budget.open(request.getMethod() + " " + request.getRequestURI())) {
+            chain.doFilter(request, response);
+        }
+    }
+}
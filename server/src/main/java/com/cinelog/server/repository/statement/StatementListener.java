@@ -0,0 +1,17 @@
+package com.cinelog.server.repository.statement;
+
+import java.util.List;
+
+//ObservedDataSource 를 거쳐 실행되는 모든 쿼리 전후에 호출됨 (실행한 스레드에서)
+public interface StatementListener {
+    //true 인 리스너가 하나라도 있으면 PreparedStatement 의 set* 값을 모아 afterExecute 로 넘김
+    default boolean capturesParameters() {
+        return false;
+    }
+
+    default void beforeExecute(String sql) {
+    }
+
+    //parameters: i번째 = (i+1)번째 ? 값, 모으지 않으면 null
+    void afterExecute(String sql, List<Object> parameters, long nanos, boolean failed);
+}
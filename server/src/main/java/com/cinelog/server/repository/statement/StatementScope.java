@@ -0,0 +1,91 @@
+package com.cinelog.server.repository.statement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+//한 요청/트랜잭션(또는 테스트에서 직접 연 구간) 동안 실행된 쿼리 수, db 시간, 모양별 횟수
+//한 스레드에서만 쓰임
+public final class StatementScope implements AutoCloseable {
+    private final String name;
+    private final StatementScope parent;
+    private final StatementBudget budget;
+    private final Map<String, Integer> countsByShape = new LinkedHashMap<>();
+    private int statementCount;
+    private long totalNanos;
+    private boolean closed;
+
+    StatementScope(String name, StatementScope parent, StatementBudget budget) {
+        this.name = name;
+        this.parent = parent;
+        this.budget = budget;
+    }
+
+    void record(String shape, long nanos) {
+        statementCount++;
+        totalNanos += nanos;
+        countsByShape.merge(shape, 1, Integer::sum);
+        if (parent != null) parent.record(shape, nanos);//안쪽 구간의 쿼리는 바깥 구간에도 포함
+    }
+
+    int countOf(String shape) {
+        return countsByShape.getOrDefault(shape, 0);
+    }
+
+    StatementScope parent() {
+        return parent;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public double getTotalMillis() {
+        return totalNanos / 1e6;
+    }
+
+    public Map<String, Integer> getCountsByShape() {
+        return Map.copyOf(countsByShape);
+    }
+
+    //같은 모양이 threshold 번을 넘게 실행됐으면 n+1 의심
+    public Map<String, Integer> getRepeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        countsByShape.forEach((shape, count) -> {
+            if (count > threshold) repeated.put(shape, count);
+        });
+        return repeated;
+    }
+
+    //테스트에서 서비스 메서드의 쿼리 수를 고정할 때 사용
+    public StatementScope assertStatementCount(int expected) {
+        if (statementCount != expected) throw new AssertionError(name + ": 쿼리 " + expected + "회를 예상했지만 " + statementCount + "회 실행됨 " + countsByShape);
+        return this;
+    }
+
+    public StatementScope assertAtMost(int max) {
+        if (statementCount > max) throw new AssertionError(name + ": 쿼리는 최대 " + max + "회여야 하지만 " + statementCount + "회 실행됨 " + countsByShape);
+        return this;
+    }
+
+    public StatementScope assertNoRepeatsOver(int threshold) {
+        Map<String, Integer> repeated = getRepeatedShapes(threshold);
+        if (!repeated.isEmpty()) throw new AssertionError(name + ": 같은 쿼리가 " + threshold + "회를 넘게 반복됨 (n+1 의심) " + repeated);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        budget.close(this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: 쿼리 %d회 (%.1fms)", name, statementCount, getTotalMillis());
+    }
+}
@@ -0,0 +1,35 @@
+package com.cinelog.server.repository.statement;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+//값만 다른 쿼리를 같은 모양으로 묶음 -> 리터럴은 ?, IN 목록 (?, ?, ?) 은 (?..), 공백은 하나로
+final class StatementShape {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int CACHE_SIZE = 1024;
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private StatementShape() {
+    }
+
+    static String of(String sql) {
+        if (sql == null) return "";
+        String shape = CACHE.get(sql);
+        if (shape != null) return shape;
+        shape = normalize(sql);
+        if (CACHE.size() >= CACHE_SIZE) CACHE.clear();//IN 목록 길이마다 다른 sql 이 계속 생겨도 메모리 일정
+        CACHE.put(sql, shape);
+        return shape;
+    }
+
+    private static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PLACEHOLDER_LIST.matcher(shape).replaceAll("?..");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -1,12 +1,17 @@
 package com.cinelog.server.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.cinelog.server.domain.Actor;
+import com.cinelog.server.domain.event.ActorChangedEvent;
 import com.cinelog.server.dto.actor.ActorSearchResult;
 import com.cinelog.server.exception.actor.ActorNotFoundException;
 import com.cinelog.server.repository.ActorRepository;
@@ -15,8 +20,10 @@ import com.cinelog.server.repository.ActorRepository;
 @Transactional(readOnly = true)
 public class ActorService {
     private final ActorRepository actorRepository;
-    public ActorService(ActorRepository actorRepository){
+    private final ApplicationEventPublisher eventPublisher;
+    public ActorService(ActorRepository actorRepository,ApplicationEventPublisher eventPublisher){
         this.actorRepository = actorRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -40,16 +47,31 @@ public class ActorService {
     public Actor getActorById(Long id){
         return actorRepository.findById(id).orElseThrow(()->new ActorNotFoundException(id));
     }
+    public List<Actor> getActorsByIds(Collection<Long> ids){//요청한 순서대로 반환, 하나라도 없으면 예외
+        Map<Long, Actor> found = new HashMap<>();
+        for(Actor actor : actorRepository.findAllByIds(ids)){
+            found.put(actor.getId(), actor);
+        }
+        List<Actor> actors = new ArrayList<>(ids.size());
+        for(Long id : ids){
+            Actor actor = found.get(id);
+            if(actor==null)throw new ActorNotFoundException(id);
+            actors.add(actor);
+        }
+        return actors;
+    }
 
     @Transactional
     public void updateActor(Long id,String newName){
         Actor actor = getActorById(id);
         actor.changeName(newName);
         actorRepository.save(actor);
+        eventPublisher.publishEvent(new ActorChangedEvent(id));//영화 캐시에 들어있는 출연진 이름 갱신
     }
 
     @Transactional
     public void deleteActor(Long id){
+        eventPublisher.publishEvent(new ActorChangedEvent(id));//출연 관계가 cascade로 지워지기 전에 -> 출연했던 영화를 찾을 수 있음 (없는 배우면 아래 예외로 함께 롤백)
         if(!actorRepository.delete(id)) throw new ActorNotFoundException(id);
     }
 }
\ No newline at end of file
@@ -4,15 +4,20 @@ import org.springframework.stereotype.Service;
 
 import com.cinelog.server.domain.User;
 import com.cinelog.server.dto.user.SessionUser;
+import com.cinelog.server.exception.security.InvalidPasswordException;
 import com.cinelog.server.exception.security.UnAuthorizedException;
+import com.cinelog.server.exception.user.UserNotFoundException;
+import com.cinelog.server.service.security.LoginThrottle;
 
 @Service
 public class AuthFacade {
     private UserService userService;
     private SessionManager sessionManager;
-    public AuthFacade(UserService userService,SessionManager sessionManager){
+    private LoginThrottle loginThrottle;
+    public AuthFacade(UserService userService,SessionManager sessionManager,LoginThrottle loginThrottle){
         this.userService = userService;
         this.sessionManager = sessionManager;
+        this.loginThrottle = loginThrottle;
     }
 
     public void createUser(String userName,String password){
@@ -23,7 +28,15 @@ public class AuthFacade {
     }    
 
     public void login(String username,String password){
-        User user = userService.login(username,password);
+        String clientAddress = sessionManager.getClientAddress();
+        loginThrottle.acquire(username, clientAddress);//db 조회, 해싱 전에 먼저 거름
+        User user;
+        try{
+            user = userService.login(username,password);
+        }catch(UserNotFoundException | InvalidPasswordException e){//주소 한도는 실패한 시도만 차감
+            loginThrottle.recordFailure(clientAddress);
+            throw e;
+        }
         SessionUser sessionUser = new SessionUser(user);
         sessionManager.saveLoginUser(sessionUser);
     }
@@ -39,12 +52,12 @@ public class AuthFacade {
     public void updatePassword(String currentPassword,String newPassword){
         SessionUser sessionUser = getUser();
         userService.updatePassword(currentPassword, newPassword, sessionUser.getId());
-        logout();
+        sessionManager.logoutEverywhere(sessionUser.getId());//다른 기기에서 발급된 토큰도 폐기
     }
     public void deleteUser(){
         SessionUser sessionUser = getUser();
         userService.deleteUser(sessionUser.getId());
-        logout();
+        sessionManager.logoutEverywhere(sessionUser.getId());
     }
 
     public boolean isLoggedIn(){
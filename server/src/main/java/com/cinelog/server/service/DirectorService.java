@@ -3,10 +3,12 @@ package com.cinelog.server.service;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.cinelog.server.domain.Director;
+import com.cinelog.server.domain.event.DirectorChangedEvent;
 import com.cinelog.server.dto.director.DirectorSearchResult;
 import com.cinelog.server.exception.director.DirectorNotFoundException;
 import com.cinelog.server.repository.DirectorRepository;
@@ -17,9 +19,11 @@ public class DirectorService {
 
     private final DirectorRepository directorRepository;
     private final MovieRepository movieRepository;
-    public DirectorService(DirectorRepository directorRepository,MovieRepository movieRepository){
+    private final ApplicationEventPublisher eventPublisher;
+    public DirectorService(DirectorRepository directorRepository,MovieRepository movieRepository,ApplicationEventPublisher eventPublisher){
         this.directorRepository=directorRepository;
         this.movieRepository = movieRepository;
+        this.eventPublisher = eventPublisher;
     }
     
     @Transactional
@@ -48,6 +52,7 @@ public class DirectorService {
         Director director = getDirectorById(id);
         director.changeName(name);
         directorRepository.save(director);
+        eventPublisher.publishEvent(new DirectorChangedEvent(id));//영화 캐시에 들어있는 감독 이름 갱신
     }
 
     @Transactional
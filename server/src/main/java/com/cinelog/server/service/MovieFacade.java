@@ -1,52 +1,71 @@
 package com.cinelog.server.service;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.cinelog.server.domain.Actor;
 import com.cinelog.server.domain.Director;
 import com.cinelog.server.domain.Genre;
 import com.cinelog.server.domain.Movie;
+import com.cinelog.server.exception.movie.MovieVersionConflictException;
 
 @Service
 public class MovieFacade {
+    private static final int MAX_EDIT_ATTEMPTS = 3;
     private final MovieService movieService;
     private final ActorService actorService;
     private final DirectorService directorService;
-    public MovieFacade(MovieService movieService,ActorService actorService,DirectorService directorService){
+    private final TransactionTemplate transactionTemplate;
+    public MovieFacade(MovieService movieService,ActorService actorService,DirectorService directorService,PlatformTransactionManager transactionManager){
         this.movieService = movieService;
         this.actorService = actorService;
         this.directorService = directorService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     //객체 조립이 필요한 메서드들
     @Transactional
     public void createMovie(String name, Genre genre, LocalDate releaseDate, String description,Long directorId,Long ... actorIds){
         Director director = directorService.getDirectorById(directorId);
-        ArrayList<Actor> actors=new ArrayList<>();
-        for(Long actorId: actorIds){
-            actors.add(actorService.getActorById(actorId));
-        }
+        List<Actor> actors = actorService.getActorsByIds(Arrays.asList(actorIds));//배우 수와 상관없이 한 번에 조회
         movieService.createMovie(name, director, genre, releaseDate, description, actors);
     }
-    @Transactional
+    //조회 -> 수정 -> 버전 확인 저장을 한 트랜잭션으로, 다른 수정이 먼저 반영됐으면 새로 조회해서 다시 시도 (락 없이 변경 유실 방지)
     public void updateMovieDirector(Long movieId, Long directorId){
-        Movie movie = movieService.getMovieById(movieId);
-        Director director = directorService.getDirectorById(directorId);
-        movieService.updateMovieDirector(movie,director);
+        retryOnConflict(() -> {
+            Movie movie = movieService.getMovieById(movieId);
+            Director director = directorService.getDirectorById(directorId);
+            movieService.updateMovieDirector(movie,director);
+        });
     }
-    @Transactional
     public void removeActorFromMovie(Long movieId,Long actorId){
-        Movie movie = movieService.getMovieById(movieId);
-        Actor actor = actorService.getActorById(actorId);
-        movieService.removeActorFromMovie(movie,actor);
+        retryOnConflict(() -> {
+            Movie movie = movieService.getMovieById(movieId);
+            Actor actor = actorService.getActorById(actorId);
+            movieService.removeActorFromMovie(movie,actor);
+        });
     }
-    @Transactional
     public void addActorToMovie(Long movieId,Long actorId){
-        Movie movie = movieService.getMovieById(movieId);
-        Actor actor = actorService.getActorById(actorId);
-        movieService.addActorToMovie(movie,actor);
+        retryOnConflict(() -> {
+            Movie movie = movieService.getMovieById(movieId);
+            Actor actor = actorService.getActorById(actorId);
+            movieService.addActorToMovie(movie,actor);
+        });
+    }
+
+    private void retryOnConflict(Runnable edit){//시도마다 새 트랜잭션 -> 실패한 시도는 롤백되고, 충돌 시 저장소가 캐시의 옛 버전을 지우므로 다음 시도는 최신 버전을 읽음
+        for(int attempt = 1; ; attempt++){
+            try{
+                transactionTemplate.executeWithoutResult(status -> edit.run());
+                return;
+            }catch(MovieVersionConflictException e){
+                if(attempt >= MAX_EDIT_ATTEMPTS) throw e;
+            }
+        }
     }
 }
@@ -1,28 +1,63 @@
 package com.cinelog.server.service;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
 import org.springframework.context.event.EventListener;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
 import org.springframework.stereotype.Component;
 
 import com.cinelog.server.domain.Movie;
 import com.cinelog.server.domain.RatingPolicy;
 import com.cinelog.server.domain.event.ReviewChangedEvent;
+import com.cinelog.server.service.live.RatingBroadcastHub;
 
 @Component
-public class MovieRatingEventHandler{   
+@ManagedResource(objectName = "cinelog:type=ReviewEventHandler")
+public class MovieRatingEventHandler{
     private final MovieService movieService;
     private RatingPolicy ratingPolicy;
+    private final RatingBroadcastHub ratingBroadcastHub;
+    //이벤트는 발행한 스레드에서 바로 처리되므로 처리 중인 이벤트 수 = 대기열 깊이
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder handled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
 
-    MovieRatingEventHandler(MovieService movieService, RatingPolicy ratingPolicy){
+    MovieRatingEventHandler(MovieService movieService, RatingPolicy ratingPolicy, RatingBroadcastHub ratingBroadcastHub){
         this.movieService = movieService;
         this.ratingPolicy = ratingPolicy;
+        this.ratingBroadcastHub = ratingBroadcastHub;
     }
 
     @EventListener
     public void handleReviewChangedEvent(ReviewChangedEvent event) {
-        Long movieId = event.getMovieId();
-        Movie movie = movieService.getMovieById(movieId);
+        inFlight.incrementAndGet();
+        boolean succeeded = false;
+        try {
+            Long movieId = event.getMovieId();
+            Movie movie = movieService.getMovieById(movieId);
+
+            Double newRating = ratingPolicy.calculateRating(movieId);
+            movieService.updateMovieRating(movie, newRating);
+            ratingBroadcastHub.publish(movieId, newRating);//커밋 후 구독자에게 전송
+            succeeded = true;
+        } finally {
+            inFlight.decrementAndGet();
+            (succeeded ? handled : failed).increment();
+        }
+    }
 
-        Double newRating = ratingPolicy.calculateRating(movieId);
-        movieService.updateMovieRating(movie, newRating);
+    @ManagedAttribute
+    public int getInFlight() {
+        return inFlight.get();
+    }
+    @ManagedAttribute
+    public long getHandledCount() {
+        return handled.sum();
+    }
+    @ManagedAttribute
+    public long getFailedCount() {
+        return failed.sum();
     }
 }
\ No newline at end of file
@@ -2,8 +2,15 @@ package com.cinelog.server.service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,30 +18,89 @@ import com.cinelog.server.domain.Actor;
 import com.cinelog.server.domain.Director;
 import com.cinelog.server.domain.Genre;
 import com.cinelog.server.domain.Movie;
+import com.cinelog.server.domain.event.ActorChangedEvent;
+import com.cinelog.server.domain.event.DirectorChangedEvent;
+import com.cinelog.server.domain.event.MovieDeletedEvent;
+import com.cinelog.server.domain.event.MovieInfoChangedEvent;
+import com.cinelog.server.domain.event.UserNameChangedEvent;
+import com.cinelog.server.dto.movie.MovieBrowseCondition;
+import com.cinelog.server.dto.movie.MovieBrowsePage;
+import com.cinelog.server.dto.movie.MovieMultiGetResult;
+import com.cinelog.server.dto.movie.MovieProjection;
 import com.cinelog.server.dto.movie.MovieSearchResult;
+import com.cinelog.server.dto.movie.MovieStamp;
 import com.cinelog.server.dto.movie.MovieUpdateRequest;
+import com.cinelog.server.dto.movie.MovieView;
 import com.cinelog.server.exception.movie.MovieNotFoundException;
 import com.cinelog.server.repository.MovieRepository;
+import com.cinelog.server.service.browse.GenreIndex;
 
 @Service
 @Transactional(readOnly = true)
 public class MovieService {
     
     private final MovieRepository movieRepository;
+    private final GenreIndex genreIndex;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public MovieService(MovieRepository movieRepository){
+    public MovieService(MovieRepository movieRepository,GenreIndex genreIndex,ApplicationEventPublisher eventPublisher){
         this.movieRepository = movieRepository;
+        this.genreIndex = genreIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public void createMovie(String name, Director director, Genre genre, LocalDate releaseDate, String description,List<Actor> actors){
         Movie movie = new Movie(name,director,genre,releaseDate,description,actors);
         movieRepository.save(movie);
+        genreIndex.put(movie);
     }//이미 존재하는 영화인지 다른 식별자를 이용해 체크하고 입력하는 방안 고민
    
     public Movie getMovieById(Long id){
         return movieRepository.findById(id).orElseThrow(()->new MovieNotFoundException(id));
     }
+    public Optional<MovieStamp> findStamp(Long id){//조건부 GET -> 바뀌지 않았으면 영화/리뷰를 읽지 않고 304
+        return movieRepository.findStamp(id);
+    }
+    public MovieMultiGetResult findAllByIds(Collection<Long> ids){//찜 목록, 추천 목록 등 여러 영화를 한 번에 조회
+        Map<Long, Movie> found = new HashMap<>();
+        for(Movie movie : movieRepository.findAllByIds(ids)){
+            found.put(movie.getId(), movie);
+        }
+        List<Movie> movies = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for(Long id : new LinkedHashSet<>(ids)){
+            Movie movie = found.get(id);
+            if(movie==null)missingIds.add(id);
+            else movies.add(movie);
+        }
+        return new MovieMultiGetResult(movies, missingIds);
+    }
+    //목록/검색 화면용 -> projection 범위만 조회 (SUMMARY 는 감독/출연진/설명을 읽지 않음)
+    public List<MovieView> findAllByIds(Collection<Long> ids, MovieProjection projection){//요청한 id 순서대로, 없는 id는 빠짐
+        Map<Long, MovieView> found = new HashMap<>();
+        for(MovieView view : movieRepository.findViewsByIds(ids, projection)){
+            found.put(view.getId(), view);
+        }
+        List<MovieView> views = new ArrayList<>(found.size());
+        for(Long id : new LinkedHashSet<>(ids)){
+            MovieView view = found.get(id);
+            if(view!=null)views.add(view);
+        }
+        return views;
+    }
+    public List<MovieView> findAllMoviesByKeyword(String keyword, MovieProjection projection){
+        return movieRepository.findViewsByNameContaining(keyword, projection);
+    }
+    public MovieBrowsePage browseMovies(MovieBrowseCondition condition, int page, int size){//장르/연도/평점 조건 -> 인덱스에서 id만 구하고 해당 페이지만 조회
+        if(page<0||size<=0)throw new IllegalArgumentException("페이지 정보가 잘못되었습니다.");
+        if(condition.getFromYear()!=null&&condition.getToYear()!=null&&condition.getFromYear()>condition.getToYear()){
+            throw new IllegalArgumentException("시작 연도가 종료 연도보다 늦을 수 없습니다.");
+        }
+        GenreIndex.Result result = genreIndex.search(condition, Math.multiplyExact(page, size), size);
+        List<Movie> movies = findAllByIds(result.getIds()).getMovies();
+        return new MovieBrowsePage(movies, result.getTotalCount(), page, size);
+    }
     public List<Movie> findAllMovies(){
         return movieRepository.findAll();
     }
@@ -51,8 +117,11 @@ public class MovieService {
     @Transactional
     public void updateMovieInfo(Long id,MovieUpdateRequest request){
         Movie movie = getMovieById(id);
+        Genre previousGenre = movie.getGenre();
         movie.updateMovieInfo(request.getName(), request.getGenre(), request.getReleaseDate(), request.getDescription());
         movieRepository.save(movie);
+        genreIndex.put(movie);
+        eventPublisher.publishEvent(new MovieInfoChangedEvent(id, movie.getName(), movie.getGenre(), previousGenre));//리뷰 피드의 영화 이름/장르 갱신
     }
     @Transactional
     public void updateMovieDirector(Movie movie, Director director) {
@@ -71,13 +140,38 @@ public class MovieService {
     }
     @Transactional
     public void updateMovieRating(Movie movie, Double rating){
-        movie.updateRating(rating);
-        movieRepository.save(movie);
+        movie.updateRating(rating);//값 검증
+        movieRepository.updateRating(movie.getId(), rating);
+        genreIndex.put(movie);
+    }
+
+    @Transactional
+    public void touchReviews(Long movieId){//리뷰 작성/수정/삭제
+        movieRepository.touchReviews(movieId);
+    }
+
+    //상세 응답에 들어가는 배우/감독 이름, 리뷰 목록의 작성자 이름이 바뀌면 변경 표시도 올림 (발행한 쪽 트랜잭션에 합류)
+    @Transactional
+    @EventListener
+    public void handleActorChangedEvent(ActorChangedEvent event){
+        movieRepository.touchByActorId(event.getActorId());
+    }
+    @Transactional
+    @EventListener
+    public void handleDirectorChangedEvent(DirectorChangedEvent event){
+        movieRepository.touchByDirectorId(event.getDirectorId());
+    }
+    @Transactional
+    @EventListener
+    public void handleUserNameChangedEvent(UserNameChangedEvent event){
+        movieRepository.touchReviewsByUserId(event.getUserId());
     }
 
     @Transactional
     public void deleteMovie(Long id){
         if(!movieRepository.delete(id))throw new MovieNotFoundException(id);
+        genreIndex.remove(id);
+        eventPublisher.publishEvent(new MovieDeletedEvent(id));//함께 지워진 리뷰를 피드에서도 뺌
     }
     
     private List<MovieSearchResult> toMovieSearchResult(List<Movie> movies){
@@ -6,12 +6,15 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.cinelog.server.domain.Genre;
 import com.cinelog.server.domain.Movie;
 import com.cinelog.server.domain.Review;
 import com.cinelog.server.domain.User;
 import com.cinelog.server.domain.event.ReviewChangedEvent;
+import com.cinelog.server.dto.review.ReviewSummary;
 import com.cinelog.server.exception.security.ForbiddenException;
 import com.cinelog.server.repository.ReviewRepository;
+import com.cinelog.server.service.feed.RecentReviewFeed;
 
 @Service
 @Transactional(readOnly = true)
@@ -20,12 +23,14 @@ public class ReviewService {
     private final UserService userService;
     private final ReviewRepository reviewRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final RecentReviewFeed recentReviewFeed;
     
-    public ReviewService(ReviewRepository reviewRepository,MovieService movieService,UserService userService,ApplicationEventPublisher eventPublisher){
+    public ReviewService(ReviewRepository reviewRepository,MovieService movieService,UserService userService,ApplicationEventPublisher eventPublisher,RecentReviewFeed recentReviewFeed){
         this.reviewRepository = reviewRepository;
         this.movieService = movieService;
         this.userService = userService;
         this.eventPublisher = eventPublisher;
+        this.recentReviewFeed = recentReviewFeed;
     }
 
     @Transactional
@@ -36,6 +41,8 @@ public class ReviewService {
         Review review = Review.create(content,rating,user,movie);
 
         reviewRepository.save(review);
+        movieService.touchReviews(movieId);
+        recentReviewFeed.append(review);
         
         eventPublisher.publishEvent(new ReviewChangedEvent(movieId));
     }
@@ -46,15 +53,22 @@ public class ReviewService {
     public List<Review> findReviewByUserId(Long userId) {//내 리뷰 보기
         return reviewRepository.findByUserId(userId);
     }
+    public List<ReviewSummary> findRecentReviews(int limit) {//홈 화면 최신 리뷰 -> 메모리 피드에서 바로 반환
+        return recentReviewFeed.getRecent(limit);
+    }
+    public List<ReviewSummary> findRecentReviewsByGenre(Genre genre, int limit) {
+        return recentReviewFeed.getRecentByGenre(genre, limit);
+    }
     
     @Transactional
     public void updateReview(String content,Integer rating,Long reviewId,Long userId){
         Review review = getReviewById(reviewId);
-        User user = userService.getUserById(userId);
-        if(!isReviewOwner(user, review))throw new ForbiddenException("수정할 수 있는 유저가 아닙니다.");
+        if(!isReviewOwner(userId, review))throw new ForbiddenException("수정할 수 있는 유저가 아닙니다.");
 
         review.update(content,rating);
         reviewRepository.save(review);
+        movieService.touchReviews(review.getMovieId());
+        recentReviewFeed.update(reviewId, content, rating);
         
         eventPublisher.publishEvent(new ReviewChangedEvent(review.getMovieId()));
     }
@@ -62,15 +76,16 @@ public class ReviewService {
     @Transactional
     public void deleteReview(Long reviewId,Long userId){
         Review review = getReviewById(reviewId);
-        User user = userService.getUserById(userId);
-        if(!isReviewOwner(user, review))throw new ForbiddenException("삭제할 수 있는 유저가 아닙니다.");
+        if(!isReviewOwner(userId, review))throw new ForbiddenException("삭제할 수 있는 유저가 아닙니다.");
         reviewRepository.delete(reviewId);
+        movieService.touchReviews(review.getMovieId());
+        recentReviewFeed.remove(reviewId);
 
         eventPublisher.publishEvent(new ReviewChangedEvent(review.getMovieId()));
     }
 
-    private boolean isReviewOwner(User user,Review review){
-        return review.isOwner(user);
+    private boolean isReviewOwner(Long userId,Review review){//id 비교만 하므로 users 테이블 조회 없음
+        return review.isOwnedBy(userId);
     }
     private Review getReviewById(Long reviewId){
         return reviewRepository.findById(reviewId).orElseThrow(()->new IllegalArgumentException("내 리뷰에 존재하지 않는 리뷰 id입니다."));
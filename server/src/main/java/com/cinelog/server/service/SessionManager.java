@@ -7,46 +7,51 @@ import org.springframework.web.context.annotation.RequestScope;
 
 import com.cinelog.server.dto.user.SessionUser;
 import com.cinelog.server.exception.security.UnAuthorizedException;
+import com.cinelog.server.service.session.SessionStore;
 
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletResponse;
 
 @Component
 @RequestScope//필요없긴한데 안정성 위해 추가
 public class SessionManager {
     private final HttpServletRequest request;
-    private static final String LOGIN_USER = "loginUser";
-    public SessionManager(HttpServletRequest request) {
+    private final HttpServletResponse response;
+    private final SessionStore sessionStore;//저장 위치는 cinelog.session.store 설정으로 선택
+    public SessionManager(HttpServletRequest request, HttpServletResponse response, SessionStore sessionStore) {
         this.request = request;
+        this.response = response;
+        this.sessionStore = sessionStore;
     }
 
-    public void saveLoginUser(SessionUser user) {//세션 고정공격 방어
-        HttpSession session = request.getSession(false);
-        if(session!=null)session.invalidate();
-        HttpSession newSession = request.getSession(true);
-        newSession.setAttribute(LOGIN_USER, user);//사물함 안에 유저 설정
+    public void saveLoginUser(SessionUser user) {//세션 고정공격 방어 -> 저장소가 기존 세션 폐기 후 새로 발급
+        sessionStore.create(request, response, user);
     }
 
     public void logout() {
-        HttpSession session = request.getSession(false);
-        if(session!=null) session.invalidate();
+        sessionStore.invalidate(request, response);
+    }
+
+    public void logoutEverywhere(Long userId) {//다른 기기의 세션까지 폐기 (저장소가 지원하는 경우)
+        sessionStore.invalidateAll(request, response, userId);
     }
 
     public void changeUserName(String name){
         SessionUser currentUser = getLoginUser().orElseThrow(() -> new UnAuthorizedException("로그인 상태가 아닙니다."));
         SessionUser newUser = new SessionUser(currentUser.getId(),name,currentUser.getRole());
-        
-        HttpSession session = request.getSession(false);
-        session.setAttribute(LOGIN_USER, newUser);
+        sessionStore.update(request, response, newUser);
     }
 
     public boolean isLoggedIn(){
         return !getLoginUser().isEmpty();
     }
 
+    //프록시 뒤에서는 server.forward-headers-strategy 설정으로 신뢰하는 프록시가 넘긴 X-Forwarded-For 의 주소가 들어옴
+    public String getClientAddress(){
+        return request.getRemoteAddr();
+    }
+
     public Optional<SessionUser> getLoginUser() {
-        HttpSession session = request.getSession(false);
-        if(session==null)return Optional.empty();
-        return Optional.ofNullable((SessionUser) session.getAttribute(LOGIN_USER));
+        return sessionStore.find(request, response);
     }
 }
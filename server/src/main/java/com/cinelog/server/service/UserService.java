@@ -1,24 +1,31 @@
 package com.cinelog.server.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.cinelog.server.domain.Role;
 import com.cinelog.server.domain.User;
+import com.cinelog.server.domain.event.UserNameChangedEvent;
 import com.cinelog.server.exception.security.InvalidPasswordException;
 import com.cinelog.server.exception.user.DuplicateUserNameException;
 import com.cinelog.server.exception.user.UserNotFoundException;
 import com.cinelog.server.repository.UserRepository;
+import com.cinelog.server.service.security.BCryptCostStats;
 
 @Service
 @Transactional(readOnly = true)
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    public UserService(UserRepository userRepository,PasswordEncoder passwordEncoder){
+    private final BCryptCostStats bcryptCostStats;
+    private final ApplicationEventPublisher eventPublisher;
+    public UserService(UserRepository userRepository,PasswordEncoder passwordEncoder,BCryptCostStats bcryptCostStats,ApplicationEventPublisher eventPublisher){
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.bcryptCostStats = bcryptCostStats;
+        this.eventPublisher = eventPublisher;
     }
     @Transactional
     public void createUser(String userName,String password){//회원가입->삭제된 회원으로 로그인 막아야됨 "탈퇴한회원" 못쓰게하기??
@@ -35,10 +42,13 @@ public class UserService {
         userRepository.save(newUser);
     }
 
+    @Transactional//예전 cost로 저장된 비밀번호는 재해싱해서 저장하므로 쓰기 트랜잭션
     public User login(String userName,String password){//로그인 - 탈퇴한회원 로그인 걱정 x jdbc단에서 막혀있음
         User user = getUserByUserName(userName);
-        if(checkPassword(user,password))return user;
-        else throw new InvalidPasswordException();
+        if(!checkPassword(user,password))throw new InvalidPasswordException();
+        bcryptCostStats.recordLogin(user.getPassword());
+        rehashIfOutdated(user, password);
+        return user;
     }
 
     public User getUserById(Long id){
@@ -53,6 +63,7 @@ public class UserService {
         validateUserName(newName);
         user.changeName(newName);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserNameChangedEvent(id, user.getName()));//작성한 리뷰 목록의 변경 표시, 리뷰 피드의 작성자 이름 갱신
         return true;
     }
     @Transactional
@@ -66,8 +77,9 @@ public class UserService {
     @Transactional
     public void deleteUser(Long id){//실제 삭제가 아닌 상태 변경 후 논리 삭제
         User user = getUserById(id);
-        user.deactivate();
+        user.deactivate();//이름도 "탈퇴한 회원_id" 로 바뀜
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserNameChangedEvent(id, user.getName()));//작성한 리뷰 목록의 변경 표시, 리뷰 피드의 작성자 이름 갱신
     }
 
     private User getUserByUserName(String userName){
@@ -82,5 +94,11 @@ public class UserService {
     private boolean checkPassword(User user,String password){
         return passwordEncoder.matches(password,user.getPassword());
     }
+    private void rehashIfOutdated(User user,String password){//평문을 아는 건 로그인 순간뿐이라 이때 새 cost로 교체
+        if(!passwordEncoder.upgradeEncoding(user.getPassword()))return;
+        user.changePassword(passwordEncoder.encode(password));
+        userRepository.save(user);
+        bcryptCostStats.recordRehash();
+    }
 
 }
@@ -0,0 +1,201 @@
+package com.cinelog.server.service.browse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+import com.cinelog.server.dto.movie.MovieBrowseCondition;
+import com.cinelog.server.repository.MovieRepository;
+
+//장르/개봉연도별 영화 id 비트맵 -> 장르 페이지에서 findAll 후 자바로 거르지 않고 비트 연산으로 교집합만 구함
+//비트 위치 = 영화 id (auto increment라 촘촘함), 평점은 id 위치의 배열로 교집합 결과에만 비교
+@Component
+@ManagedResource(objectName = "cinelog:type=GenreIndex")
+public class GenreIndex {
+    private static final byte NO_GENRE = -1;
+    private static final int NO_YEAR = Integer.MIN_VALUE;
+
+    private final MovieRepository movieRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Genre, BitSet> byGenre = new EnumMap<>(Genre.class);
+    private final TreeMap<Integer, BitSet> byYear = new TreeMap<>();
+    private final BitSet all = new BitSet();
+    private byte[] genres = new byte[0];
+    private int[] years = new int[0];
+    private double[] ratings = new double[0];
+
+    public GenreIndex(MovieRepository movieRepository) {
+        this.movieRepository = movieRepository;
+        for (Genre genre : Genre.values()) byGenre.put(genre, new BitSet());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @ManagedOperation
+    public void rebuild() {
+        List<Movie> movies = movieRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            byGenre.values().forEach(BitSet::clear);
+            byYear.clear();
+            all.clear();
+            for (Movie movie : movies) index(movie);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //생성, 정보 수정, 평점 갱신 -> 롤백된 변경이 남지 않도록 커밋 이후에 반영
+    public void put(Movie movie) {
+        Long id = movie.getId();
+        Genre genre = movie.getGenre();
+        Integer year = movie.getReleaseDate() == null ? null : movie.getReleaseDate().getYear();
+        double rating = movie.getRating() == null ? 0.0 : movie.getRating();
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                unindex(position(id));
+                index(position(id), genre, year, rating);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(Long id) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                unindex(position(id));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    //조건에 맞는 영화 id를 최신 등록순(id 내림차순)으로 offset부터 limit개
+    public Result search(MovieBrowseCondition condition, int offset, int limit) {
+        lock.readLock().lock();
+        BitSet matched;
+        try {
+            matched = (BitSet) (condition.getGenre() == null ? all : byGenre.get(condition.getGenre())).clone();
+            if (condition.getFromYear() != null || condition.getToYear() != null) {
+                int from = condition.getFromYear() == null ? NO_YEAR + 1 : condition.getFromYear();
+                int to = condition.getToYear() == null ? Integer.MAX_VALUE : condition.getToYear();
+                BitSet inRange = new BitSet();
+                for (BitSet year : byYear.subMap(from, true, to, true).values()) inRange.or(year);
+                matched.and(inRange);
+            }
+            if (condition.getMinRating() != null) {
+                double minRating = condition.getMinRating();
+                for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                    if (ratings[i] < minRating) matched.clear(i);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Long> ids = new ArrayList<>(Math.max(0, Math.min(limit, matched.cardinality() - offset)));
+        int skipped = 0;
+        for (int i = matched.length() - 1; i >= 0 && ids.size() < limit; i = matched.previousSetBit(i - 1)) {
+            if (skipped++ < offset) continue;
+            ids.add((long) i);
+        }
+        return new Result(ids, matched.cardinality());
+    }
+
+    @ManagedAttribute
+    public int getMovieCount() {
+        lock.readLock().lock();
+        try {
+            return all.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(Movie movie) {
+        Integer year = movie.getReleaseDate() == null ? null : movie.getReleaseDate().getYear();
+        index(position(movie.getId()), movie.getGenre(), year, movie.getRating() == null ? 0.0 : movie.getRating());
+    }
+
+    private void index(int position, Genre genre, Integer year, double rating) {
+        ensureCapacity(position);
+        all.set(position);
+        genres[position] = genre == null ? NO_GENRE : (byte) genre.ordinal();
+        if (genre != null) byGenre.get(genre).set(position);
+        years[position] = year == null ? NO_YEAR : year;
+        if (year != null) byYear.computeIfAbsent(year, key -> new BitSet()).set(position);
+        ratings[position] = rating;
+    }
+
+    private void unindex(int position) {//예전 장르/연도 비트를 지워야 수정 후 다른 장르에 남지 않음
+        if (!all.get(position)) return;
+        all.clear(position);
+        if (genres[position] != NO_GENRE) byGenre.get(Genre.values()[genres[position]]).clear(position);
+        if (years[position] != NO_YEAR) {
+            BitSet year = byYear.get(years[position]);
+            year.clear(position);
+            if (year.isEmpty()) byYear.remove(years[position]);
+        }
+    }
+
+    private void ensureCapacity(int position) {
+        if (position < genres.length) return;
+        int capacity = Math.max(position + 1, genres.length * 2);
+        genres = Arrays.copyOf(genres, capacity);
+        years = Arrays.copyOf(years, capacity);
+        ratings = Arrays.copyOf(ratings, capacity);
+    }
+
+    private static int position(Long id) {
+        return Math.toIntExact(id);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public static final class Result {
+        private final List<Long> ids;
+        private final int totalCount;
+
+        public Result(List<Long> ids, int totalCount) {
+            this.ids = ids;
+            this.totalCount = totalCount;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public int getTotalCount() {
+            return totalCount;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.cinelog.server.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cinelog.server.repository.ExportRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+//영화/리뷰 전체를 NDJSON(한 줄에 json 하나)으로 출력 스트림에 바로 씀
+//커서에서 한 행 읽을 때마다 한 줄 쓰므로 메모리 사용량은 전체 개수와 상관없이 일정
+//각 줄은 id 순 -> 중간에 끊기면 마지막으로 받은 줄의 id를 afterId 로 다시 요청
+@Service
+@Transactional(readOnly = true)
+public class ExportService {
+    static final int FLUSH_EVERY = 500;//이 줄 수마다 내려보냄 (매 줄 flush 하면 gzip 압축률이 떨어짐)
+
+    private final ExportRepository exportRepository;
+    private final ObjectWriter writer;
+    private final ObjectMapper objectMapper;
+
+    public ExportService(ExportRepository exportRepository, ObjectMapper objectMapper) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    //쓴 줄 수를 반환
+    public long exportMovies(long afterId, OutputStream out) throws IOException {
+        return export(out, consumer -> exportRepository.streamMoviesAfter(afterId, consumer));
+    }
+
+    public long exportReviews(long afterId, OutputStream out) throws IOException {
+        return export(out, consumer -> exportRepository.streamReviewsAfter(afterId, consumer));
+    }
+
+    private <T> long export(OutputStream out, Consumer<Consumer<T>> source) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);//스트림은 호출한 쪽에서 닫음 (gzip 마무리 등)
+        generator.setRootValueSeparator(null);//값 사이 기본 구분자(공백) 대신 줄바꿈만
+        long[] lines = {0};
+        try {
+            source.accept(row -> {
+                try {
+                    writer.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                    if (++lines[0] % FLUSH_EVERY == 0) generator.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);//클라이언트 연결이 끊기면 커서 조회도 바로 멈춤
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.close();
+        return lines[0];
+    }
+}
@@ -0,0 +1,182 @@
+package com.cinelog.server.service.feed;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Review;
+import com.cinelog.server.domain.event.MovieDeletedEvent;
+import com.cinelog.server.domain.event.MovieInfoChangedEvent;
+import com.cinelog.server.domain.event.UserNameChangedEvent;
+import com.cinelog.server.dto.review.ReviewSummary;
+import com.cinelog.server.repository.ReviewRepository;
+import com.cinelog.server.util.RingBuffer;
+
+//사이트 전체/장르별 최신 리뷰 피드 -> 조회 시 db를 타지 않음
+//요약본에 영화/작성자 이름이 그대로 들어있으므로 영화 삭제, 영화 이름/장르 변경, 작성자 이름 변경도 커밋 이후 피드에 반영
+@Component
+public class RecentReviewFeed {
+    private final ReviewRepository reviewRepository;
+    private final RingBuffer<ReviewSummary> globalFeed;
+    private final Map<Genre, GenreFeed> genreFeeds = new EnumMap<>(Genre.class);
+    private final int capacity;
+
+    public RecentReviewFeed(ReviewRepository reviewRepository,
+                            @Value("${cinelog.feed.recent-reviews.capacity:100}") int capacity) {
+        this.reviewRepository = reviewRepository;
+        this.capacity = capacity;
+        this.globalFeed = new RingBuffer<>(capacity);
+        for (Genre genre : Genre.values()) {//생성 후에는 맵 구조가 바뀌지 않으므로 EnumMap 읽기는 안전
+            genreFeeds.put(genre, new GenreFeed(new RingBuffer<>(capacity)));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {//오래된 것부터 넣어야 최신순이 유지됨
+        List<Review> recent = reviewRepository.findRecent(capacity);
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            globalFeed.append(ReviewSummary.from(recent.get(i)));
+        }
+        for (Genre genre : Genre.values()) {
+            genreFeeds.get(genre).reload(() -> load(genre));
+        }
+    }
+
+    public void append(Review review) {
+        ReviewSummary summary = ReviewSummary.from(review);
+        Predicate<ReviewSummary> same = sameReview(summary.getReviewId());
+        afterCommit(() -> {
+            globalFeed.append(summary);
+            //장르 피드를 다시 채우는 사이 커밋된 리뷰는 이미 들어가 있을 수 있으므로 있으면 교체
+            if (summary.getGenre() != null) genreFeeds.get(summary.getGenre()).write(feed -> {
+                if (feed.replaceIf(same, existing -> summary) == 0) feed.append(summary);
+            });
+        });
+    }
+
+    public void update(Long reviewId, String content, Integer rating) {
+        afterCommit(() -> replaceEverywhere(sameReview(reviewId), summary -> summary.withContent(content, rating)));
+    }
+
+    public void remove(Long reviewId) {
+        afterCommit(() -> replaceEverywhere(sameReview(reviewId), summary -> null));
+    }
+
+    //영화를 지우면 리뷰도 cascade 로 지워짐
+    @EventListener
+    public void handleMovieDeletedEvent(MovieDeletedEvent event) {
+        afterCommit(() -> replaceEverywhere(ofMovie(event.getMovieId()), summary -> null));
+    }
+
+    //장르가 바뀌면 이전 장르 피드에서 빼고, 새 장르 피드는 최신순이 유지되도록 db에서 다시 채움 (드문 작업)
+    @EventListener
+    public void handleMovieInfoChangedEvent(MovieInfoChangedEvent event) {
+        Predicate<ReviewSummary> ofMovie = ofMovie(event.getMovieId());
+        UnaryOperator<ReviewSummary> changed = summary -> summary.withMovie(event.getName(), event.getGenre());
+        afterCommit(() -> {
+            globalFeed.replaceIf(ofMovie, changed);
+            if (event.getGenre() == event.getPreviousGenre()) {
+                if (event.getGenre() != null) genreFeeds.get(event.getGenre()).write(feed -> feed.replaceIf(ofMovie, changed));
+                return;
+            }
+            if (event.getPreviousGenre() != null) genreFeeds.get(event.getPreviousGenre()).write(feed -> feed.removeIf(ofMovie));
+            if (event.getGenre() != null) genreFeeds.get(event.getGenre()).reload(() -> load(event.getGenre()));
+        });
+    }
+
+    @EventListener
+    public void handleUserNameChangedEvent(UserNameChangedEvent event) {
+        afterCommit(() -> replaceEverywhere(summary -> summary.getUserId().equals(event.getUserId()),
+                summary -> summary.withUserName(event.getUserName())));
+    }
+
+    public List<ReviewSummary> getRecent(int limit) {
+        return globalFeed.latest(limit);
+    }
+
+    public List<ReviewSummary> getRecentByGenre(Genre genre, int limit) {
+        return genreFeeds.get(genre).latest(limit);
+    }
+
+    private void replaceEverywhere(Predicate<ReviewSummary> condition, UnaryOperator<ReviewSummary> replacer) {//null 이면 삭제
+        globalFeed.replaceIf(condition, replacer);
+        genreFeeds.values().forEach(feed -> feed.write(buffer -> buffer.replaceIf(condition, replacer)));
+    }
+
+    private RingBuffer<ReviewSummary> load(Genre genre) {//오래된 것부터 넣어야 최신순이 유지됨
+        RingBuffer<ReviewSummary> buffer = new RingBuffer<>(capacity);
+        List<Review> byGenre = reviewRepository.findRecentByGenre(genre, capacity);
+        for (int i = byGenre.size() - 1; i >= 0; i--) {
+            buffer.append(ReviewSummary.from(byGenre.get(i)));
+        }
+        return buffer;
+    }
+
+    private static Predicate<ReviewSummary> sameReview(Long reviewId) {
+        return summary -> summary.getReviewId().equals(reviewId);
+    }
+
+    private static Predicate<ReviewSummary> ofMovie(Long movieId) {
+        return summary -> summary.getMovieId().equals(movieId);
+    }
+
+    //롤백된 리뷰가 피드에 남지 않도록 커밋 이후에 반영
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    //장르 피드는 장르 변경 시 버퍼를 통째로 바꾸므로 쓰기는 잠금 안에서 (교체 중 들어온 쓰기가 이전 버퍼에 남아 사라지지 않도록)
+    //조회는 잠금 없이 그 시점의 버퍼를 읽음, db를 읽는 동안 잠금을 쥐므로 synchronized 대신 ReentrantLock
+    private static final class GenreFeed {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile RingBuffer<ReviewSummary> buffer;
+
+        private GenreFeed(RingBuffer<ReviewSummary> buffer) {
+            this.buffer = buffer;
+        }
+
+        private void write(Consumer<RingBuffer<ReviewSummary>> action) {
+            lock.lock();
+            try {
+                action.accept(buffer);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void reload(Supplier<RingBuffer<ReviewSummary>> loader) {
+            lock.lock();
+            try {
+                buffer = loader.get();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private List<ReviewSummary> latest(int limit) {
+            return buffer.latest(limit);
+        }
+    }
+}
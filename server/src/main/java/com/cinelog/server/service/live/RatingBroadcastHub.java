@@ -0,0 +1,335 @@
+package com.cinelog.server.service.live;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.cinelog.server.dto.movie.RatingUpdate;
+
+//영화별 실시간 평점 구독(SSE) -> 평점이 바뀌면 구독자마다 한 번씩 밀어줌 (구독자가 주기적으로 조회하지 않아도 됨)
+//발행 스레드(리뷰 트랜잭션)는 구독자별 버퍼에 넣기만 하고, 실제 전송은 전송 스레드가 구독자별로 한 번에 하나씩 처리
+//버퍼가 차면 가장 오래된 것을 버림 -> 느린 구독자가 있어도 메모리와 발행 스레드는 영향을 받지 않음 (평점은 마지막 값만 의미가 있음)
+//한 번의 전송이 send-timeout 을 넘기면(멈춘 클라이언트) 구독을 끊고 그 스레드 몫만큼 전송 풀을 늘림 -> 멈춘 연결들이 전송 스레드를 모두 잡지 못함
+@ManagedResource(objectName = "cinelog:type=RatingBroadcastHub")
+public class RatingBroadcastHub implements DisposableBean {
+    static final String EVENT_NAME = "rating";
+    private static final long RECONNECT_MILLIS = 3000;
+    private static final Object HEARTBEAT = new Object();
+    private static final int MAX_STALLED_SENDERS = 64;//멈춘 전송을 대신해 늘릴 수 있는 스레드 수 상한
+
+    private final Map<Long, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final Executor sender;
+    private final ScheduledExecutorService heartbeat;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder disconnected = new LongAdder();
+    private final LongAdder stalled = new LongAdder();
+
+    public RatingBroadcastHub(int bufferSize, Duration timeout, Duration heartbeatInterval, int senderThreads, Duration sendTimeout) {
+        this(bufferSize, timeout, sendTimeout, senderPool(senderThreads));
+        long millis = heartbeatInterval.toMillis();
+        if (millis > 0) heartbeat.scheduleWithFixedDelay(this::heartbeat, millis, millis, TimeUnit.MILLISECONDS);
+        long checkMillis = Math.max(100, sendTimeout.toMillis() / 2);
+        heartbeat.scheduleWithFixedDelay(this::evictStalled, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    RatingBroadcastHub(int bufferSize, Duration timeout, Duration sendTimeout, Executor sender) {
+        if (bufferSize <= 0) throw new IllegalArgumentException("구독자 버퍼 크기는 1 이상이어야 합니다.");
+        if (sendTimeout.isNegative() || sendTimeout.isZero()) throw new IllegalArgumentException("전송 제한 시간은 0보다 커야 합니다.");
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.sender = sender;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("rating-broadcast-heartbeat"));
+    }
+
+    //평소에는 threads 개, 멈춘 전송이 있으면 그 수만큼 core 를 늘림 (resizeSender)
+    static ThreadPoolExecutor senderPool(int threads) {
+        return new ThreadPoolExecutor(threads, threads + MAX_STALLED_SENDERS, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemon("rating-broadcast"));
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    //구독을 먼저 등록하고 현재 값을 읽음 -> 그 사이 커밋된 변경은 알림으로 받으므로 놓치지 않음
+    //알림이 먼저 들어왔다면 그 값이 현재 값보다 새것이므로 현재 값은 보내지 않음
+    public SseEmitter subscribe(Long movieId, Supplier<Double> currentRating) {
+        return register(movieId, new SseEmitter(timeoutMillis), currentRating);
+    }
+
+    SseEmitter register(Long movieId, SseEmitter emitter, Supplier<Double> currentRating) {
+        Subscriber subscriber = new Subscriber(movieId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> {//클라이언트(EventSource)는 끊기면 알아서 다시 연결
+            remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> remove(subscriber));
+        channels.compute(movieId, (id, channel) -> {//채널 추가/삭제는 같은 키에 대해 원자적으로
+            Set<Subscriber> target = channel == null ? ConcurrentHashMap.newKeySet() : channel;
+            target.add(subscriber);
+            return target;
+        });
+        subscribers.incrementAndGet();
+        try {
+            subscriber.offerInitial(new RatingUpdate(movieId, currentRating.get()));
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+        return emitter;
+    }
+
+    //롤백된 평점이 나가지 않도록 커밋 이후에 보냄, 구독자가 없으면 아무것도 하지 않음
+    public void publish(Long movieId, Double rating) {
+        RatingUpdate update = new RatingUpdate(movieId, rating);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcast(update);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                broadcast(update);
+            }
+        });
+    }
+
+    void broadcast(RatingUpdate update) {
+        Set<Subscriber> channel = channels.get(update.getMovieId());
+        if (channel == null) return;
+        published.increment();
+        for (Subscriber subscriber : channel) {
+            subscriber.offer(update);
+        }
+    }
+
+    //보낼 것이 없는 구독자에게만 주석 한 줄 -> 중간 프록시의 유휴 연결 끊김을 막고, 이미 끊긴 연결은 전송 실패로 정리
+    void heartbeat() {
+        for (Set<Subscriber> channel : channels.values()) {
+            for (Subscriber subscriber : channel) {
+                subscriber.offerHeartbeat();
+            }
+        }
+    }
+
+    //send-timeout 을 넘긴 전송을 찾아 구독을 끊음 -> emitter 완료는 전송 잠금을 기다리게 되므로 전송이 끝난 뒤 전송 스레드가 처리
+    void evictStalled() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> channel : channels.values()) {
+            for (Subscriber subscriber : channel) {
+                if (!subscriber.markStalled(now)) continue;
+                stalled.increment();
+                remove(subscriber);
+            }
+        }
+    }
+
+    //멈춘 스레드 몫만큼 core 를 늘렸다가 그 전송이 끝나면 되돌림, 상한에 닿으면 늘리지 않음
+    private boolean resizeSender(int delta) {
+        if (!(sender instanceof ThreadPoolExecutor pool)) return false;
+        synchronized (pool) {
+            int core = pool.getCorePoolSize() + delta;
+            if (core > pool.getMaximumPoolSize()) return false;
+            pool.setCorePoolSize(core);
+            return true;
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        boolean[] removed = {false};
+        channels.computeIfPresent(subscriber.movieId, (id, channel) -> {//마지막 구독자가 나가면 채널도 지움
+            removed[0] = channel.remove(subscriber);
+            return channel.isEmpty() ? null : channel;
+        });
+        if (removed[0]) subscribers.decrementAndGet();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        channels.values().forEach(channel -> channel.forEach(subscriber -> subscriber.emitter.complete()));
+        if (sender instanceof ExecutorService service) service.shutdownNow();
+    }
+
+    @ManagedAttribute
+    public int getSubscriberCount() {
+        return subscribers.get();
+    }
+    @ManagedAttribute
+    public int getWatchedMovieCount() {
+        return channels.size();
+    }
+    @ManagedAttribute
+    public long getPublishedCount() {
+        return published.sum();
+    }
+    @ManagedAttribute
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+    @ManagedAttribute
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+    @ManagedAttribute
+    public long getDisconnectedCount() {
+        return disconnected.sum();
+    }
+    @ManagedAttribute
+    public long getStalledCount() {//send-timeout 을 넘겨 끊은 구독자
+        return stalled.sum();
+    }
+
+    //버퍼에는 RatingUpdate 또는 HEARTBEAT, draining 으로 전송 작업이 구독자당 하나만 돌도록 함 (전송 순서 유지)
+    private final class Subscriber {
+        private final Long movieId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<Object> buffer = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private boolean updated;//알림을 한 번이라도 받았는지 (buffer 잠금 안에서만 사용)
+        private boolean first = true;//첫 이벤트에 재연결 간격을 함께 보냄 (전송 스레드만 사용)
+        private volatile long sendingSince;//전송 중이면 시작 시각(nanoTime), 아니면 0
+        private boolean timedOut;//send-timeout 을 넘겨 끊겼는지 (this 잠금 안에서만 사용)
+        private boolean compensated;//그 동안 전송 풀을 늘렸는지 (this 잠금 안에서만 사용)
+
+        private Subscriber(Long movieId, SseEmitter emitter) {
+            this.movieId = movieId;
+            this.emitter = emitter;
+        }
+
+        private void offerInitial(RatingUpdate update) {
+            synchronized (buffer) {
+                if (updated) return;
+                buffer.addLast(update);
+            }
+            schedule();
+        }
+
+        private void offer(RatingUpdate update) {
+            synchronized (buffer) {
+                updated = true;
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();
+                    dropped.increment();
+                }
+                buffer.addLast(update);
+            }
+            schedule();
+        }
+
+        private void offerHeartbeat() {
+            synchronized (buffer) {
+                if (!buffer.isEmpty() || draining.get()) return;
+                buffer.addLast(HEARTBEAT);
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) sender.execute(this::drain);
+        }
+
+        //비우고 나서 draining 을 내린 뒤 그 사이 들어온 것이 있으면 다시 맡음 (깨우기 누락 방지)
+        private void drain() {
+            while (true) {
+                Object item;
+                synchronized (buffer) {
+                    item = buffer.pollFirst();
+                }
+                if (item == null) {
+                    draining.set(false);
+                    synchronized (buffer) {
+                        if (buffer.isEmpty()) return;
+                    }
+                    if (!draining.compareAndSet(false, true)) return;
+                    continue;
+                }
+                if (!send(item)) return;//끊긴 구독자는 남은 것을 버림
+            }
+        }
+
+        private boolean send(Object item) {
+            sendingSince = System.nanoTime();
+            boolean sent = write(item);
+            boolean inTime = finishSend();
+            if (sent && inTime) return true;
+            if (!sent && inTime) disconnected.increment();
+            remove(this);
+            synchronized (buffer) {//끊긴(또는 멈춰서 끊은) 구독자는 남은 것을 버림
+                buffer.clear();
+            }
+            emitter.complete();
+            return false;
+        }
+
+        private boolean write(Object item) {
+            try {
+                if (item == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    SseEmitter.SseEventBuilder event = SseEmitter.event().name(EVENT_NAME);
+                    if (first) event.reconnectTime(RECONNECT_MILLIS);
+                    emitter.send(event.data(item, MediaType.APPLICATION_JSON));
+                    delivered.increment();
+                }
+                first = false;
+                return true;
+            } catch (IOException | IllegalStateException e) {//연결이 끊겼거나 이미 완료된 emitter
+                return false;
+            }
+        }
+
+        private synchronized boolean markStalled(long now) {
+            long since = sendingSince;
+            if (timedOut || since == 0 || now - since < sendTimeoutNanos) return false;
+            timedOut = true;
+            compensated = resizeSender(1);
+            return true;
+        }
+
+        //전송이 끝남 -> 그 사이 멈춘 것으로 처리됐으면 늘린 스레드를 되돌리고 false
+        private synchronized boolean finishSend() {
+            sendingSince = 0;
+            if (!timedOut) return true;
+            if (compensated) resizeSender(-1);
+            compensated = false;
+            return false;
+        }
+    }
+}
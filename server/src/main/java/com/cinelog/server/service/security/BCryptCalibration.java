@@ -0,0 +1,14 @@
+package com.cinelog.server.service.security;
+
+import java.util.Map;
+
+import lombok.Value;
+
+@Value
+public class BCryptCalibration {
+    private int strength;//최종 선택된 cost
+    private double hashMillis;//선택된 cost로 해시 1회에 걸린 시간
+    private long targetMillis;
+    private boolean calibrated;//false면 설정값으로 고정한 것
+    private Map<Integer, Double> samples;//cost별 측정 시간(ms)
+}
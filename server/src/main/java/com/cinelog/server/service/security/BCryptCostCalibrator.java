@@ -0,0 +1,63 @@
+package com.cinelog.server.service.security;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+//기동 시 이 머신에서 해시 1회가 목표 시간에 가장 가까운 cost를 고름
+public class BCryptCostCalibrator {
+    private static final Logger log = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+    private static final String SAMPLE_PASSWORD = "cinelog-calibration";
+    private static final int ROUNDS = 3;//측정값 중 최솟값 사용 -> gc/jit 잡음 제거
+
+    private final long targetMillis;
+    private final int minStrength;
+    private final int maxStrength;
+
+    public BCryptCostCalibrator(long targetMillis, int minStrength, int maxStrength) {
+        if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+            throw new IllegalArgumentException("bcrypt cost 범위가 올바르지 않습니다: " + minStrength + "~" + maxStrength);
+        }
+        this.targetMillis = targetMillis;
+        this.minStrength = minStrength;
+        this.maxStrength = maxStrength;
+    }
+
+    public static BCryptCalibration fixed(int strength) {
+        return new BCryptCalibration(strength, 0.0, 0, false, Collections.emptyMap());
+    }
+
+    public BCryptCalibration calibrate() {
+        Map<Integer, Double> samples = new TreeMap<>();
+        measure(minStrength);//jit 워밍업
+        int best = minStrength;
+        double bestDistance = Double.MAX_VALUE;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            double millis = measure(strength);
+            samples.put(strength, millis);
+            double distance = Math.abs(Math.log(millis / targetMillis));//cost가 1 오를때마다 2배 -> 비율로 비교
+            if (distance < bestDistance) {
+                best = strength;
+                bestDistance = distance;
+            }
+            if (millis >= targetMillis) break;//더 올려봐야 멀어지기만 함
+        }
+        log.info("bcrypt cost 보정 완료: cost={}, 목표={}ms, 측정={}", best, targetMillis, samples);
+        return new BCryptCalibration(best, samples.get(best), targetMillis, true, Collections.unmodifiableMap(samples));
+    }
+
+    private double measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest / 1_000_000.0;
+    }
+}
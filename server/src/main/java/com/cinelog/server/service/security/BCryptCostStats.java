@@ -0,0 +1,76 @@
+package com.cinelog.server.service.security;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+//보정 결과와 로그인 시 저장된 해시의 cost 분포 -> 재해싱이 얼마나 진행됐는지 확인용
+@ManagedResource(objectName = "cinelog:type=BCryptCostStats")
+public class BCryptCostStats {
+    private final BCryptCalibration calibration;
+    private final Map<Integer, LongAdder> loginsByCost = new ConcurrentHashMap<>();
+    private final LongAdder rehashed = new LongAdder();
+
+    public BCryptCostStats(BCryptCalibration calibration) {
+        this.calibration = calibration;
+    }
+
+    public void recordLogin(String encodedPassword) {
+        loginsByCost.computeIfAbsent(costOf(encodedPassword), cost -> new LongAdder()).increment();
+    }
+
+    public void recordRehash() {
+        rehashed.increment();
+    }
+
+    public BCryptCalibration getCalibration() {
+        return calibration;
+    }
+
+    public Map<Integer, Long> getLoginCountsByCost() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        loginsByCost.forEach((cost, count) -> counts.put(cost, count.sum()));
+        return counts;
+    }
+
+    @ManagedAttribute
+    public int getStrength() {
+        return calibration.getStrength();
+    }
+    @ManagedAttribute
+    public double getCalibratedHashMillis() {
+        return calibration.getHashMillis();
+    }
+    @ManagedAttribute
+    public long getTargetHashMillis() {
+        return calibration.getTargetMillis();
+    }
+    @ManagedAttribute
+    public String getCalibrationSamples() {
+        return calibration.getSamples().toString();
+    }
+    @ManagedAttribute
+    public String getLoginsByCost() {
+        return getLoginCountsByCost().toString();
+    }
+    @ManagedAttribute
+    public long getRehashedCount() {
+        return rehashed.sum();
+    }
+
+    //$2a$10$... 형식에서 cost 추출, bcrypt 형식이 아니면 -1
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') return -1;
+        int costStart = encodedPassword.indexOf('$', 1) + 1;
+        if (costStart <= 0 || costStart + 2 > encodedPassword.length()) return -1;
+        try {
+            return Integer.parseInt(encodedPassword.substring(costStart, costStart + 2));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.cinelog.server.service.security;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+import com.cinelog.server.exception.security.TooManyLoginAttemptsException;
+
+//크리덴셜 스터핑 방어 -> db 조회, bcrypt 검증 전에 아이디/접속 주소별로 시도 횟수를 거름
+@Component
+@ManagedResource(objectName = "cinelog:type=LoginThrottle")
+public class LoginThrottle {
+    private static final int STRIPES = 64;
+
+    private final boolean enabled;
+    private final StripedTokenBuckets byUserName;
+    private final StripedTokenBuckets byAddress;
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByUserName = new LongAdder();
+    private final LongAdder rejectedByAddress = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public LoginThrottle(@Value("${cinelog.login.throttle.enabled:true}") boolean enabled,
+                         @Value("${cinelog.login.throttle.max-entries:10000}") int maxEntries,
+                         @Value("${cinelog.login.throttle.user.capacity:5}") double userCapacity,
+                         @Value("${cinelog.login.throttle.user.refill-per-minute:5}") double userRefillPerMinute,
+                         @Value("${cinelog.login.throttle.address.capacity:20}") double addressCapacity,
+                         @Value("${cinelog.login.throttle.address.refill-per-minute:20}") double addressRefillPerMinute) {
+        this.enabled = enabled;
+        this.byUserName = new StripedTokenBuckets(STRIPES, maxEntries, userCapacity, userRefillPerMinute, System::nanoTime);
+        this.byAddress = new StripedTokenBuckets(STRIPES, maxEntries, addressCapacity, addressRefillPerMinute, System::nanoTime);
+    }
+
+    //아이디 버킷은 시도마다 차감, 주소 버킷은 확인만 하고 실패했을 때 recordFailure 로 차감
+    //-> 같은 주소(nat, 사무실 등) 뒤의 정상 로그인이 주소 한도를 써 버리지 않음
+    public void acquire(String userName, String clientAddress) {
+        if (!enabled) return;
+        if (clientAddress != null && !byAddress.hasToken(clientAddress)) {
+            rejectedByAddress.increment();
+            throw new TooManyLoginAttemptsException();
+        }
+        if (userName != null && !byUserName.tryConsume(userName.trim().toLowerCase(Locale.ROOT))) {//대소문자 바꿔가며 우회 방지
+            rejectedByUserName.increment();
+            throw new TooManyLoginAttemptsException();
+        }
+        allowed.increment();
+    }
+
+    public void recordFailure(String clientAddress) {//없는 아이디, 비밀번호 불일치
+        if (!enabled || clientAddress == null) return;
+        byAddress.tryConsume(clientAddress);
+        failures.increment();
+    }
+
+    @ManagedAttribute
+    public long getAllowedCount() {
+        return allowed.sum();
+    }
+    @ManagedAttribute
+    public long getFailureCount() {
+        return failures.sum();
+    }
+    @ManagedAttribute
+    public long getRejectedByUserNameCount() {
+        return rejectedByUserName.sum();
+    }
+    @ManagedAttribute
+    public long getRejectedByAddressCount() {
+        return rejectedByAddress.sum();
+    }
+    @ManagedAttribute
+    public long getEvictionCount() {
+        return byUserName.getEvictionCount() + byAddress.getEvictionCount();
+    }
+    @ManagedAttribute
+    public long getSaturatedCount() {//추적 중인 키가 모두 제한 중이라 새 키를 공용 버킷으로 처리한 횟수
+        return byUserName.getSaturatedCount() + byAddress.getSaturatedCount();
+    }
+    @ManagedAttribute
+    public int getTrackedKeyCount() {
+        return byUserName.size() + byAddress.size();
+    }
+}
@@ -0,0 +1,31 @@
+package com.cinelog.server.service.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.cinelog.server.service.security.PasswordHashExecutor.Priority;
+
+//실제 해싱은 전용 풀에서 -> UserService는 기존처럼 PasswordEncoder만 알면 됨
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final PasswordHashExecutor hashExecutor;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, PasswordHashExecutor hashExecutor) {
+        this.delegate = delegate;
+        this.hashExecutor = hashExecutor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hashExecutor.execute(Priority.ENCODE, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hashExecutor.execute(Priority.MATCH, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {//해시 문자열만 보는 가벼운 작업이라 그대로 위임
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
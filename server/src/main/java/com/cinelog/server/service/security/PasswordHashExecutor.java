@@ -0,0 +1,195 @@
+package com.cinelog.server.service.security;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+import com.cinelog.server.exception.security.PasswordHashRejectedException;
+
+//bcrypt 해싱 전용 스레드풀 -> 요청 스레드(톰캣)가 cpu 작업에 묶여 조회 요청까지 밀리는 것 방지
+@ManagedResource(objectName = "cinelog:type=PasswordHashExecutor")
+public class PasswordHashExecutor implements DisposableBean {
+
+    public enum Priority {//숫자가 작을수록 먼저 처리
+        ENCODE(0),//회원가입, 비밀번호 변경 -> 드물고 로그인 폭주에 밀리면 안됨
+        MATCH(1);//로그인 검증
+
+        private final int order;
+        Priority(int order) {
+            this.order = order;
+        }
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore admission;//실행중+대기중 작업 수 상한
+    private final Semaphore matchPermits;//로그인(검증) 동시 처리 상한
+    private final long timeoutNanos;
+    private final AtomicLong sequence = new AtomicLong();//같은 우선순위끼리는 선착순
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+
+    public PasswordHashExecutor(int threads, int queueCapacity, int maxConcurrentMatches, Duration timeout) {
+        if (threads <= 0) threads = Runtime.getRuntime().availableProcessors();
+        this.admission = new Semaphore(threads + queueCapacity);
+        this.matchPermits = new Semaphore(maxConcurrentMatches);
+        this.timeoutNanos = timeout.toNanos();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),//용량 제한은 admission 세마포어가 담당
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public <T> T execute(Priority priority, Callable<T> work) {
+        Semaphore limit = priority == Priority.MATCH ? matchPermits : null;
+        if (limit != null && !limit.tryAcquire()) {//대기 없이 즉시 거절
+            rejected.increment();
+            throw new PasswordHashRejectedException();
+        }
+        if (!admission.tryAcquire()) {
+            if (limit != null) limit.release();
+            rejected.increment();
+            throw new PasswordHashRejectedException();
+        }
+        HashTask<T> task = new HashTask<>(priority, sequence.getAndIncrement(), work, limit);
+        executor.execute(task);
+        try {
+            return task.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(false);
+            executor.remove(task);
+            timedOut.increment();
+            throw new PasswordHashRejectedException();
+        } catch (InterruptedException e) {
+            task.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashRejectedException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException("비밀번호 해싱에 실패했습니다.", cause);
+        }
+    }
+
+    @ManagedAttribute
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+    @ManagedAttribute
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+    @ManagedAttribute
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+    @ManagedAttribute
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+    @ManagedAttribute
+    public long getTimedOutCount() {
+        return timedOut.sum();
+    }
+    @ManagedAttribute
+    public double getAverageQueueWaitMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0.0 : queueWaitNanos.sum() / (double) count / 1_000_000;
+    }
+    @ManagedAttribute
+    public double getMaxQueueWaitMillis() {
+        return maxQueueWaitNanos.get() / 1_000_000.0;
+    }
+    @ManagedAttribute
+    public double getAverageHashMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0.0 : hashNanos.sum() / (double) count / 1_000_000;
+    }
+    @ManagedAttribute
+    public double getMaxHashMillis() {
+        return maxHashNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    //우선순위 큐에 들어가려면 Comparable이어야 함 -> submit 대신 execute로 직접 넣음
+    private final class HashTask<T> extends FutureTask<T> implements Comparable<HashTask<?>> {
+        private final Priority priority;
+        private final long seq;
+        private final Semaphore limit;
+        private final long enqueuedAt = System.nanoTime();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private HashTask(Priority priority, long seq, Callable<T> work, Semaphore limit) {
+            super(work);
+            this.priority = priority;
+            this.seq = seq;
+            this.limit = limit;
+        }
+
+        //허가는 정확히 한 번 반납 -> 먼저 claimed 를 잡은 쪽이 반납
+        //실행을 시작했으면 run 이 해싱이 끝난 뒤 반납 (실행 중 타임아웃으로 취소돼도 cpu를 쓰는 동안은 상한에 포함)
+        //시작 전에 취소됐으면 done 이 반납하고 run 은 아무것도 하지 않음
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) return;//대기 중 타임아웃으로 취소된 작업
+            long startedAt = System.nanoTime();
+            long waited = startedAt - enqueuedAt;
+            try {
+                super.run();
+            } finally {
+                release();
+            }
+            if (isCancelled()) return;
+            long took = System.nanoTime() - startedAt;
+            queueWaitNanos.add(waited);
+            maxQueueWaitNanos.accumulate(waited);
+            hashNanos.add(took);
+            maxHashNanos.accumulate(took);
+            completed.increment();
+        }
+
+        @Override
+        protected void done() {//완료/취소 모두 여기로 옴 -> 실행을 시작하지 않은 채 취소된 경우만 반납
+            if (claimed.compareAndSet(false, true)) release();
+        }
+
+        private void release() {
+            admission.release();
+            if (limit != null) limit.release();
+        }
+
+        @Override
+        public int compareTo(HashTask<?> other) {
+            int byPriority = Integer.compare(priority.order, other.priority.order);
+            return byPriority != 0 ? byPriority : Long.compare(seq, other.seq);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.cinelog.server.service.security;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+//키별 토큰 버킷 -> 락을 여러 조각(stripe)으로 나눠 경합을 줄이고, 조각마다 개수 제한
+//가득 차면 다 회복된(새로 만든 것과 같은) 버킷만 오래 안 쓴 순으로 제거 -> 키를 바꿔가며 제한 중인 버킷을 밀어내 초기화할 수 없음
+//제거할 버킷이 없으면(모두 제한 중) 새 키는 조각마다 하나인 공용 버킷을 나눠 씀 -> 키를 대량으로 만들어도 다른 사용자가 전부 막히지 않음
+public class StripedTokenBuckets {
+    private final Stripe[] stripes;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier clock;
+    private final int maxEntriesPerStripe;
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder saturated = new LongAdder();
+
+    public StripedTokenBuckets(int stripeCount, int maxEntries, double capacity, double refillPerMinute, LongSupplier clock) {
+        this.stripes = new Stripe[stripeCount];
+        this.maxEntriesPerStripe = Math.max(1, maxEntries / stripeCount);
+        for (int i = 0; i < stripeCount; i++) stripes[i] = new Stripe();
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / 60_000_000_000.0;
+        this.clock = clock;
+    }
+
+    public boolean tryConsume(String key) {
+        Stripe stripe = stripes[Math.floorMod(spread(key.hashCode()), stripes.length)];
+        long now = clock.getAsLong();
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                if (stripe.buckets.size() >= maxEntriesPerStripe && !stripe.evictRefilled(now)) {
+                    saturated.increment();
+                    return stripe.overflow(now).tryConsume(now);
+                }
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            }
+            return bucket.tryConsume(now);
+        }
+    }
+
+    public boolean hasToken(String key) {//차감 없이 확인, 추적하지 않는 키는 가득 찬 버킷과 같음
+        Stripe stripe = stripes[Math.floorMod(spread(key.hashCode()), stripes.length)];
+        long now = clock.getAsLong();
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket != null) return bucket.hasToken(now);
+            return stripe.hasRoom(now) || stripe.overflow(now).hasToken(now);
+        }
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getSaturatedCount() {//가득 차서 새 키를 공용 버킷으로 처리한 횟수
+        return saturated.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {//문자열 해시 하위비트 쏠림 완화
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Stripe {
+        private final Map<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true);//접근순 -> 오래 안 쓴 키부터 확인
+        private Bucket overflow;//가득 찼을 때 새 키들이 함께 쓰는 버킷 (처음 가득 찰 때 만듦)
+
+        private Bucket overflow(long now) {//stripe 락 안에서만 호출
+            if (overflow == null) overflow = new Bucket(capacity, now);
+            return overflow;
+        }
+
+        private boolean hasRoom(long now) {//새 버킷을 만들 수 있는지 (자리가 있거나 제거할 수 있는 버킷이 있음), stripe 락 안에서만 호출
+            if (buckets.size() < maxEntriesPerStripe) return true;
+            for (Bucket bucket : buckets.values()) {
+                if (bucket.isFull(now)) return true;
+            }
+            return false;
+        }
+
+        //다 회복된 버킷 하나를 제거 (지워도 다음에 가득 찬 버킷으로 다시 시작하므로 제한이 풀리지 않음), stripe 락 안에서만 호출
+        private boolean evictRefilled(long now) {
+            Iterator<Bucket> iterator = buckets.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isFull(now)) {
+                    iterator.remove();
+                    evictions.increment();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long lastRefill;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefill = now;
+        }
+
+        private boolean isFull(long now) {//stripe 락 안에서만 호출
+            return tokens + (now - lastRefill) * tokensPerNano >= capacity;
+        }
+
+        private boolean hasToken(long now) {//stripe 락 안에서만 호출
+            return tokens + (now - lastRefill) * tokensPerNano >= 1;
+        }
+
+        private boolean tryConsume(long now) {//stripe 락 안에서만 호출
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            if (tokens < 1) return false;
+            tokens -= 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.cinelog.server.service.session;
+
+import java.util.Optional;
+
+import com.cinelog.server.dto.user.SessionUser;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+//서블릿 컨테이너의 HttpSession(힙)에 저장하는 기본 방식
+public class ContainerSessionStore implements SessionStore {
+    private static final String LOGIN_USER = "loginUser";
+
+    @Override
+    public void create(HttpServletRequest request, HttpServletResponse response, SessionUser user) {
+        HttpSession session = request.getSession(false);
+        if(session!=null)session.invalidate();
+        HttpSession newSession = request.getSession(true);
+        newSession.setAttribute(LOGIN_USER, user);//사물함 안에 유저 설정
+    }
+
+    @Override
+    public Optional<SessionUser> find(HttpServletRequest request, HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        if(session==null)return Optional.empty();
+        return Optional.ofNullable((SessionUser) session.getAttribute(LOGIN_USER));
+    }
+
+    @Override
+    public void update(HttpServletRequest request, HttpServletResponse response, SessionUser user) {
+        HttpSession session = request.getSession(false);
+        if(session!=null)session.setAttribute(LOGIN_USER, user);
+    }
+
+    @Override
+    public void invalidate(HttpServletRequest request, HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        if(session!=null) session.invalidate();
+    }
+}
@@ -0,0 +1,13 @@
+package com.cinelog.server.service.session;
+
+import java.time.Duration;
+
+//여러 서버가 함께 쓰는 키-값 저장소(redis 등)에 필요한 최소 기능
+public interface KeyValueStore {
+    public void put(String key, byte[] value, Duration ttl);
+    public byte[] get(String key);//없거나 만료되면 null
+    public void delete(String key);
+    public default int sweepExpired() {//ttl을 스스로 처리하는 저장소는 구현할 필요 없음
+        return 0;
+    }
+}
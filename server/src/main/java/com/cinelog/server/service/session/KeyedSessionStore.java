@@ -0,0 +1,112 @@
+package com.cinelog.server.service.session;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import com.cinelog.server.dto.user.SessionUser;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+//쿠키에 세션 id만 두고 실제 유저 정보는 하위 저장소에 보관하는 방식의 공통 처리
+public abstract class KeyedSessionStore implements SessionStore {
+    private static final String RESOLVED_ID = KeyedSessionStore.class.getName() + ".id";
+    private static final String RESOLVED_USER = KeyedSessionStore.class.getName() + ".user";
+    private static final int ID_BYTES = 32;
+    private static final int ID_LENGTH = 43;//32바이트 base64url(패딩 없음)
+
+    private final SessionCookie cookie;
+    protected final long timeoutMillis;
+    protected final LongSupplier clock;
+    private final SecureRandom random = new SecureRandom();
+
+    protected KeyedSessionStore(String cookieName, boolean secureCookie, Duration timeout, LongSupplier clock) {
+        this.cookie = new SessionCookie(cookieName, secureCookie);
+        this.timeoutMillis = timeout.toMillis();
+        this.clock = clock;
+    }
+
+    protected abstract void write(String sessionId, SessionUser user, long expiresAt);
+    protected abstract StoredSession read(String sessionId);//없으면 null
+    protected abstract void delete(String sessionId);
+    protected abstract int sweepExpired(long now);
+
+    @Override
+    public void create(HttpServletRequest request, HttpServletResponse response, SessionUser user) {
+        String oldId = sessionId(request);
+        if (oldId != null) delete(oldId);
+        String newId = newSessionId();
+        write(newId, user, clock.getAsLong() + timeoutMillis);
+        cookie.write(response, newId);
+        request.setAttribute(RESOLVED_ID, newId);
+        request.setAttribute(RESOLVED_USER, user);
+    }
+
+    @Override
+    public Optional<SessionUser> find(HttpServletRequest request, HttpServletResponse response) {
+        SessionUser resolved = (SessionUser) request.getAttribute(RESOLVED_USER);//한 요청 안에서는 한 번만 조회
+        if (resolved != null) return Optional.of(resolved);
+        String sessionId = sessionId(request);
+        if (sessionId == null) return Optional.empty();
+        StoredSession stored = read(sessionId);
+        long now = clock.getAsLong();
+        if (stored == null) return Optional.empty();
+        if (stored.expiresAt <= now) {
+            delete(sessionId);
+            return Optional.empty();
+        }
+        if (stored.expiresAt - now < timeoutMillis / 2) {//매 요청마다 쓰지 않고 절반 이상 지났을 때만 만료 연장
+            write(sessionId, stored.user, now + timeoutMillis);
+        }
+        request.setAttribute(RESOLVED_USER, stored.user);
+        return Optional.of(stored.user);
+    }
+
+    @Override
+    public void update(HttpServletRequest request, HttpServletResponse response, SessionUser user) {
+        String sessionId = sessionId(request);
+        if (sessionId == null) return;
+        write(sessionId, user, clock.getAsLong() + timeoutMillis);
+        request.setAttribute(RESOLVED_USER, user);
+    }
+
+    @Override
+    public void invalidate(HttpServletRequest request, HttpServletResponse response) {
+        String sessionId = sessionId(request);
+        if (sessionId == null) return;
+        delete(sessionId);
+        request.removeAttribute(RESOLVED_USER);
+        cookie.clear(response);
+    }
+
+    @Override
+    public int sweepExpired() {
+        return sweepExpired(clock.getAsLong());
+    }
+
+    private String sessionId(HttpServletRequest request) {
+        String resolved = (String) request.getAttribute(RESOLVED_ID);
+        if (resolved != null) return resolved;
+        String value = cookie.read(request);
+        return value != null && value.length() == ID_LENGTH ? value : null;//형식이 다른 값으로 저장소를 조회하지 않음
+    }
+
+    private String newSessionId() {
+        byte[] bytes = new byte[ID_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    protected static final class StoredSession {
+        private final SessionUser user;
+        private final long expiresAt;
+
+        protected StoredSession(SessionUser user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.cinelog.server.service.session;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+//단일 서버/테스트용 대체 구현 -> 운영에서는 공유 저장소 구현체 빈으로 교체
+public class LocalKeyValueStore implements KeyValueStore {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    public LocalKeyValueStore() {
+        this(System::currentTimeMillis);
+    }
+
+    LocalKeyValueStore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {//호출한 쪽 배열이 바뀌어도 영향 없도록 복사
+        entries.put(key, new Entry(Arrays.copyOf(value, value.length), clock.getAsLong() + ttl.toMillis()));
+    }
+
+    @Override
+    public byte[] get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+        if (entry.expiresAt <= clock.getAsLong()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return Arrays.copyOf(entry.value, entry.value.length);
+    }
+
+    @Override
+    public void delete(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public int sweepExpired() {
+        long now = clock.getAsLong();
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        return before - entries.size();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final byte[] value;
+        private final long expiresAt;
+
+        private Entry(byte[] value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.cinelog.server.service.session;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+import com.cinelog.server.dto.user.SessionUser;
+import com.cinelog.server.exception.security.SessionStoreFullException;
+
+//세션을 힙 밖(다이렉트 버퍼)에 보관 -> 유휴 세션이 old gen을 채우지 않음
+//슬롯 구조: [세션 id 해시 8][만료시각 8][길이 2][SessionUserCodec 바이트]
+@ManagedResource(objectName = "cinelog:type=OffHeapSessionStore")
+public class OffHeapSessionStore extends KeyedSessionStore {
+    private static final int SLOT_HEADER = 8 + 8 + 2;
+    private static final int SMALL_SLOT = 64;//대부분의 이름은 여기에 들어감
+    private static final int LARGE_SLOT = 1024;//이름 최대 255자(utf-8 765바이트)까지 수용
+    private static final int LOCK_STRIPES = 64;
+
+    private final Map<String, Integer> index = new ConcurrentHashMap<>();//세션 id -> 슬롯 핸들
+    private final SlabPool[] pools;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public OffHeapSessionStore(String cookieName, boolean secureCookie, Duration timeout, int slabBytes, int maxSlabs) {
+        this(cookieName, secureCookie, timeout, slabBytes, maxSlabs, System::currentTimeMillis);
+    }
+
+    OffHeapSessionStore(String cookieName, boolean secureCookie, Duration timeout, int slabBytes, int maxSlabs, LongSupplier clock) {
+        super(cookieName, secureCookie, timeout, clock);
+        this.pools = new SlabPool[] {
+            new SlabPool(SMALL_SLOT, slabBytes, maxSlabs),
+            new SlabPool(LARGE_SLOT, slabBytes, Math.max(1, maxSlabs / 4))
+        };
+        for (int i = 0; i < LOCK_STRIPES; i++) locks[i] = new Object();
+    }
+
+    @Override
+    protected void write(String sessionId, SessionUser user, long expiresAt) {
+        byte[] payload = SessionUserCodec.encode(user);
+        int poolIndex = SLOT_HEADER + payload.length <= SMALL_SLOT ? 0 : 1;
+        long idHash = hash(sessionId);
+        //정리(sweep)는 맵을 수정하므로 compute 안에서 할 수 없음 -> 새 슬롯은 미리 확보
+        Integer current = index.get(sessionId);
+        int[] reserved = { current != null && poolOf(current) == poolIndex ? -1 : allocate(poolIndex, true) };
+        index.compute(sessionId, (id, handle) -> {//같은 세션 id에 대한 쓰기는 여기서 직렬화됨
+            if (handle != null && poolOf(handle) == poolIndex) {//같은 크기면 제자리 갱신
+                writeSlot(handle, idHash, expiresAt, payload);
+                return handle;
+            }
+            int newHandle = reserved[0] >= 0 ? reserved[0] : allocate(poolIndex, false);
+            reserved[0] = -1;
+            writeSlot(newHandle, idHash, expiresAt, payload);
+            if (handle != null) release(handle);
+            return newHandle;
+        });
+        if (reserved[0] >= 0) release(reserved[0]);//경쟁으로 쓰이지 않은 슬롯 반납
+    }
+
+    @Override
+    protected StoredSession read(String sessionId) {
+        Integer handle = index.get(sessionId);
+        if (handle == null) return null;
+        SlabPool pool = pools[poolOf(handle)];
+        int slot = slotOf(handle);
+        ByteBuffer slab = pool.slab(slot);
+        int offset = pool.offset(slot);
+        synchronized (lockFor(handle)) {
+            //조회 직후 다른 세션이 슬롯을 재사용했을 수 있으므로 id 해시로 확인
+            if (slab.getLong(offset) != hash(sessionId)) return null;
+            long expiresAt = slab.getLong(offset + 8);
+            int length = Short.toUnsignedInt(slab.getShort(offset + 16));
+            ByteBuffer payload = slab.slice(offset + SLOT_HEADER, length);
+            return new StoredSession(SessionUserCodec.decode(payload), expiresAt);
+        }
+    }
+
+    @Override
+    protected void delete(String sessionId) {
+        Integer handle = index.remove(sessionId);
+        if (handle != null) release(handle);
+    }
+
+    @Override
+    protected int sweepExpired(long now) {
+        int[] removed = {0};
+        for (Map.Entry<String, Integer> entry : index.entrySet()) {
+            if (expiresAt(entry.getValue()) > now) continue;
+            index.computeIfPresent(entry.getKey(), (id, handle) -> {//그 사이 연장된 세션은 건드리지 않음
+                if (expiresAt(handle) > now) return handle;
+                release(handle);
+                removed[0]++;
+                return null;
+            });
+        }
+        return removed[0];
+    }
+
+    @ManagedAttribute
+    public int getSessionCount() {
+        return index.size();
+    }
+    @ManagedAttribute
+    public long getAllocatedBytes() {
+        long bytes = 0;
+        for (SlabPool pool : pools) bytes += pool.allocatedBytes();
+        return bytes;
+    }
+    @ManagedAttribute
+    public int getFreeSlotCount() {
+        int free = 0;
+        for (SlabPool pool : pools) free += pool.freeCount();
+        return free;
+    }
+
+    private int allocate(int poolIndex, boolean sweepIfFull) {
+        int slot = pools[poolIndex].allocate();
+        if (slot < 0 && sweepIfFull) {//가득 찼으면 만료된 세션을 먼저 정리해보고 재시도
+            sweepExpired(clock.getAsLong());
+            slot = pools[poolIndex].allocate();
+        }
+        if (slot < 0) throw new SessionStoreFullException();
+        return (poolIndex << 30) | slot;
+    }
+
+    private void release(int handle) {
+        SlabPool pool = pools[poolOf(handle)];
+        int slot = slotOf(handle);
+        synchronized (lockFor(handle)) {
+            pool.slab(slot).putLong(pool.offset(slot), 0L);//남아있는 조회가 옛 값을 읽지 않도록 해시부터 지움
+        }
+        pool.free(slot);
+    }
+
+    private void writeSlot(int handle, long idHash, long expiresAt, byte[] payload) {
+        SlabPool pool = pools[poolOf(handle)];
+        int slot = slotOf(handle);
+        ByteBuffer slab = pool.slab(slot);
+        int offset = pool.offset(slot);
+        synchronized (lockFor(handle)) {
+            slab.putLong(offset, idHash);
+            slab.putLong(offset + 8, expiresAt);
+            slab.putShort(offset + 16, (short) payload.length);
+            slab.put(offset + SLOT_HEADER, payload);
+        }
+    }
+
+    private long expiresAt(int handle) {
+        SlabPool pool = pools[poolOf(handle)];
+        int slot = slotOf(handle);
+        synchronized (lockFor(handle)) {
+            return pool.slab(slot).getLong(pool.offset(slot) + 8);
+        }
+    }
+
+    private Object lockFor(int handle) {
+        return locks[Math.floorMod(handle * 0x9E3779B9, LOCK_STRIPES)];
+    }
+
+    private static int poolOf(int handle) {
+        return handle >>> 30;
+    }
+
+    private static int slotOf(int handle) {
+        return handle & 0x3FFFFFFF;
+    }
+
+    private static long hash(String sessionId) {//FNV-1a 64비트, 0은 빈 슬롯 표시로 쓰므로 피함
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < sessionId.length(); i++) {
+            hash ^= sessionId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    //같은 크기의 슬롯을 가진 다이렉트 버퍼 묶음
+    private static final class SlabPool {
+        private final int slotSize;
+        private final int slotsPerSlab;
+        private final int maxSlabs;
+        private final List<ByteBuffer> slabs = new ArrayList<>();
+        private volatile ByteBuffer[] slabView = new ByteBuffer[0];//조회는 락 없이 이 배열로
+        private int[] freeSlots = new int[64];
+        private int freeCount;
+        private int nextUnused;
+
+        private SlabPool(int slotSize, int slabBytes, int maxSlabs) {
+            this.slotSize = slotSize;
+            this.slotsPerSlab = Math.max(1, slabBytes / slotSize);
+            this.maxSlabs = maxSlabs;
+        }
+
+        private synchronized int allocate() {
+            if (freeCount > 0) return freeSlots[--freeCount];
+            if (nextUnused == slabs.size() * slotsPerSlab) {
+                if (slabs.size() >= maxSlabs) return -1;
+                slabs.add(ByteBuffer.allocateDirect(slotsPerSlab * slotSize));
+                slabView = slabs.toArray(new ByteBuffer[0]);
+            }
+            return nextUnused++;
+        }
+
+        private synchronized void free(int slot) {
+            if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            freeSlots[freeCount++] = slot;
+        }
+
+        private synchronized int freeCount() {
+            return freeCount;
+        }
+
+        private synchronized long allocatedBytes() {
+            return (long) slabs.size() * slotsPerSlab * slotSize;
+        }
+
+        private ByteBuffer slab(int slot) {
+            return slabView[slot / slotsPerSlab];
+        }
+
+        private int offset(int slot) {
+            return (slot % slotsPerSlab) * slotSize;
+        }
+    }
+}
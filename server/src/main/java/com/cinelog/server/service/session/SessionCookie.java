@@ -0,0 +1,46 @@
+package com.cinelog.server.service.session;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+//세션 쿠키 읽기/쓰기 (HttpOnly, SameSite=Lax, 브라우저 종료 시 삭제)
+public class SessionCookie {
+    private final String name;
+    private final boolean secure;
+
+    public SessionCookie(String name, boolean secure) {
+        this.name = name;
+        this.secure = secure;
+    }
+
+    public String read(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return null;
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName())) return cookie.getValue();
+        }
+        return null;
+    }
+
+    public void write(HttpServletResponse response, String value) {
+        response.addHeader(HttpHeaders.SET_COOKIE, builder(value).build().toString());
+    }
+
+    public void clear(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, builder("").maxAge(Duration.ZERO).build().toString());
+    }
+
+    private ResponseCookie.ResponseCookieBuilder builder(String value) {
+        return ResponseCookie.from(name, value)
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite("Lax")
+                .path("/");
+    }
+}
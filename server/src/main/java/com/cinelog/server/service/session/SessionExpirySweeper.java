@@ -0,0 +1,38 @@
+package com.cinelog.server.service.session;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+//만료 세션 정리를 요청 스레드가 아닌 별도 스레드에서 주기적으로 수행
+public class SessionExpirySweeper implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(SessionExpirySweeper.class);
+
+    private final ScheduledExecutorService scheduler;
+
+    public SessionExpirySweeper(SessionStore sessionStore, Duration interval) {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                sessionStore.sweepExpired();
+            } catch (RuntimeException e) {//예외로 스케줄이 멈추지 않도록
+                log.warn("만료 세션 정리에 실패했습니다.", e);
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,22 @@
+package com.cinelog.server.service.session;
+
+import java.util.Optional;
+
+import com.cinelog.server.dto.user.SessionUser;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+//로그인 유저를 어디에 보관할지 결정 -> SessionManager는 저장 위치를 모름
+public interface SessionStore {
+    public void create(HttpServletRequest request, HttpServletResponse response, SessionUser user);//기존 세션은 폐기하고 새로 발급(세션 고정공격 방어)
+    public Optional<SessionUser> find(HttpServletRequest request, HttpServletResponse response);//저장소에 따라 만료 연장 시 쿠키를 다시 내려줌
+    public void update(HttpServletRequest request, HttpServletResponse response, SessionUser user);
+    public void invalidate(HttpServletRequest request, HttpServletResponse response);
+    public default void invalidateAll(HttpServletRequest request, HttpServletResponse response, Long userId) {//유저의 모든 세션 폐기, 기본은 현재 세션만
+        invalidate(request, response);
+    }
+    public default int sweepExpired() {//만료 정리를 직접 해야 하는 저장소만 구현
+        return 0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.cinelog.server.service.session;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.cinelog.server.domain.Role;
+import com.cinelog.server.dto.user.SessionUser;
+
+//SessionUser <-> 바이트 변환 (자바 직렬화보다 훨씬 작음)
+//[버전 1][id 8][role 1][이름 길이 2][이름 utf-8]
+public final class SessionUserCodec {
+    private static final byte VERSION = 1;
+    private static final int HEADER_BYTES = 1 + 8 + 1 + 2;
+    private static final Role[] ROLES = Role.values();
+
+    private SessionUserCodec() {
+    }
+
+    public static byte[] encode(SessionUser user) {
+        byte[] name = user.getName().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + name.length);
+        buffer.put(VERSION);
+        buffer.putLong(user.getId());
+        buffer.put(user.getRole() == null ? -1 : (byte) user.getRole().ordinal());
+        buffer.putShort((short) name.length);
+        buffer.put(name);
+        return buffer.array();
+    }
+
+    public static SessionUser decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    public static SessionUser decode(ByteBuffer buffer) {
+        byte version = buffer.get();
+        if (version != VERSION) throw new IllegalStateException("지원하지 않는 세션 형식입니다. version: " + version);
+        long id = buffer.getLong();
+        byte role = buffer.get();
+        byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(name);
+        return new SessionUser(id, new String(name, StandardCharsets.UTF_8), role < 0 ? null : ROLES[role]);
+    }
+}
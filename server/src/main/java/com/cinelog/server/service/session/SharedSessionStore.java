@@ -0,0 +1,50 @@
+package com.cinelog.server.service.session;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import com.cinelog.server.dto.user.SessionUser;
+
+//세션을 공유 키-값 저장소에 보관 -> 어느 서버로 요청이 가도 같은 세션을 봄
+//값 구조: [만료시각 8][SessionUserCodec 바이트]
+public class SharedSessionStore extends KeyedSessionStore {
+    private static final String KEY_PREFIX = "cinelog:session:";
+
+    private final KeyValueStore keyValueStore;
+
+    public SharedSessionStore(KeyValueStore keyValueStore, String cookieName, boolean secureCookie, Duration timeout) {
+        this(keyValueStore, cookieName, secureCookie, timeout, System::currentTimeMillis);
+    }
+
+    SharedSessionStore(KeyValueStore keyValueStore, String cookieName, boolean secureCookie, Duration timeout, LongSupplier clock) {
+        super(cookieName, secureCookie, timeout, clock);
+        this.keyValueStore = keyValueStore;
+    }
+
+    @Override
+    protected void write(String sessionId, SessionUser user, long expiresAt) {
+        byte[] payload = SessionUserCodec.encode(user);
+        byte[] value = ByteBuffer.allocate(8 + payload.length).putLong(expiresAt).put(payload).array();
+        keyValueStore.put(KEY_PREFIX + sessionId, value, Duration.ofMillis(Math.max(1, expiresAt - clock.getAsLong())));
+    }
+
+    @Override
+    protected StoredSession read(String sessionId) {
+        byte[] value = keyValueStore.get(KEY_PREFIX + sessionId);
+        if (value == null) return null;
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        long expiresAt = buffer.getLong();
+        return new StoredSession(SessionUserCodec.decode(buffer), expiresAt);
+    }
+
+    @Override
+    protected void delete(String sessionId) {
+        keyValueStore.delete(KEY_PREFIX + sessionId);
+    }
+
+    @Override
+    protected int sweepExpired(long now) {
+        return keyValueStore.sweepExpired();
+    }
+}
@@ -0,0 +1,158 @@
+package com.cinelog.server.service.session;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import com.cinelog.server.dto.user.SessionUser;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+//서버에 세션을 두지 않고 서명된 토큰(쿠키)에 유저 정보를 담음 -> 어느 서버든 검증만으로 처리
+//토큰 구조: base64url([버전 1][키 id 1][토큰 id 8][발급시각 8][만료시각 8][SessionUserCodec 바이트]).base64url(HMAC-SHA256)
+public class SignedTokenSessionStore implements SessionStore {
+    private static final String RESOLVED_TOKEN = SignedTokenSessionStore.class.getName() + ".token";
+    private static final byte VERSION = 1;
+    private static final int HEADER_BYTES = 1 + 1 + 8 + 8 + 8;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final TokenKeyRing keyRing;
+    private final TokenRevocationList revocations;
+    private final SessionCookie cookie;
+    private final long timeoutMillis;
+    private final LongSupplier clock;
+    private final SecureRandom random = new SecureRandom();
+
+    public SignedTokenSessionStore(TokenKeyRing keyRing, TokenRevocationList revocations, String cookieName, boolean secureCookie, Duration timeout) {
+        this(keyRing, revocations, cookieName, secureCookie, timeout, System::currentTimeMillis);
+    }
+
+    SignedTokenSessionStore(TokenKeyRing keyRing, TokenRevocationList revocations, String cookieName, boolean secureCookie, Duration timeout, LongSupplier clock) {
+        this.keyRing = keyRing;
+        this.revocations = revocations;
+        this.cookie = new SessionCookie(cookieName, secureCookie);
+        this.timeoutMillis = timeout.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    public void create(HttpServletRequest request, HttpServletResponse response, SessionUser user) {
+        Token old = current(request);
+        if (old != null) revocations.revokeToken(old.tokenId);//로그인 전 토큰을 알고 있던 쪽이 계속 쓰지 못하도록
+        long now = clock.getAsLong();
+        issue(request, response, new Token(keyRing.getActiveKeyId(), random.nextLong(), now, now + timeoutMillis, user));
+    }
+
+    @Override
+    public Optional<SessionUser> find(HttpServletRequest request, HttpServletResponse response) {
+        Token token = current(request);
+        if (token == null) return Optional.empty();
+        long now = clock.getAsLong();
+        //만료가 절반 이상 지났거나 예전 키로 서명된 토큰은 현재 키로 다시 발급 (발급시각은 유지해야 유저 단위 폐기가 적용됨)
+        if (token.expiresAt - now < timeoutMillis / 2 || token.keyId != keyRing.getActiveKeyId()) {
+            issue(request, response, new Token(keyRing.getActiveKeyId(), token.tokenId, token.issuedAt, now + timeoutMillis, token.user));
+        }
+        return Optional.of(token.user);
+    }
+
+    @Override
+    public void update(HttpServletRequest request, HttpServletResponse response, SessionUser user) {
+        Token token = current(request);
+        if (token == null) return;
+        long now = clock.getAsLong();
+        issue(request, response, new Token(keyRing.getActiveKeyId(), token.tokenId, token.issuedAt, now + timeoutMillis, user));
+    }
+
+    @Override
+    public void invalidate(HttpServletRequest request, HttpServletResponse response) {
+        Token token = current(request);
+        if (token == null) return;
+        revocations.revokeToken(token.tokenId);
+        request.removeAttribute(RESOLVED_TOKEN);
+        cookie.clear(response);
+    }
+
+    @Override
+    public void invalidateAll(HttpServletRequest request, HttpServletResponse response, Long userId) {//비밀번호 변경, 탈퇴 -> 다른 기기의 토큰까지 폐기
+        revocations.revokeUser(userId, clock.getAsLong());
+        request.removeAttribute(RESOLVED_TOKEN);
+        cookie.clear(response);
+    }
+
+    @Override
+    public int sweepExpired() {
+        return revocations.sweepExpired();
+    }
+
+    //유효한 토큰만 반환 (서명, 만료, 폐기 여부 확인) -> 한 요청 안에서는 한 번만 검증
+    private Token current(HttpServletRequest request) {
+        Token resolved = (Token) request.getAttribute(RESOLVED_TOKEN);
+        if (resolved != null) return resolved;
+        String value = cookie.read(request);
+        if (value == null) return null;
+        Token token = parse(value);
+        if (token == null || token.expiresAt <= clock.getAsLong()) return null;
+        if (revocations.isRevoked(token.tokenId, token.user.getId(), token.issuedAt)) return null;
+        request.setAttribute(RESOLVED_TOKEN, token);
+        return token;
+    }
+
+    private void issue(HttpServletRequest request, HttpServletResponse response, Token token) {
+        byte[] user = SessionUserCodec.encode(token.user);
+        byte[] payload = ByteBuffer.allocate(HEADER_BYTES + user.length)
+                .put(VERSION)
+                .put((byte) token.keyId)
+                .putLong(token.tokenId)
+                .putLong(token.issuedAt)
+                .putLong(token.expiresAt)
+                .put(user)
+                .array();
+        byte[] signature = keyRing.sign(token.keyId, payload);
+        cookie.write(response, ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(signature));
+        request.setAttribute(RESOLVED_TOKEN, token);
+    }
+
+    private Token parse(String value) {//위조/손상된 토큰은 예외 없이 null
+        int dot = value.indexOf('.');
+        if (dot <= 0) return null;
+        try {
+            byte[] payload = DECODER.decode(value.substring(0, dot));
+            byte[] signature = DECODER.decode(value.substring(dot + 1));
+            if (payload.length <= HEADER_BYTES || payload[0] != VERSION) return null;
+            int keyId = Byte.toUnsignedInt(payload[1]);
+            if (!keyRing.contains(keyId)) return null;//목록에서 빠진 키로 서명된 토큰
+            if (!MessageDigest.isEqual(keyRing.sign(keyId, payload), signature)) return null;//비교 시간이 내용과 무관
+            ByteBuffer buffer = ByteBuffer.wrap(payload, 2, payload.length - 2);
+            long tokenId = buffer.getLong();
+            long issuedAt = buffer.getLong();
+            long expiresAt = buffer.getLong();
+            SessionUser user = SessionUserCodec.decode(ByteBuffer.wrap(Arrays.copyOfRange(payload, HEADER_BYTES, payload.length)));
+            return new Token(keyId, tokenId, issuedAt, expiresAt, user);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class Token {
+        private final int keyId;
+        private final long tokenId;
+        private final long issuedAt;
+        private final long expiresAt;
+        private final SessionUser user;
+
+        private Token(int keyId, long tokenId, long issuedAt, long expiresAt, SessionUser user) {
+            this.keyId = keyId;
+            this.tokenId = tokenId;
+            this.issuedAt = issuedAt;
+            this.expiresAt = expiresAt;
+            this.user = user;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.cinelog.server.service.session;
+
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+//세션 토큰 서명 키 목록 -> 현재 키로 서명하고, 목록에 남아있는 예전 키로 서명된 토큰도 검증
+//설정 형식: "1:base64비밀키,2:base64비밀키" (id는 0~255)
+public class TokenKeyRing {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+
+    private final Map<Integer, SecretKeySpec> keys = new HashMap<>();//생성 후 바뀌지 않음
+    private final int activeKeyId;
+    private final ThreadLocal<Map<Integer, Mac>> macs = ThreadLocal.withInitial(HashMap::new);//Mac은 스레드 안전하지 않음
+
+    public TokenKeyRing(String keySpec, int activeKeyId) {
+        if (keySpec == null || keySpec.isBlank()) {//키 미설정 -> 임시 키 (재시작 시 모든 토큰 무효, 여러 서버 간 공유 불가)
+            byte[] random = new byte[MIN_KEY_BYTES];
+            new SecureRandom().nextBytes(random);
+            keys.put(activeKeyId, new SecretKeySpec(random, ALGORITHM));
+        } else {
+            for (String entry : keySpec.split(",")) {
+                String[] parts = entry.trim().split(":", 2);
+                if (parts.length != 2) throw new IllegalArgumentException("세션 서명 키 형식이 올바르지 않습니다. (id:base64)");
+                int id = Integer.parseInt(parts[0].trim());
+                if (id < 0 || id > 255) throw new IllegalArgumentException("세션 서명 키 id는 0~255 이어야 합니다. id: " + id);
+                byte[] secret = Base64.getDecoder().decode(parts[1].trim());
+                if (secret.length < MIN_KEY_BYTES) throw new IllegalArgumentException("세션 서명 키는 32바이트 이상이어야 합니다. id: " + id);
+                keys.put(id, new SecretKeySpec(secret, ALGORITHM));
+            }
+        }
+        if (!keys.containsKey(activeKeyId)) throw new IllegalArgumentException("현재 서명 키가 목록에 없습니다. id: " + activeKeyId);
+        this.activeKeyId = activeKeyId;
+    }
+
+    public int getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public boolean contains(int keyId) {
+        return keys.containsKey(keyId);
+    }
+
+    public byte[] sign(int keyId, byte[] payload) {
+        Mac mac = macs.get().computeIfAbsent(keyId, this::newMac);
+        return mac.doFinal(payload);
+    }
+
+    private Mac newMac(int keyId) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(keys.get(keyId));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("세션 서명 키를 초기화할 수 없습니다.", e);
+        }
+    }
+}
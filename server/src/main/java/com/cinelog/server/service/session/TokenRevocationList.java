@@ -0,0 +1,38 @@
+package com.cinelog.server.service.session;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+//폐기된 토큰/유저 목록 -> 공유 키-값 저장소에 두어 모든 서버가 같은 목록을 봄
+//토큰 만료시간이 지나면 항목도 필요 없으므로 ttl로 자동 삭제
+public class TokenRevocationList {
+    private static final String TOKEN_PREFIX = "cinelog:revoked:token:";
+    private static final String USER_PREFIX = "cinelog:revoked:user:";
+    private static final byte[] REVOKED = new byte[] {1};
+
+    private final KeyValueStore keyValueStore;
+    private final Duration retention;//폐기 시점 이후 어떤 토큰도 이 시간 안에 만료됨
+
+    public TokenRevocationList(KeyValueStore keyValueStore, Duration retention) {
+        this.keyValueStore = keyValueStore;
+        this.retention = retention;
+    }
+
+    public void revokeToken(long tokenId) {
+        keyValueStore.put(TOKEN_PREFIX + tokenId, REVOKED, retention);
+    }
+
+    public void revokeUser(long userId, long issuedBefore) {//이 시각 이전에 발급된 해당 유저의 토큰 전부 폐기
+        keyValueStore.put(USER_PREFIX + userId, ByteBuffer.allocate(8).putLong(issuedBefore).array(), retention);
+    }
+
+    public boolean isRevoked(long tokenId, long userId, long issuedAt) {
+        if (keyValueStore.get(TOKEN_PREFIX + tokenId) != null) return true;
+        byte[] issuedBefore = keyValueStore.get(USER_PREFIX + userId);
+        return issuedBefore != null && issuedAt <= ByteBuffer.wrap(issuedBefore).getLong();
+    }
+
+    public int sweepExpired() {
+        return keyValueStore.sweepExpired();
+    }
+}
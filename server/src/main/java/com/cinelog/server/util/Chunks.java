@@ -0,0 +1,23 @@
+package com.cinelog.server.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+//IN 절 파라미터가 너무 길어지지 않도록 id 목록을 나눔 (중복 제거, 순서 유지)
+public final class Chunks {
+    public static final int IN_CLAUSE_SIZE = 500;
+
+    private Chunks() {
+    }
+
+    public static <T> List<List<T>> distinct(Collection<T> values, int size) {
+        List<T> distinct = new ArrayList<>(new LinkedHashSet<>(values));
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += size) {
+            chunks.add(distinct.subList(from, Math.min(from + size, distinct.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,87 @@
+package com.cinelog.server.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+//고정 크기 lock-free 링 버퍼 -> 가장 오래된 값부터 덮어씀
+public class RingBuffer<T> {
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final AtomicLong sequence = new AtomicLong();//다음에 쓸 위치(누적)
+    private final int capacity;
+
+    public RingBuffer(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("링 버퍼 크기는 1 이상이어야 합니다.");
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void append(T value) {
+        write(sequence.getAndIncrement(), value);//자리만 먼저 확보하고 씀 -> 쓰기끼리 락 없음
+    }
+
+    //확보 후 쓰기 전에 멈춘 스레드가 한 바퀴 뒤(seq + capacity)의 새 값을 덮지 않도록 더 오래된 칸만 CAS로 교체
+    void write(long seq, T value) {
+        int i = index(seq);
+        Slot<T> next = new Slot<>(seq, value);
+        while (true) {
+            Slot<T> current = slots.get(i);
+            if (current != null && current.seq > seq) return;//이미 더 새 값이 들어옴 -> 내 값은 밀려난 것으로 봄
+            if (slots.compareAndSet(i, current, next)) return;
+        }
+    }
+
+    long claim() {
+        return sequence.getAndIncrement();
+    }
+
+    //최신순으로 최대 limit개
+    public List<T> latest(int limit) {
+        long end = sequence.get();
+        long start = Math.max(0, end - capacity);
+        List<T> results = new ArrayList<>(Math.min(limit, capacity));
+        for (long seq = end - 1; seq >= start && results.size() < limit; seq--) {
+            Slot<T> slot = slots.get(index(seq));
+            //아직 안 써졌거나 이미 덮어써진 칸, 지워진 칸은 건너뜀
+            if (slot == null || slot.seq != seq || slot.value == null) continue;
+            results.add(slot.value);
+        }
+        return results;
+    }
+
+    public int removeIf(Predicate<T> condition) {
+        return replaceIf(condition, value -> null);
+    }
+
+    //조건에 맞는 값을 교체 (null이면 삭제) -> 경쟁 중 덮어써진 칸은 CAS 실패로 건드리지 않음
+    public int replaceIf(Predicate<T> condition, UnaryOperator<T> replacer) {
+        int changed = 0;
+        for (int i = 0; i < capacity; i++) {
+            Slot<T> slot = slots.get(i);
+            if (slot == null || slot.value == null || !condition.test(slot.value)) continue;
+            if (slots.compareAndSet(i, slot, new Slot<>(slot.seq, replacer.apply(slot.value)))) changed++;
+        }
+        return changed;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int index(long seq) {
+        return (int) (seq % capacity);
+    }
+
+    private static final class Slot<T> {
+        private final long seq;
+        private final T value;
+
+        private Slot(long seq, T value) {
+            this.seq = seq;
+            this.value = value;
+        }
+    }
+}
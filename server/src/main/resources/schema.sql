@@ -23,6 +23,9 @@ CREATE TABLE movies (
     description        TEXT,
     release_date       DATE,
     rating             DOUBLE DEFAULT 0.0,
+    version            BIGINT NOT NULL DEFAULT 0, -- 낙관적 락 (출연진/정보 수정 시 증가)
+    revision           BIGINT NOT NULL DEFAULT 0, -- 상세 응답이 바뀌는 모든 쓰기(평점, 출연 배우/감독 이름 포함)마다 증가 -> 조건부 GET
+    reviews_revision   BIGINT NOT NULL DEFAULT 0, -- 이 영화의 리뷰 목록이 바뀔 때마다 증가 (작성/수정/삭제, 작성자 이름 변경)
     CONSTRAINT fk_movie_director FOREIGN KEY (director_id) REFERENCES directors(id)
 );
 
@@ -56,4 +59,7 @@ CREATE TABLE reviews (
     -- 외래키 설정
     CONSTRAINT fk_review_movie FOREIGN KEY (movie_id) REFERENCES movies(id) ON DELETE CASCADE,
     CONSTRAINT fk_review_user  FOREIGN KEY (user_id)  REFERENCES users(id)
-);
\ No newline at end of file
+);
+
+-- 최신 리뷰 피드 워밍업(created_at 역순 조회)용 인덱스
+CREATE INDEX idx_reviews_created_at ON reviews (created_at);
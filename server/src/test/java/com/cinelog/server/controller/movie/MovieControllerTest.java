@@ -0,0 +1,154 @@
+package com.cinelog.server.controller.movie;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.cinelog.server.domain.Director;
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+import com.cinelog.server.dto.movie.MovieProjection;
+import com.cinelog.server.dto.movie.MovieStamp;
+import com.cinelog.server.dto.movie.MovieView;
+import com.cinelog.server.service.MovieService;
+import com.cinelog.server.service.ReviewService;
+
+@ExtendWith(MockitoExtension.class)
+class MovieControllerTest {
+
+    @Mock
+    private MovieService movieService;
+    @Mock
+    private ReviewService reviewService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new MovieController(movieService, reviewService)).build();
+    }
+
+    @Test
+    @DisplayName("처음 조회하면 ETag 와 함께 영화 상세를 돌려준다")
+    void firstRequestReturnsBodyWithETag() throws Exception {
+        // Given
+        Movie movie = new Movie("기생충", new Director("봉준호"), Genre.DRAMA, LocalDate.of(2019, 5, 30), "설명", new ArrayList<>());
+        movie.setId(1L);
+        movie.setRevision(3L);
+        given(movieService.findStamp(1L)).willReturn(Optional.of(new MovieStamp(3L, 0L)));
+        given(movieService.getMovieById(1L)).willReturn(movie);
+
+        // When & Then
+        mockMvc.perform(get("/movies/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"movie-1-3\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$.name").value("기생충"));
+    }
+
+    @Test
+    @DisplayName("캐시에서 읽은 본문이 표시보다 오래됐으면 본문의 revision 으로 ETag 를 만든다")
+    void staleCachedBodyKeepsItsOwnETag() throws Exception {
+        // Given
+        Movie movie = new Movie("기생충", new Director("봉준호"), Genre.DRAMA, LocalDate.of(2019, 5, 30), "옛 설명", new ArrayList<>());
+        movie.setId(1L);
+        movie.setRevision(2L);//커밋 직후 아직 갱신되지 않은 캐시
+        given(movieService.findStamp(1L)).willReturn(Optional.of(new MovieStamp(3L, 0L)));
+        given(movieService.getMovieById(1L)).willReturn(movie);
+
+        // When & Then
+        mockMvc.perform(get("/movies/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"movie-1-2\""));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 표시와 같으면 영화를 읽지 않고 304 를 돌려준다")
+    void unchangedMovieReturnsNotModified() throws Exception {
+        // Given
+        given(movieService.findStamp(1L)).willReturn(Optional.of(new MovieStamp(3L, 0L)));
+
+        // When & Then
+        mockMvc.perform(get("/movies/1").header(HttpHeaders.IF_NONE_MATCH, "\"movie-1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(movieService, never()).getMovieById(any());
+    }
+
+    @Test
+    @DisplayName("리뷰 목록은 영화 표시와 리뷰 목록 표시가 모두 같을 때만 304 를 돌려준다")
+    void reviewListUsesBothRevisions() throws Exception {
+        // Given
+        given(movieService.findStamp(1L)).willReturn(Optional.of(new MovieStamp(3L, 7L)));
+        given(reviewService.findReviewByMovieId(1L)).willReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/movies/1/reviews").header(HttpHeaders.IF_NONE_MATCH, "\"reviews-1-3.7\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/movies/1/reviews").header(HttpHeaders.IF_NONE_MATCH, "\"reviews-1-3.6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"reviews-1-3.7\""));
+        verify(reviewService).findReviewByMovieId(1L);//304 응답에서는 조회하지 않음
+    }
+
+    @Test
+    @DisplayName("없는 영화는 404")
+    void missingMovieReturnsNotFound() throws Exception {
+        // Given
+        given(movieService.findStamp(9L)).willReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/movies/9")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("목록 조회는 기본이 summary 이고 범위 밖 필드는 응답에서 빠진다")
+    void listDefaultsToSummary() throws Exception {
+        // Given
+        MovieView view = new MovieView(1L, "기생충", Genre.DRAMA, LocalDate.of(2019, 5, 30), 4.5, null, null, null);
+        given(movieService.findAllByIds(List.of(1L, 2L), MovieProjection.SUMMARY)).willReturn(List.of(view));
+
+        // When & Then
+        mockMvc.perform(get("/movies").param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("기생충"))
+                .andExpect(jsonPath("$[0].rating").value(4.5))
+                .andExpect(jsonPath("$[0].actors").doesNotExist())
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("fields 로 출연진 포함 범위를 고를 수 있고 모르는 값이면 400")
+    void listWithSelectedFields() throws Exception {
+        // Given
+        given(movieService.findAllMoviesByKeyword("기생", MovieProjection.WITH_CAST)).willReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/movies/search").param("keyword", "기생").param("fields", "withCast"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/movies").param("ids", "1").param("fields", "everything"))
+                .andExpect(status().isBadRequest());
+        verify(movieService, never()).findAllByIds(any(), any());
+    }
+}
@@ -0,0 +1,114 @@
+package com.cinelog.server.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MetricsRegistryTest {
+
+    @Test
+    @DisplayName("링 버퍼는 크기만큼 최근 값만 오래된 순서로 남긴다")
+    void ringKeepsLatestSamples() {
+        // Given
+        SampleRing ring = new SampleRing(4);
+        for (int i = 1; i <= 10; i++) ring.record(i * 1000L, i);
+
+        // When
+        long[] times = new long[8];
+        double[] values = new double[8];
+        int count = ring.copyLatest(8, times, values);
+
+        // Then
+        assertThat(count).isEqualTo(4);
+        assertThat(values).startsWith(7, 8, 9, 10);
+        assertThat(times).startsWith(7000L, 8000L, 9000L, 10000L);
+        assertThat(ring.last()).isEqualTo(10);
+        assertThat(ring.copyLatest(2, times, values)).isEqualTo(2);
+        assertThat(values).startsWith(9, 10);
+    }
+
+    @Test
+    @DisplayName("수집할 때마다 gauge 값을 기록하고, 실패한 지표는 NaN 으로 남긴다")
+    void sampleRecordsEachGauge() {
+        // Given
+        MetricsRegistry registry = new MetricsRegistry(10);
+        AtomicLong active = new AtomicLong(3);
+        registry.gauge("pool_active", "사용 중", Map.of("pool", "main"), active::get);
+        registry.gauge("broken", "실패", Map.of(), () -> { throw new IllegalStateException(); });
+
+        // When
+        registry.sample();
+        active.set(5);
+        registry.sample();
+
+        // Then
+        MetricsRegistry.Gauge pool = registry.gauges().stream().filter(g -> g.getName().equals("pool_active")).findFirst().orElseThrow();
+        MetricsRegistry.Gauge broken = registry.gauges().stream().filter(g -> g.getName().equals("broken")).findFirst().orElseThrow();
+        assertThat(pool.getSamples().last()).isEqualTo(5);
+        assertThat(pool.getSamples().copyLatest(10, new long[10], new double[10])).isEqualTo(2);
+        assertThat(broken.getSamples().last()).isNaN();
+    }
+
+    @Test
+    @DisplayName("Prometheus 텍스트는 이름마다 HELP/TYPE 한 번, 라벨 값은 이스케이프, timer 는 초 단위 summary 로 쓴다")
+    void prometheusFormat() {
+        // Given
+        MetricsRegistry registry = new MetricsRegistry(10);
+        registry.gauge("cinelog_cache_hit_ratio", "적중률", Map.of("cache", "movie"), () -> 0.75);
+        registry.gauge("cinelog_cache_hit_ratio", "적중률", Map.of("cache", "us\"er"), () -> 0.5);
+        registry.counter("cinelog_cache_hits_total", "적중", Map.of(), () -> 42);
+        registry.timer("cinelog_http_request", "요청", Map.of("endpoint", "GET /movies/{id}")).record(2_000, 0, false);
+        registry.sample();
+
+        // When
+        String text = MetricsFormat.prometheus(registry);
+
+        // Then
+        assertThat(text).containsOnlyOnce("# TYPE cinelog_cache_hit_ratio gauge\n");
+        assertThat(text).contains("cinelog_cache_hit_ratio{cache=\"movie\"} 0.75\n");
+        assertThat(text).contains("cinelog_cache_hit_ratio{cache=\"us\\\"er\"} 0.5\n");
+        assertThat(text).contains("# TYPE cinelog_cache_hits_total counter\ncinelog_cache_hits_total 42\n");
+        assertThat(text).contains("# TYPE cinelog_http_request_seconds summary\n");
+        assertThat(text).contains("cinelog_http_request_seconds{endpoint=\"GET /movies/{id}\",quantile=\"0.5\"} 0.002\n");
+        assertThat(text).contains("cinelog_http_request_seconds_count{endpoint=\"GET /movies/{id}\"} 1\n");
+    }
+
+    @Test
+    @DisplayName("지표 서버는 로컬 포트에서 Prometheus 텍스트와 기록을 포함한 json 을 돌려준다")
+    void httpServerServesBothFormats() throws Exception {
+        // Given
+        MetricsRegistry registry = new MetricsRegistry(10);
+        registry.gauge("cinelog_jvm_threads", "스레드", Map.of(), () -> 7);
+        registry.sample();
+        registry.sample();
+        MetricsHttpServer server = new MetricsHttpServer(registry, "127.0.0.1", 0);
+        HttpClient client = HttpClient.newHttpClient();
+        try {
+            // When
+            HttpResponse<String> text = client.send(HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + "/metrics")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> json = client.send(HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + "/metrics/json?history=5")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> missing = client.send(HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + "/other")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            // Then
+            assertThat(text.statusCode()).isEqualTo(200);
+            assertThat(text.body()).contains("cinelog_jvm_threads 7\n");
+            assertThat(json.statusCode()).isEqualTo(200);
+            assertThat(json.headers().firstValue("Content-Type")).hasValue("application/json");
+            assertThat(json.body()).contains("\"name\":\"cinelog_jvm_threads\"").contains("\"value\":7.0").containsPattern("\"history\":\\[\\[\\d+,7\\.0\\],\\[\\d+,7\\.0\\]\\]");
+            assertThat(missing.statusCode()).isEqualTo(404);
+        } finally {
+            server.destroy();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.cinelog.server.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("만료시간이 지난 값은 조회되지 않는다")
+    void get_Expired() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        BoundedCache<String, String> cache = new BoundedCache<>(100, Duration.ofSeconds(10), now::get);
+        cache.put("a", "value");
+
+        // When
+        String beforeExpiry = cache.get("a");
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        String afterExpiry = cache.get("a");
+
+        // Then
+        assertThat(beforeExpiry).isEqualTo("value");
+        assertThat(afterExpiry).isNull();
+        assertThat(cache.getExpirationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 오래 안 쓴 값부터 내보낸다")
+    void put_EvictsLeastRecentlyUsed() {
+        // Given (조각당 1개)
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(16, Duration.ofMinutes(1));
+
+        // When (같은 조각에 들어가는 키 2개)
+        cache.put(0, 0);
+        cache.put(16, 16);
+
+        // Then
+        assertThat(cache.get(0)).isNull();
+        assertThat(cache.get(16)).isEqualTo(16);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화가 일어나면 조회한 옛 값은 캐시에 넣지 않는다")
+    void getOrLoad_InvalidatedWhileLoading() {
+        // Given
+        BoundedCache<Long, String> cache = new BoundedCache<>(100, Duration.ofMinutes(1));
+
+        // When
+        String loaded = cache.getOrLoad(1L, key -> {
+            cache.invalidate(key);//다른 요청이 저장하면서 무효화한 상황
+            return "stale";
+        });
+
+        // Then
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.getOrLoad(1L, key -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.get(1L)).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("저장 불가로 판단되면 조회 결과만 돌려주고 캐시에는 넣지 않는다")
+    void getOrLoad_NotStorable() {
+        // Given
+        BoundedCache<Long, String> cache = new BoundedCache<>(100, Duration.ofMinutes(1));
+
+        // When (복제본에서 읽은 상황)
+        String loaded = cache.getOrLoad(1L, key -> "replica", () -> false);
+        Map<Long, String> loadedAll = cache.getAllOrLoad(List.of(2L, 3L), missing -> Map.of(2L, "replica", 3L, "replica"), () -> false);
+
+        // Then
+        assertThat(loaded).isEqualTo("replica");
+        assertThat(loadedAll).containsOnlyKeys(2L, 3L);
+        assertThat(cache.size()).isZero();
+    }
+}
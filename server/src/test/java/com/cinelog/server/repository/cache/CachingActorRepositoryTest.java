@@ -0,0 +1,74 @@
+package com.cinelog.server.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cinelog.server.domain.Actor;
+import com.cinelog.server.repository.jdbc.ActorJdbcRepository;
+
+class CachingActorRepositoryTest {
+    private ActorJdbcRepository delegate;
+    private CachingActorRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ActorJdbcRepository.class);
+        repository = new CachingActorRepository(delegate, true, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("여러 ID 조회 시 캐시에 없는 ID만 한 번에 조회한다")
+    void findAllByIds_LoadsOnlyMisses() {
+        // Given
+        given(delegate.findById(1L)).willReturn(Optional.of(actor(1L, "송강호")));
+        given(delegate.findAllByIds(List.of(2L, 3L))).willReturn(List.of(actor(2L, "이선균"), actor(3L, "조여정")));
+        repository.findById(1L);
+
+        // When
+        List<Actor> first = repository.findAllByIds(List.of(1L, 2L, 3L));
+        List<Actor> second = repository.findAllByIds(List.of(1L, 2L, 3L));
+
+        // Then
+        assertThat(first).extracting(Actor::getName).containsExactlyInAnyOrder("송강호", "이선균", "조여정");
+        assertThat(second).hasSize(3);
+        verify(delegate, times(1)).findAllByIds(List.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("이름 변경/삭제 시 캐시가 무효화된다")
+    void saveAndDelete_Invalidate() {
+        // Given
+        Actor renamed = actor(1L, "변경된 이름");
+        given(delegate.findById(1L)).willReturn(Optional.of(actor(1L, "송강호")), Optional.of(renamed), Optional.empty());
+        given(delegate.save(renamed)).willReturn(renamed);
+        given(delegate.delete(1L)).willReturn(true);
+        repository.findById(1L);
+
+        // When
+        repository.save(renamed);
+        String afterSave = repository.findById(1L).get().getName();
+        repository.delete(1L);
+
+        // Then
+        assertThat(afterSave).isEqualTo("변경된 이름");
+        assertThat(repository.findById(1L)).isEmpty();
+        verify(delegate, times(3)).findById(1L);
+    }
+
+    private Actor actor(Long id, String name) {
+        Actor actor = new Actor(name);
+        actor.setId(id);
+        return actor;
+    }
+}
@@ -0,0 +1,151 @@
+package com.cinelog.server.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cinelog.server.domain.Actor;
+import com.cinelog.server.domain.Director;
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+import com.cinelog.server.domain.event.ActorChangedEvent;
+import com.cinelog.server.domain.event.DirectorChangedEvent;
+import com.cinelog.server.exception.movie.MovieVersionConflictException;
+import com.cinelog.server.repository.jdbc.MovieJdbcRepository;
+
+class CachingMovieRepositoryTest {
+    private MovieJdbcRepository delegate;
+    private CachingMovieRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(MovieJdbcRepository.class);
+        repository = new CachingMovieRepository(delegate, true, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("같은 영화를 다시 조회하면 캐시에서 반환하고, 반환된 객체를 바꿔도 캐시에는 영향이 없다")
+    void findById_ReturnsSnapshotCopy() {
+        // Given
+        given(delegate.findById(1L)).willReturn(Optional.of(movie(1L, 10L, 100L)));
+
+        // When
+        Movie first = repository.findById(1L).get();
+        first.updateRating(4.5);
+        first.addActor(actor(101L));
+        Movie second = repository.findById(1L).get();
+
+        // Then
+        assertThat(second.getRating()).isEqualTo(0.0);
+        assertThat(second.getActors()).hasSize(1);
+        assertThat(repository.getHitRatio()).isEqualTo(0.5);
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("평점 갱신(save) 시 해당 영화 캐시가 무효화된다")
+    void save_Invalidates() {
+        // Given
+        Movie rated = movie(1L, 10L, 100L);
+        rated.updateRating(3.0);
+        given(delegate.findById(1L)).willReturn(Optional.of(movie(1L, 10L, 100L)), Optional.of(rated));
+        given(delegate.save(rated)).willReturn(rated);
+        repository.findById(1L);
+
+        // When
+        repository.save(rated);
+
+        // Then
+        assertThat(repository.findById(1L).get().getRating()).isEqualTo(3.0);
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("캐시의 버전이 뒤처져 저장이 충돌하면 캐시를 지워서, 재시도는 최신 버전을 읽고 성공한다")
+    void save_ConflictInvalidatesStaleVersion() {
+        // Given (캐시에는 version 0, 다른 수정이 먼저 반영되어 db는 version 1)
+        Movie stale = movie(1L, 10L, 100L);
+        stale.setVersion(0L);
+        Movie latest = movie(1L, 10L, 100L);
+        latest.setVersion(1L);
+        given(delegate.findById(1L)).willReturn(Optional.of(stale), Optional.of(latest));
+        given(delegate.save(any(Movie.class))).willAnswer(invocation -> {
+            Movie movie = invocation.getArgument(0);
+            if (movie.getVersion() != 1L) throw new MovieVersionConflictException(movie.getId());
+            movie.setVersion(2L);
+            return movie;
+        });
+        repository.findById(1L);
+
+        // When (MovieFacade.retryOnConflict 처럼 조회 -> 저장을 다시 시도)
+        Movie firstAttempt = repository.findById(1L).get();
+        assertThatThrownBy(() -> repository.save(firstAttempt)).isInstanceOf(MovieVersionConflictException.class);
+        Movie retry = repository.findById(1L).get();
+        Movie saved = repository.save(retry);
+
+        // Then
+        assertThat(retry.getVersion()).isEqualTo(1L);
+        assertThat(saved.getVersion()).isEqualTo(2L);
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("배우/감독이 바뀌면 그 배우/감독이 포함된 영화만 무효화된다")
+    void actorAndDirectorChange_InvalidatesContainingMovies() {
+        // Given
+        given(delegate.findById(1L)).willReturn(Optional.of(movie(1L, 10L, 100L)));
+        given(delegate.findById(2L)).willReturn(Optional.of(movie(2L, 20L, 200L)));
+        repository.findById(1L);
+        repository.findById(2L);
+
+        // When & Then
+        repository.handleActorChangedEvent(new ActorChangedEvent(100L));
+        assertThat(repository.getSize()).isEqualTo(1);
+        repository.handleDirectorChangedEvent(new DirectorChangedEvent(20L));
+        assertThat(repository.getSize()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 db에서 조회한다")
+    void disabled_AlwaysDelegates() {
+        // Given
+        repository = new CachingMovieRepository(delegate, false, 100, Duration.ofMinutes(1));
+        given(delegate.findById(1L)).willReturn(Optional.of(movie(1L, 10L, 100L)));
+
+        // When
+        repository.findById(1L);
+        repository.findById(1L);
+
+        // Then
+        verify(delegate, times(2)).findById(1L);
+        assertThat(repository.getSize()).isEqualTo(0);
+    }
+
+    private Movie movie(Long id, Long directorId, Long actorId) {
+        Director director = new Director("감독" + directorId);
+        director.setId(directorId);
+        Movie movie = new Movie("영화" + id, director, Genre.DRAMA, LocalDate.now(), "설명", new ArrayList<>(List.of(actor(actorId))));
+        movie.setId(id);
+        return movie;
+    }
+
+    private Actor actor(Long id) {
+        Actor actor = new Actor("배우" + id);
+        actor.setId(id);
+        return actor;
+    }
+}
@@ -0,0 +1,103 @@
+package com.cinelog.server.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cinelog.server.domain.Role;
+import com.cinelog.server.domain.User;
+import com.cinelog.server.repository.jdbc.UserJdbcRepository;
+
+class CachingUserRepositoryTest {
+    private UserJdbcRepository delegate;
+    private CachingUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(UserJdbcRepository.class);
+        repository = new CachingUserRepository(delegate, true, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("같은 id를 반복 조회하면 db는 한 번만 조회한다")
+    void findById_Cached() {
+        // Given
+        given(delegate.findById(1L)).willReturn(Optional.of(user(1L, "tester")));
+
+        // When
+        repository.findById(1L);
+        Optional<User> result = repository.findById(1L);
+
+        // Then
+        assertThat(result).get().extracting(User::getName).isEqualTo("tester");
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("반환된 객체를 수정해도 캐시 원본은 바뀌지 않는다")
+    void findById_ReturnsCopy() {
+        // Given
+        given(delegate.findById(1L)).willReturn(Optional.of(user(1L, "tester")));
+
+        // When
+        repository.findById(1L).get().changeName("changed");
+
+        // Then
+        assertThat(repository.findById(1L).get().getName()).isEqualTo("tester");
+    }
+
+    @Test
+    @DisplayName("이름이 바뀐 유저를 저장하면 id/옛 이름 캐시가 모두 무효화된다")
+    void save_Invalidates() {
+        // Given
+        User original = user(1L, "tester");
+        User renamed = user(1L, "renamed");
+        given(delegate.findById(1L)).willReturn(Optional.of(original), Optional.of(renamed));
+        given(delegate.findByName("tester")).willReturn(Optional.of(original), Optional.empty());
+        given(delegate.save(renamed)).willReturn(renamed);
+        repository.findById(1L);
+        repository.findByName("tester");
+
+        // When
+        repository.save(renamed);
+
+        // Then
+        assertThat(repository.findById(1L).get().getName()).isEqualTo("renamed");
+        assertThat(repository.findByName("tester")).isEmpty();
+        verify(delegate, times(2)).findById(1L);
+        verify(delegate, times(2)).findByName("tester");
+    }
+
+    @Test
+    @DisplayName("id 캐시에 없는 유저를 저장해도 이름 캐시에 남은 옛 이름은 무효화된다")
+    void save_InvalidatesNameWithoutIdEntry() {
+        // Given
+        User original = user(1L, "tester");
+        User renamed = user(1L, "renamed");
+        given(delegate.findByName("tester")).willReturn(Optional.of(original), Optional.empty());
+        given(delegate.save(renamed)).willReturn(renamed);
+        repository.findByName("tester");//로그인 등 이름으로만 조회된 경우
+
+        // When
+        repository.save(renamed);
+
+        // Then
+        assertThat(repository.findByName("tester")).isEmpty();
+        verify(delegate, times(2)).findByName("tester");
+    }
+
+    private User user(Long id, String name) {
+        User user = new User(name, "encodedPw", Role.USER);
+        user.setId(id);
+        return user;
+    }
+}
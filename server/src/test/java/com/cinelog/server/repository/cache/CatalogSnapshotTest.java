@@ -0,0 +1,76 @@
+package com.cinelog.server.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cinelog.server.domain.Actor;
+import com.cinelog.server.domain.Director;
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+
+class CatalogSnapshotTest {
+    private static final int SEGMENT = CatalogSnapshot.SEGMENT_SIZE;
+
+    @Test
+    @DisplayName("영화 하나를 바꾸면 그 영화가 든 구간만 새로 만들고 나머지 구간은 그대로 쓴다")
+    void patch_RebuildsOnlyTouchedSegment() {
+        // Given
+        CatalogSnapshot snapshot = CatalogSnapshot.of(movies(1, SEGMENT * 3));
+        Movie rated = movie(SEGMENT + 5);
+        rated.setRating(4.5);
+
+        // When
+        CatalogSnapshot patched = snapshot.patch(List.of(rated), Set.of());
+
+        // Then
+        assertThat(patched.find(rated.getId()).getRating()).isEqualTo(4.5);
+        assertThat(snapshot.find(rated.getId()).getRating()).isEqualTo(0.0);
+        assertThat(patched.segmentContaining(1L)).isSameAs(snapshot.segmentContaining(1L));
+        assertThat(patched.segmentContaining((long) SEGMENT * 3)).isSameAs(snapshot.segmentContaining((long) SEGMENT * 3));
+        assertThat(patched.segmentContaining(rated.getId())).isNotSameAs(snapshot.segmentContaining(rated.getId()));
+    }
+
+    @Test
+    @DisplayName("추가/삭제 후에도 id 순서를 유지하고, 커진 구간은 나누고 빈 구간은 뺀다")
+    void patch_KeepsOrderAndSegmentSizes() {
+        // Given
+        CatalogSnapshot snapshot = CatalogSnapshot.of(movies(1, SEGMENT));
+        List<Long> removed = new ArrayList<>();
+        for (long id = 1; id <= SEGMENT; id++) removed.add(id);
+
+        // When
+        CatalogSnapshot grown = snapshot.patch(movies(SEGMENT + 1, SEGMENT * 3), Set.of());
+        CatalogSnapshot shrunk = grown.patch(List.of(), removed);
+
+        // Then
+        assertThat(grown.size()).isEqualTo(SEGMENT * 3);
+        assertThat(grown.segmentCount()).isEqualTo(3);
+        assertThat(grown.findAll()).extracting(Movie::getId).isSorted();
+        assertThat(shrunk.size()).isEqualTo(SEGMENT * 2);
+        assertThat(shrunk.segmentCount()).isEqualTo(2);
+        assertThat(shrunk.find(1L)).isNull();
+        assertThat(shrunk.find((long) SEGMENT * 3).getName()).isEqualTo("영화" + SEGMENT * 3);
+    }
+
+    private List<Movie> movies(int from, int to) {
+        List<Movie> movies = new ArrayList<>();
+        for (int id = from; id <= to; id++) movies.add(movie(id));
+        return movies;
+    }
+
+    private Movie movie(long id) {
+        Director director = new Director("감독" + id % 7);
+        director.setId(id % 7);
+        Actor actor = new Actor("배우" + id % 11);
+        actor.setId(id % 11);
+        Movie movie = new Movie("영화" + id, director, Genre.values()[0], null, null, List.of(actor));
+        movie.setId(id);
+        return movie;
+    }
+}
@@ -0,0 +1,186 @@
+package com.cinelog.server.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.cinelog.server.domain.Actor;
+import com.cinelog.server.domain.Director;
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+import com.cinelog.server.domain.event.ActorChangedEvent;
+import com.cinelog.server.dto.movie.MovieProjection;
+import com.cinelog.server.exception.movie.MovieVersionConflictException;
+import com.cinelog.server.repository.jdbc.MovieJdbcRepository;
+
+class SnapshotMovieRepositoryTest {
+    private MovieJdbcRepository delegate;
+    private SnapshotMovieRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(MovieJdbcRepository.class);
+        repository = new SnapshotMovieRepository(delegate);
+        given(delegate.findAll()).willReturn(List.of(
+                movie(1L, "기생충", 10L, "봉준호", actor(100L, "송강호")),
+                movie(2L, "괴물", 10L, "봉준호", actor(100L, "송강호"), actor(101L, "배두나")),
+                movie(3L, "올드보이", 20L, "박찬욱", actor(102L, "최민식"))));
+        repository.rebuild();
+    }
+
+    @Test
+    @DisplayName("조회/검색은 db를 거치지 않고 이미지에서 처리한다")
+    void reads_ServedFromSnapshot() {
+        // When & Then
+        Movie found = repository.findById(2L).get();
+        assertThat(found.getDirector().getName()).isEqualTo("봉준호");
+        assertThat(found.getActors()).extracting(Actor::getName).containsExactly("송강호", "배두나");
+        assertThat(repository.findAllByActorId(100L)).extracting(Movie::getId).containsExactly(1L, 2L);
+        assertThat(repository.findAllByDirectorNameContaining("박찬")).extracting(Movie::getName).containsExactly("올드보이");
+        assertThat(repository.findAllByActorNameContaining("배두")).extracting(Movie::getName).containsExactly("괴물");
+        assertThat(repository.findAllByIds(List.of(3L, 9L))).extracting(Movie::getId).containsExactly(3L);
+        verify(delegate, never()).findById(2L);
+    }
+
+    @Test
+    @DisplayName("반환된 영화를 바꿔도 이미지에는 영향이 없다")
+    void reads_ReturnCopies() {
+        // Given
+        Movie found = repository.findById(1L).get();
+
+        // When
+        found.updateRating(4.0);
+
+        // Then
+        assertThat(repository.findById(1L).get().getRating()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("저장/삭제 시 해당 영화만 다시 읽어 이미지를 교체한다")
+    void writes_PatchSnapshot() {
+        // Given
+        Movie rated = movie(1L, "기생충", 10L, "봉준호", actor(100L, "송강호"));
+        rated.updateRating(4.5);
+        given(delegate.save(rated)).willReturn(rated);
+        given(delegate.findAllByIds(List.of(1L))).willReturn(List.of(rated));
+        given(delegate.delete(3L)).willReturn(true);
+        given(delegate.findAllByIds(List.of(3L))).willReturn(List.of());
+
+        // When
+        repository.save(rated);
+        repository.delete(3L);
+
+        // Then
+        assertThat(repository.findById(1L).get().getRating()).isEqualTo(4.5);
+        assertThat(repository.findById(3L)).isEmpty();
+        assertThat(repository.findAll()).hasSize(2);
+        assertThat(repository.getPatchCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 수정으로 저장이 충돌하면 그 영화를 바로 다시 읽어, 재시도는 최신 버전을 본다")
+    void save_ConflictRefreshesStaleVersion() {
+        // Given
+        Movie stale = repository.findById(1L).get();
+        Movie latest = movie(1L, "기생충", 10L, "봉준호", actor(100L, "송강호"));
+        latest.setVersion(stale.getVersion() + 1);
+        given(delegate.save(stale)).willThrow(new MovieVersionConflictException(1L));
+        given(delegate.findAllByIds(List.of(1L))).willReturn(List.of(latest));
+
+        // When & Then
+        assertThatThrownBy(() -> repository.save(stale)).isInstanceOf(MovieVersionConflictException.class);
+        assertThat(repository.findById(1L).get().getVersion()).isEqualTo(latest.getVersion());
+    }
+
+    @Test
+    @DisplayName("커밋 후 다시 읽기에 실패해도 쓰기는 성공으로 끝나고, 다음 조회에서 다시 읽어 이미지에 반영한다")
+    void refreshFailure_RetriedOnNextRead() {
+        // Given
+        Movie rated = movie(1L, "기생충", 10L, "봉준호", actor(100L, "송강호"));
+        rated.updateRating(4.5);
+        given(delegate.save(rated)).willReturn(rated);
+        given(delegate.findAllByIds(List.of(1L)))
+                .willThrow(new DataAccessResourceFailureException("연결이 끊겼습니다."))
+                .willReturn(List.of(rated));
+
+        // When (커밋 이후 다시 읽기가 실패)
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            repository.save(rated);
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(repository.getDirtyCount()).isEqualTo(1);
+        assertThat(repository.getRefreshFailureCount()).isEqualTo(1);
+        assertThat(repository.findById(1L).get().getRating()).isEqualTo(4.5);
+        assertThat(repository.getDirtyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("배우 이름이 바뀌면 출연한 영화만 다시 읽는다")
+    void actorChanged_PatchesContainingMovies() {
+        // Given
+        given(delegate.findAllByIds(List.of(1L, 2L))).willReturn(List.of(
+                movie(1L, "기생충", 10L, "봉준호", actor(100L, "송강호2")),
+                movie(2L, "괴물", 10L, "봉준호", actor(100L, "송강호2"), actor(101L, "배두나"))));
+
+        // When
+        repository.handleActorChangedEvent(new ActorChangedEvent(100L));
+
+        // Then
+        assertThat(repository.findAllByActorNameContaining("송강호2")).extracting(Movie::getId).containsExactly(1L, 2L);
+        assertThat(repository.findById(3L).get().getActors()).extracting(Actor::getName).containsExactly("최민식");
+    }
+
+    @Test
+    @DisplayName("목록 화면 검색은 db 와 같이 대소문자를 구분하지 않고 %는 글자 그대로 찾고, 기존 키워드 검색은 그대로 대소문자를 구분한다")
+    void viewSearch_SameRuleAsDatabase() {
+        // Given
+        given(delegate.findAll()).willReturn(List.of(
+                movie(1L, "The Matrix", 30L, "Lana Wachowski", actor(103L, "Keanu Reeves")),
+                movie(2L, "100% 울프", 10L, "봉준호", actor(100L, "송강호"))));
+        repository.rebuild();
+
+        // When & Then
+        assertThat(repository.findViewsByNameContaining("MATRIX", MovieProjection.SUMMARY)).extracting("name").containsExactly("The Matrix");
+        assertThat(repository.findViewsByNameContaining("0% ", MovieProjection.SUMMARY)).extracting("name").containsExactly("100% 울프");
+        assertThat(repository.findAllByNameContaining("matrix")).isEmpty();
+        assertThat(repository.findAllByNameContaining("Matrix")).extracting(Movie::getId).containsExactly(1L);
+        assertThat(repository.findAllByDirectorNameContaining("Wachowski")).extracting(Movie::getId).containsExactly(1L);
+        assertThat(repository.findAllByActorNameContaining("Keanu")).extracting(Movie::getId).containsExactly(1L);
+    }
+
+    private Movie movie(Long id, String name, Long directorId, String directorName, Actor... actors) {
+        Director director = new Director(directorName);
+        director.setId(directorId);
+        Movie movie = new Movie(name, director, Genre.DRAMA, LocalDate.of(2019, 5, 30), "설명", new ArrayList<>(List.of(actors)));
+        movie.setId(id);
+        return movie;
+    }
+
+    private Actor actor(Long id, String name) {
+        Actor actor = new Actor(name);
+        actor.setId(id);
+        return actor;
+    }
+}
@@ -93,6 +93,21 @@ class ActorJdbcRepositoryTest {
         assertThat(results).extracting("name").containsExactlyInAnyOrder("김윤석", "김혜수");
     }
 
+    @Test
+    @DisplayName("여러 ID로 조회하면 존재하는 배우만 한 번에 반환해야 한다")
+    void findAllByIdsTest() {
+        // Given
+        Actor first = actorRepository.save(new Actor("최민식"));
+        Actor second = actorRepository.save(new Actor("유지태"));
+        actorRepository.save(new Actor("강혜정"));
+
+        // When
+        List<Actor> results = actorRepository.findAllByIds(List.of(first.getId(), second.getId(), first.getId(), 999L));
+
+        // Then
+        assertThat(results).extracting("name").containsExactlyInAnyOrder("최민식", "유지태");
+    }
+
     @Test
     @DisplayName("배우를 삭제하면 조회되지 않아야 하며 배우-영화 관계 테이블도 삭제되어야한다")
     void deleteTest() {
@@ -78,6 +78,20 @@ class DirectorJdbcRepositoryTest {
         assertThat(results).extracting("name").containsExactlyInAnyOrder("스티븐 스필버그", "스티븐 소더버그");
     }
 
+    @Test
+    @DisplayName("여러 ID로 조회하면 존재하는 감독만 한 번에 반환해야 한다")
+    void findAllByIdsTest() {
+        // Given
+        Director first = directorRepository.save(new Director("박찬욱"));
+        Director second = directorRepository.save(new Director("김지운"));
+
+        // When
+        List<Director> results = directorRepository.findAllByIds(List.of(first.getId(), second.getId(), 999L));
+
+        // Then
+        assertThat(results).extracting("name").containsExactlyInAnyOrder("박찬욱", "김지운");
+    }
+
     @Test
     @DisplayName("감독을 삭제하면 더 이상 조회되지 않아야 한다")
     void deleteTest() {
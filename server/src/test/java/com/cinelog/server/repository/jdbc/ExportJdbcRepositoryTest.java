@@ -0,0 +1,91 @@
+package com.cinelog.server.repository.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+
+import com.cinelog.server.domain.Actor;
+import com.cinelog.server.domain.Director;
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+import com.cinelog.server.domain.Review;
+import com.cinelog.server.domain.User;
+import com.cinelog.server.dto.export.MovieExportRow;
+import com.cinelog.server.dto.export.ReviewExportRow;
+
+@JdbcTest
+@Import({
+    ExportJdbcRepository.class,
+    MovieJdbcRepository.class,
+    DirectorJdbcRepository.class,
+    ActorJdbcRepository.class,
+    ReviewJdbcRepository.class,
+    UserJdbcRepository.class
+})
+class ExportJdbcRepositoryTest {
+
+    @Autowired private ExportJdbcRepository exportRepository;
+    @Autowired private MovieJdbcRepository movieRepository;
+    @Autowired private DirectorJdbcRepository directorRepository;
+    @Autowired private ActorJdbcRepository actorRepository;
+    @Autowired private ReviewJdbcRepository reviewRepository;
+    @Autowired private UserJdbcRepository userRepository;
+
+    @Test
+    @DisplayName("영화는 id 순으로 한 건씩, 출연진이 여러 명이어도 한 줄로 묶여 넘어온다")
+    void streamMoviesGroupsCast() {
+        // Given
+        Director director = directorRepository.save(new Director("봉준호"));
+        Actor song = actorRepository.save(new Actor("송강호"));
+        Actor choi = actorRepository.save(new Actor("최우식"));
+        Movie parasite = movieRepository.save(new Movie("기생충", director, Genre.DRAMA, LocalDate.of(2019, 5, 30), "설명", new ArrayList<>(List.of(song, choi))));
+        Movie okja = movieRepository.save(new Movie("옥자", director, Genre.DRAMA, LocalDate.of(2017, 6, 29), "설명", new ArrayList<>()));
+        Movie memories = movieRepository.save(new Movie("살인의 추억", director, Genre.THRILLER, LocalDate.of(2003, 4, 25), "설명", new ArrayList<>(List.of(song))));
+
+        // When
+        List<MovieExportRow> rows = new ArrayList<>();
+        exportRepository.streamMoviesAfter(0, rows::add);
+
+        // Then
+        assertThat(rows).extracting(MovieExportRow::getId).containsExactly(parasite.getId(), okja.getId(), memories.getId());
+        assertThat(rows.get(0).getCast()).extracting(MovieExportRow.CastMember::getName).containsExactly("송강호", "최우식");
+        assertThat(rows.get(0).getDirectorName()).isEqualTo("봉준호");
+        assertThat(rows.get(0).getReleaseDate()).isEqualTo(LocalDate.of(2019, 5, 30));
+        assertThat(rows.get(1).getCast()).isEmpty();
+        assertThat(rows.get(2).getCast()).extracting(MovieExportRow.CastMember::getName).containsExactly("송강호");
+    }
+
+    @Test
+    @DisplayName("afterId 를 주면 그보다 큰 id 부터 이어서 넘어온다")
+    void streamResumesAfterId() {
+        // Given
+        Director director = directorRepository.save(new Director("봉준호"));
+        User user = userRepository.save(new User("tester", "password123"));
+        Movie movie = movieRepository.save(new Movie("기생충", director, Genre.DRAMA, LocalDate.now(), "설명", new ArrayList<>()));
+        Movie next = movieRepository.save(new Movie("옥자", director, Genre.DRAMA, LocalDate.now(), "설명", new ArrayList<>()));
+        Review first = reviewRepository.save(Review.create("첫 리뷰", 4, user, movie));
+        Review second = reviewRepository.save(Review.create("두번째 리뷰", 5, user, next));
+
+        // When
+        List<MovieExportRow> movies = new ArrayList<>();
+        exportRepository.streamMoviesAfter(movie.getId(), movies::add);
+        List<ReviewExportRow> reviews = new ArrayList<>();
+        exportRepository.streamReviewsAfter(first.getId(), reviews::add);
+
+        // Then
+        assertThat(movies).extracting(MovieExportRow::getId).containsExactly(next.getId());
+        assertThat(reviews).hasSize(1);
+        assertThat(reviews.get(0).getId()).isEqualTo(second.getId());
+        assertThat(reviews.get(0).getMovieId()).isEqualTo(next.getId());
+        assertThat(reviews.get(0).getUserName()).isEqualTo("tester");
+        assertThat(reviews.get(0).getRating()).isEqualTo(5);
+    }
+}
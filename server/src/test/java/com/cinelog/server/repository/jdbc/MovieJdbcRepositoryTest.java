@@ -1,6 +1,7 @@
 package com.cinelog.server.repository.jdbc;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -18,6 +19,10 @@ import com.cinelog.server.domain.Actor;
 import com.cinelog.server.domain.Director;
 import com.cinelog.server.domain.Genre;
 import com.cinelog.server.domain.Movie;
+import com.cinelog.server.dto.movie.MovieProjection;
+import com.cinelog.server.dto.movie.MovieStamp;
+import com.cinelog.server.dto.movie.MovieView;
+import com.cinelog.server.exception.movie.MovieVersionConflictException;
 
 @JdbcTest
 @Import({MovieJdbcRepository.class, DirectorJdbcRepository.class, ActorJdbcRepository.class})// 테스트 셋업을 위해 배우/감독 레포지토리도 함께사용
@@ -93,6 +98,47 @@ class MovieJdbcRepositoryTest {
         assertThat(updated.getActors().get(0).getName()).isEqualTo("유아인"); // 황정민은 사라지고 유아인이 있어야 함
     }
 
+    @Test
+    @DisplayName("같은 버전을 읽은 두 수정 중 나중 것은 충돌 예외가 나고 먼저 반영된 출연진이 유지되어야 한다")
+    void saveUpdateVersionConflictTest() {
+        // Given
+        Director d = directorRepository.save(new Director("류승완"));
+        Actor a1 = actorRepository.save(new Actor("황정민"));
+        Actor a2 = actorRepository.save(new Actor("유아인"));
+        Actor a3 = actorRepository.save(new Actor("오달수"));
+        Movie saved = movieRepository.save(new Movie("베테랑", d, Genre.ACTION, LocalDate.now(), "천만", new ArrayList<>(List.of(a1))));
+        Movie first = movieRepository.findById(saved.getId()).get();
+        Movie second = movieRepository.findById(saved.getId()).get();
+
+        // When
+        first.addActor(a2);
+        movieRepository.save(first);
+        second.addActor(a3);
+
+        // Then
+        assertThatThrownBy(() -> movieRepository.save(second))
+                .isInstanceOf(MovieVersionConflictException.class);
+        Movie found = movieRepository.findById(saved.getId()).get();
+        assertThat(found.getVersion()).isEqualTo(1L);
+        assertThat(found.getActors()).extracting("name").containsExactlyInAnyOrder("황정민", "유아인");
+    }
+
+    @Test
+    @DisplayName("평점만 갱신할 때는 버전이 바뀌지 않아야 한다")
+    void updateRatingTest() {
+        // Given
+        Director d = directorRepository.save(new Director("류승완"));
+        Movie saved = movieRepository.save(new Movie("베테랑", d, Genre.ACTION, LocalDate.now(), "천만", new ArrayList<>()));
+
+        // When
+        movieRepository.updateRating(saved.getId(), 4.5);
+
+        // Then
+        Movie found = movieRepository.findById(saved.getId()).get();
+        assertThat(found.getRating()).isEqualTo(4.5);
+        assertThat(found.getVersion()).isEqualTo(0L);
+    }
+
     @Test
     @DisplayName("ID로 조회 시 영화 정보와 연관된 배우 목록을 가져와야 한다")
     void findByIdTest() {
@@ -146,6 +192,29 @@ class MovieJdbcRepositoryTest {
         assertThat(findM2.getActors()).isEmpty();
     }
 
+    @Test
+    @DisplayName("findAllByIds 조회 시 요청한 영화들과 출연 배우를 함께 반환하고 없는 id는 빠져야함")
+    void findAllByIdsTest() {
+        // Given
+        Director d1 = directorRepository.save(new Director("감독1"));
+        Actor a1 = actorRepository.save(new Actor("배우1"));
+        Actor a2 = actorRepository.save(new Actor("배우2"));
+        Movie m1 = movieRepository.save(new Movie("영화1", d1, Genre.ACTION, LocalDate.now(), "설명", new ArrayList<>(List.of(a1, a2))));
+        Movie m2 = movieRepository.save(new Movie("영화2", d1, Genre.COMEDY, LocalDate.now(), "설명", new ArrayList<>()));
+        movieRepository.save(new Movie("영화3", d1, Genre.DRAMA, LocalDate.now(), "설명", new ArrayList<>(List.of(a1))));
+
+        // When
+        List<Movie> movies = movieRepository.findAllByIds(List.of(m2.getId(), m1.getId(), m1.getId(), 9999L));
+
+        // Then
+        assertThat(movies).extracting("name").containsExactlyInAnyOrder("영화1", "영화2");
+        Movie findM1 = movies.stream().filter(m -> m.getName().equals("영화1")).findFirst().get();
+        assertThat(findM1.getActors()).extracting("name").containsExactlyInAnyOrder("배우1", "배우2");
+        assertThat(findM1.getDirector().getName()).isEqualTo("감독1");
+        Movie findM2 = movies.stream().filter(m -> m.getName().equals("영화2")).findFirst().get();
+        assertThat(findM2.getActors()).isEmpty();
+    }
+
     @Test
     @DisplayName("배우 ID로 검색 시 해당 배우가 출연한 영화와 '동료 배우'까지 모두 조회되어야 한다")
     void findAllByActorIdTest() {
@@ -209,6 +278,20 @@ class MovieJdbcRepositoryTest {
         assertThat(results.get(0).getName()).isEqualTo("울트라맨");
     }
 
+    @Test
+    @DisplayName("목록 화면 검색은 대소문자를 구분하지 않고 %, _ 는 글자 그대로 찾아야 한다")
+    void findViewsByNameContaining_IgnoreCaseAndLiteralWildcards() {
+        // Given
+        Director d = directorRepository.save(new Director("감독"));
+        movieRepository.save(new Movie("The Matrix", d, Genre.ACTION, LocalDate.now(), "", new ArrayList<>()));
+        movieRepository.save(new Movie("100% 울프", d, Genre.ACTION, LocalDate.now(), "", new ArrayList<>()));
+        movieRepository.save(new Movie("1000 울프", d, Genre.ACTION, LocalDate.now(), "", new ArrayList<>()));
+
+        // When & Then
+        assertThat(movieRepository.findViewsByNameContaining("MATRIX", MovieProjection.SUMMARY)).extracting("name").containsExactly("The Matrix");
+        assertThat(movieRepository.findViewsByNameContaining("0% ", MovieProjection.SUMMARY)).extracting("name").containsExactly("100% 울프");
+    }
+
     @Test
     @DisplayName("감독 이름 키워드로 해당 감독들의 영화를 모두 조회해야 한다")
     void findAllByDirectorNameContainingTest() {
@@ -287,4 +370,84 @@ class MovieJdbcRepositoryTest {
                 "SELECT COUNT(*) FROM movie_actor WHERE movie_id = ?",Integer.class,saved.getId());
         assertThat(relationCount).isEqualTo(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("정보 수정, 평점 갱신, 출연 배우/감독 변경 표시를 올리면 revision 이 증가하고 리뷰 목록 표시는 따로 증가한다")
+    void stampTracksEveryWrite() {
+        // Given
+        Director director = directorRepository.save(new Director("봉준호"));
+        Actor actor = actorRepository.save(new Actor("송강호"));
+        Movie movie = movieRepository.save(new Movie("기생충", director, Genre.DRAMA, LocalDate.now(), "", new ArrayList<>(List.of(actor))));
+        Movie other = movieRepository.save(new Movie("설국열차", directorRepository.save(new Director("다른 감독")), Genre.ACTION, LocalDate.now(), "", new ArrayList<>()));
+        Long id = movie.getId();
+        assertThat(movieRepository.findStamp(id)).contains(new MovieStamp(0L, 0L));
+
+        // When
+        movie.updateMovieInfo("기생충 (2019)", Genre.DRAMA, LocalDate.now(), "수정");
+        movieRepository.save(movie);
+        movieRepository.updateRating(id, 4.5);
+        movieRepository.touchByActorId(actor.getId());
+        movieRepository.touchByDirectorId(director.getId());
+        movieRepository.touchReviews(id);
+
+        // Then
+        assertThat(movieRepository.findStamp(id)).contains(new MovieStamp(4L, 1L));
+        assertThat(movieRepository.findById(id).get().getRevision()).isEqualTo(4L);//본문과 함께 읽은 표시
+        assertThat(movieRepository.findStamp(other.getId())).contains(new MovieStamp(0L, 0L));//관계없는 영화는 그대로
+        assertThat(movieRepository.findStamp(-1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("projection 별로 필요한 필드만 채워서 반환해야함 (summary 는 감독/출연진/설명 없음)")
+    void findViewsByProjectionTest() {
+        // Given
+        Director director = directorRepository.save(new Director("감독1"));
+        Actor a1 = actorRepository.save(new Actor("배우1"));
+        Actor a2 = actorRepository.save(new Actor("배우2"));
+        Movie m1 = movieRepository.save(new Movie("영화1", director, Genre.ACTION, LocalDate.now(), "설명1", new ArrayList<>(List.of(a1, a2))));
+        Movie m2 = movieRepository.save(new Movie("영화2", director, Genre.COMEDY, LocalDate.now(), "설명2", new ArrayList<>()));
+        List<Long> ids = List.of(m1.getId(), m2.getId(), 9999L);
+
+        // When
+        List<MovieView> summaries = movieRepository.findViewsByIds(ids, MovieProjection.SUMMARY);
+        List<MovieView> withCast = movieRepository.findViewsByIds(ids, MovieProjection.WITH_CAST);
+        List<MovieView> full = movieRepository.findViewsByIds(ids, MovieProjection.FULL);
+
+        // Then
+        assertThat(summaries).extracting("name").containsExactlyInAnyOrder("영화1", "영화2");
+        assertThat(summaries).allSatisfy(view -> {
+            assertThat(view.getGenre()).isNotNull();
+            assertThat(view.getDirector()).isNull();
+            assertThat(view.getActors()).isNull();
+            assertThat(view.getDescription()).isNull();
+        });
+
+        MovieView castOfM1 = withCast.stream().filter(view -> view.getId().equals(m1.getId())).findFirst().get();
+        assertThat(castOfM1.getActors()).extracting("name").containsExactlyInAnyOrder("배우1", "배우2");
+        assertThat(castOfM1.getDirector().getName()).isEqualTo("감독1");
+        assertThat(castOfM1.getDescription()).isNull();
+        MovieView castOfM2 = withCast.stream().filter(view -> view.getId().equals(m2.getId())).findFirst().get();
+        assertThat(castOfM2.getActors()).isEmpty();
+
+        assertThat(full).extracting("description").containsExactlyInAnyOrder("설명1", "설명2");
+    }
+
+    @Test
+    @DisplayName("이름 검색도 projection 범위만큼만 반환해야함")
+    void findViewsByNameContainingTest() {
+        // Given
+        Director director = directorRepository.save(new Director("감독1"));
+        Actor actor = actorRepository.save(new Actor("배우1"));
+        movieRepository.save(new Movie("어벤져스", director, Genre.ACTION, LocalDate.now(), "설명", new ArrayList<>(List.of(actor))));
+        movieRepository.save(new Movie("기생충", director, Genre.DRAMA, LocalDate.now(), "설명", new ArrayList<>()));
+
+        // When
+        List<MovieView> summaries = movieRepository.findViewsByNameContaining("벤져", MovieProjection.SUMMARY);
+        List<MovieView> withCast = movieRepository.findViewsByNameContaining("벤져", MovieProjection.WITH_CAST);
+
+        // Then
+        assertThat(summaries).extracting("name").containsExactly("어벤져스");
+        assertThat(summaries.get(0).getActors()).isNull();
+        assertThat(withCast.get(0).getActors()).extracting("name").containsExactly("배우1");
+    }
+}
@@ -228,4 +228,27 @@ class ReviewJdbcRepositoryTest {
         // Then
         assertThat(averageRating).isEqualTo(0.0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("최신 리뷰 조회: 작성 시간 역순으로 limit개만 가져오고, 장르별 조회는 해당 장르만 포함해야 한다")
+    void findRecentTest() {
+        // Given
+        Director director = directorRepository.save(new Director("박찬욱"));
+        Movie comedy = movieRepository.save(new Movie(
+            "코미디", director, Genre.COMEDY, LocalDate.now(), "설명", new ArrayList<>()
+        ));
+        reviewRepository.save(Review.create("첫번째", 3, testUser, testMovie));
+        reviewRepository.save(Review.create("두번째", 4, testUser, comedy));
+        reviewRepository.save(Review.create("세번째", 5, testUser, testMovie));
+
+        // When
+        List<Review> recent = reviewRepository.findRecent(2);
+        List<Review> dramas = reviewRepository.findRecentByGenre(Genre.DRAMA, 10);
+
+        // Then
+        assertThat(recent).extracting("content").containsExactly("세번째", "두번째");
+        assertThat(recent.get(0).getMovie().getGenre()).isEqualTo(Genre.DRAMA);//피드용 장르 매핑 확인
+        assertThat(recent.get(0).getCreatedAt()).isNotNull();
+        assertThat(dramas).extracting("content").containsExactly("세번째", "첫번째");
+    }
+}
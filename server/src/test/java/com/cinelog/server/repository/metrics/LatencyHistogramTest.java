@@ -0,0 +1,65 @@
+package com.cinelog.server.repository.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("버킷 경계가 끊기지 않고 이어지며 값은 자기 버킷 범위 안에 들어간다")
+    void bucketsAreContiguous() {
+        for (long micros = 0; micros < 100_000; micros++) {
+            int bucket = LatencyHistogram.bucket(micros);
+            assertThat(micros).isLessThanOrEqualTo(LatencyHistogram.upperBound(bucket));
+            if (bucket > 0) assertThat(micros).isGreaterThan(LatencyHistogram.upperBound(bucket - 1));
+        }
+        assertThat(LatencyHistogram.bucket(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+    }
+
+    @Test
+    @DisplayName("분위수는 실제 값보다 작지 않고 상대 오차 12.5% 이내다")
+    void percentilesWithinRelativeError() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10_000; micros++) histogram.record(micros, 1, micros % 100 == 0);
+
+        // When
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Then
+        assertThat(snapshot.count()).isEqualTo(10_000);
+        assertThat(snapshot.errors()).isEqualTo(100);
+        assertThat(snapshot.rows()).isEqualTo(10_000);
+        assertThat(snapshot.maxMicros()).isEqualTo(10_000);
+        assertThat(snapshot.percentileMicros(0.50)).isBetween(5_000L, 5_625L);
+        assertThat(snapshot.percentileMicros(0.99)).isBetween(9_900L, 10_000L);
+        assertThat(snapshot.percentileMicros(1.0)).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 빠지는 값이 없다")
+    void concurrentRecording() throws InterruptedException {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) histogram.record(i % 500, 2, false);
+            }));
+        }
+
+        // When
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) thread.join();
+
+        // Then
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(80_000);
+        assertThat(snapshot.rows()).isEqualTo(160_000);
+    }
+}
@@ -0,0 +1,81 @@
+package com.cinelog.server.repository.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.cinelog.server.domain.Actor;
+import com.cinelog.server.repository.jdbc.ActorJdbcRepository;
+
+class RepositoryMetricsPostProcessorTest {
+    private RepositoryMetrics metrics;
+    private ActorJdbcRepository target;
+    private ActorJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new RepositoryMetrics(true);
+        target = mock(ActorJdbcRepository.class);
+        repository = (ActorJdbcRepository) new RepositoryMetricsPostProcessor(metrics).postProcessAfterInitialization(target, "actorJdbcRepository");
+    }
+
+    @Test
+    @DisplayName("jdbc 저장소 메서드 호출마다 호출 수와 반환 행 수를 메서드별로 기록한다")
+    void recordsCallsAndRows() {
+        // Given
+        given(target.findById(1L)).willReturn(Optional.of(new Actor("배우")));
+        given(target.findAll()).willReturn(List.of(new Actor("배우1"), new Actor("배우2"), new Actor("배우3")));
+
+        // When
+        repository.findById(1L);
+        repository.findById(1L);
+        repository.findAll();
+
+        // Then
+        assertThat(repository).isNotSameAs(target);
+        RepositoryMetrics.MethodStats findById = stats("ActorJdbcRepository.findById");
+        RepositoryMetrics.MethodStats findAll = stats("ActorJdbcRepository.findAll");
+        assertThat(findById.getCalls()).isEqualTo(2);
+        assertThat(findById.getRows()).isEqualTo(2);
+        assertThat(findAll.getCalls()).isEqualTo(1);
+        assertThat(findAll.getRows()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("예외는 오류 수로 기록하고 그대로 던진다")
+    void recordsErrors() {
+        // Given
+        given(target.findAll()).willThrow(new DataAccessResourceFailureException("연결 실패"));
+
+        // When & Then
+        assertThatThrownBy(() -> repository.findAll()).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(stats("ActorJdbcRepository.findAll").getErrors()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기록을 끄면 호출은 그대로 위임하고 아무것도 기록하지 않는다")
+    void disabledSkipsRecording() {
+        // Given
+        metrics.setEnabled(false);
+        given(target.findAll()).willReturn(List.of());
+
+        // When
+        repository.findAll();
+
+        // Then
+        assertThat(metrics.snapshot()).isEmpty();
+    }
+
+    private RepositoryMetrics.MethodStats stats(String method) {
+        return metrics.snapshot().stream().filter(stats -> stats.getMethod().equals(method)).findFirst().orElseThrow();
+    }
+}
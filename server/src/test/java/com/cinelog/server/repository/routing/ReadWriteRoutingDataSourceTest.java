@@ -0,0 +1,173 @@
+package com.cinelog.server.repository.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+//원본/복제본 역할의 H2 메모리 db 두 개로 확인 -> 각 db의 node 테이블에 자기 이름을 넣어 두고 어느 쪽에서 읽었는지 구분
+class ReadWriteRoutingDataSourceTest {
+    private DataSource primary;
+    private DataSource replica;
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        routing = new ReadWriteRoutingDataSource(primary, replica, replicaAvailable::get);
+        DataSource dataSource = ReadWriteRoutingDataSource.lazy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제본, 쓰기 트랜잭션과 트랜잭션 밖 조회는 원본에서 처리한다")
+    void routesByTransactionReadOnly() {
+        // When
+        String readOnly = readOnlyTransaction.execute(status -> currentNode());
+        String write = writeTransaction.execute(status -> currentNode());
+        String noTransaction = currentNode();
+
+        // Then
+        assertThat(readOnly).isEqualTo("replica");
+        assertThat(write).isEqualTo("primary");
+        assertThat(noTransaction).isEqualTo("primary");
+        assertThat(routing.getReplicaRouteCount()).isEqualTo(1);
+        assertThat(routing.getFallbackRouteCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션의 변경은 원본에만 반영된다")
+    void writesGoToPrimary() {
+        // When
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO node (name) VALUES ('written')"));
+
+        // Then
+        assertThat(new JdbcTemplate(primary).queryForObject("SELECT COUNT(*) FROM node", Integer.class)).isEqualTo(2);
+        assertThat(new JdbcTemplate(replica).queryForObject("SELECT COUNT(*) FROM node", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제본을 쓸 수 없으면 readOnly 트랜잭션도 원본에서 처리한다")
+    void fallsBackToPrimaryWhenReplicaUnavailable() {
+        // Given
+        replicaAvailable.set(false);
+
+        // When
+        String readOnly = readOnlyTransaction.execute(status -> currentNode());
+
+        // Then
+        assertThat(readOnly).isEqualTo("primary");
+        assertThat(routing.getFallbackRouteCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("readFromPrimary 는 readOnly 트랜잭션의 첫 조회를 원본으로 보내고, 트랜잭션이 끝날 때까지 원본 커넥션을 쓴다")
+    void readFromPrimaryRoutesTransactionToPrimary() {
+        // When
+        String[] nodes = readOnlyTransaction.execute(status -> new String[] {
+                ReadWriteRoutingDataSource.readFromPrimary(this::currentNode),
+                currentNode(),
+                String.valueOf(ReadWriteRoutingDataSource.isBoundToReplica())
+        });
+
+        // Then
+        assertThat(nodes).containsExactly("primary", "primary", "false");
+        assertThat(routing.getForcedPrimaryRouteCount()).isEqualTo(1);
+        assertThat(routing.getReplicaRouteCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 복제본 커넥션을 잡은 트랜잭션은 복제본에 묶인 것으로 보이고, 트랜잭션이 끝나면 기록이 지워진다")
+    void boundToReplicaAfterFirstReplicaRead() {
+        // When
+        String[] nodes = readOnlyTransaction.execute(status -> new String[] {
+                currentNode(),
+                ReadWriteRoutingDataSource.readFromPrimary(this::currentNode),
+                String.valueOf(ReadWriteRoutingDataSource.isBoundToReplica())
+        });
+        String write = writeTransaction.execute(status -> currentNode() + ":" + ReadWriteRoutingDataSource.isBoundToReplica());
+
+        // Then
+        assertThat(nodes).containsExactly("replica", "replica", "true");
+        assertThat(ReadWriteRoutingDataSource.isBoundToReplica()).isFalse();
+        assertThat(write).isEqualTo("primary:false");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 사용 불가, 따라잡으면 다시 사용 가능으로 바뀐다")
+    void lagMonitorTracksReplicaLag() {
+        // Given
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.execute("CREATE TABLE replica_lag (seconds INT)");
+        replicaTemplate.update("INSERT INTO replica_lag (seconds) VALUES (1)");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT seconds FROM replica_lag", Duration.ofSeconds(5), Duration.ofHours(1));
+        try {
+            assertThat(monitor.getAsBoolean()).isTrue();
+
+            // When
+            replicaTemplate.update("UPDATE replica_lag SET seconds = 10");
+            monitor.check();
+            boolean lagging = monitor.getAsBoolean();
+            replicaTemplate.update("UPDATE replica_lag SET seconds = 0");
+            monitor.check();
+
+            // Then
+            assertThat(lagging).isFalse();
+            assertThat(monitor.getAsBoolean()).isTrue();
+            assertThat(monitor.getLastLagMillis()).isZero();
+        } finally {
+            monitor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("지연 조회 쿼리가 실패하면 복제본을 사용 불가로 본다")
+    void lagMonitorMarksUnavailableOnError() {
+        // Given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT seconds FROM missing_table", Duration.ofSeconds(5), Duration.ofHours(1));
+        try {
+            // Then
+            assertThat(monitor.getAsBoolean()).isFalse();
+        } finally {
+            monitor.destroy();
+        }
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
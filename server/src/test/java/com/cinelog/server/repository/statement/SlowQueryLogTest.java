@@ -0,0 +1,108 @@
+package com.cinelog.server.repository.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.cinelog.server.domain.User;
+import com.cinelog.server.repository.jdbc.UserJdbcRepository;
+
+class SlowQueryLogTest {
+    private DataSource h2;
+    private SlowQueryLog slowQueryLog;
+    private UserJdbcRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        h2 = new DriverManagerDataSource("jdbc:h2:mem:slow-query;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(h2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (slowQueryLog != null) slowQueryLog.destroy();
+        new JdbcTemplate(h2).execute("DROP ALL OBJECTS");
+    }
+
+    private void observeWith(Duration threshold) {
+        slowQueryLog = new SlowQueryLog(() -> h2, threshold, 10, Set.of("password"), true);
+        userRepository = new UserJdbcRepository(new ObservedDataSource(h2, () -> List.of(slowQueryLog)));
+    }
+
+    @Test
+    @DisplayName("기준 시간을 넘은 쿼리는 컬럼 이름별 파라미터와 함께 기록하고 비밀번호 값은 가린다")
+    void recordsWithRedactedParameters() {
+        // Given
+        observeWith(Duration.ZERO);//모든 쿼리를 느린 쿼리로
+
+        // When
+        userRepository.save(new User("kim", "$2a$10$hash"));
+
+        // Then
+        SlowQuery insert = slowQueryLog.getRecent(10).stream()
+                .filter(query -> query.getSql().toUpperCase().startsWith("INSERT")).findFirst().orElseThrow();
+        assertThat(insert.getParameters()).containsEntry("user_name", "kim").containsEntry("password", "****");
+        assertThat(insert.getParameters().values()).doesNotContain("$2a$10$hash");
+    }
+
+    @Test
+    @DisplayName("가장 느린 SELECT 에는 실행 계획을 비동기로 붙인다")
+    void attachesPlanToSlowestSelect() throws InterruptedException {
+        // Given
+        observeWith(Duration.ZERO);
+        Long id = userRepository.save(new User("lee", "hash")).getId();
+
+        // When
+        userRepository.findById(id);
+
+        // Then
+        SlowQuery select = null;
+        for (int i = 0; i < 50 && (select == null || select.getPlan() == null); i++) {
+            Thread.sleep(20);
+            select = slowQueryLog.getRecent(10).stream()
+                    .filter(query -> query.getSql().startsWith("SELECT * FROM users WHERE id")).findFirst().orElse(null);
+        }
+        assertThat(select).isNotNull();
+        assertThat(select.getParameters()).containsEntry("id", id);
+        assertThat(select.getPlan()).isNotBlank().doesNotStartWith("EXPLAIN 실패");
+    }
+
+    @Test
+    @DisplayName("기준 시간보다 빠른 쿼리는 기록하지 않는다")
+    void ignoresFastQueries() {
+        // Given
+        observeWith(Duration.ofHours(1));
+
+        // When
+        userRepository.save(new User("park", "hash"));
+
+        // Then
+        assertThat(slowQueryLog.getRecent(10)).isEmpty();
+        assertThat(slowQueryLog.getRecordedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("? 자리마다 앞의 컬럼 이름을 파라미터 이름으로 찾는다")
+    void labelsPlaceholders() {
+        assertThat(ParameterLabels.of("UPDATE users SET user_name = ?, password = ? WHERE id = ?"))
+                .containsExactly("user_name", "password", "id");
+        assertThat(ParameterLabels.of("INSERT INTO reviews (content, rating, movie_id) VALUES (?, ?, ?)"))
+                .containsExactly("content", "rating", "movie_id");
+        assertThat(ParameterLabels.of("SELECT * FROM movies m WHERE m.id IN (?, ?) AND m.name LIKE ? LIMIT ?"))
+                .containsExactly("id", "id", "name", "limit");
+        assertThat(ParameterLabels.of("SELECT '?' FROM dual WHERE COALESCE(x, ?) = 1")).containsExactly("?1");
+    }
+}
@@ -0,0 +1,143 @@
+package com.cinelog.server.repository.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cinelog.server.domain.Actor;
+import com.cinelog.server.domain.Director;
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+import com.cinelog.server.exception.statement.StatementBudgetExceededException;
+import com.cinelog.server.repository.jdbc.ActorJdbcRepository;
+import com.cinelog.server.repository.jdbc.DirectorJdbcRepository;
+import com.cinelog.server.repository.jdbc.MovieJdbcRepository;
+
+class StatementBudgetTest {
+    private DataSource h2;
+    private StatementBudget budget;
+    private MovieJdbcRepository movieRepository;
+    private final List<Long> movieIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        h2 = new DriverManagerDataSource("jdbc:h2:mem:statement-budget;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(h2);
+        Director director = new DirectorJdbcRepository(h2).save(new Director("봉준호"));
+        ActorJdbcRepository actorRepository = new ActorJdbcRepository(h2);
+        List<Actor> actors = List.of(actorRepository.save(new Actor("송강호")), actorRepository.save(new Actor("최우식")));
+        MovieJdbcRepository seedRepository = new MovieJdbcRepository(h2);
+        for (int i = 0; i < 5; i++) {
+            movieIds.add(seedRepository.save(new Movie("영화" + i, director, Genre.DRAMA, LocalDate.of(2019, 5, 30), "설명", new ArrayList<>(actors))).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(h2).execute("DROP ALL OBJECTS");
+    }
+
+    private void observeWith(StatementBudget statementBudget) {
+        budget = statementBudget;
+        movieRepository = new MovieJdbcRepository(new ObservedDataSource(h2, () -> List.of(budget)));
+    }
+
+    @Test
+    @DisplayName("구간 안의 쿼리 수를 세어 메서드의 쿼리 수를 고정할 수 있다")
+    void locksInStatementCount() {
+        // Given
+        observeWith(new StatementBudget(StatementBudget.Mode.LOG, 30, 10));
+
+        // When
+        StatementScope scope;
+        try (StatementScope opened = budget.open("findAllByIds")) {
+            movieRepository.findAllByIds(movieIds);
+            scope = opened;
+        }
+
+        // Then
+        scope.assertStatementCount(2);//영화 IN 쿼리 + 출연진 IN 쿼리
+        assertThat(scope.getRepeatedShapes(1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("값만 다른 같은 모양의 쿼리가 반복되면 n+1 로 감지한다")
+    void detectsRepeatedShapes() {
+        // Given
+        observeWith(new StatementBudget(StatementBudget.Mode.LOG, 30, 3));
+
+        // When
+        StatementScope scope;
+        try (StatementScope opened = budget.open("findById 반복")) {
+            for (Long id : movieIds) movieRepository.findById(id);
+            scope = opened;
+        }
+
+        // Then
+        scope.assertStatementCount(10);
+        assertThat(scope.getRepeatedShapes(3)).hasSize(2).containsValues(5, 5);//영화 조회, 출연진 조회
+        assertThatThrownBy(() -> scope.assertNoRepeatsOver(3)).isInstanceOf(AssertionError.class);
+        assertThat(budget.getRepeatedShapeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("fail 모드에서는 예산을 넘는 쿼리를 실행하기 전에 예외를 던진다")
+    void failModeThrowsBeforeExceeding() {
+        // Given
+        observeWith(new StatementBudget(StatementBudget.Mode.FAIL, 3, 10));
+
+        // When & Then
+        try (StatementScope scope = budget.open("예산 3회")) {
+            movieRepository.findById(movieIds.get(0));//영화 + 출연진 2회
+            assertThatThrownBy(() -> movieRepository.findById(movieIds.get(1)))//출연진 조회가 4번째
+                    .isInstanceOf(StatementBudgetExceededException.class);
+            assertThat(scope.getStatementCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("열린 구간이 없으면 트랜잭션 이름으로 구간을 열고 트랜잭션이 끝날 때 닫는다")
+    void opensScopePerTransaction() {
+        // Given
+        observeWith(new StatementBudget(StatementBudget.Mode.LOG, 3, 10));
+        DataSource observed = new ObservedDataSource(h2, () -> List.of(budget));
+        MovieJdbcRepository repository = new MovieJdbcRepository(observed);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(observed));
+        transaction.setName("MovieService.findAll");
+
+        // When
+        transaction.executeWithoutResult(status -> {
+            for (Long id : movieIds) repository.findById(id);
+        });
+
+        // Then
+        assertThat(budget.getScopeCount()).isEqualTo(1);
+        assertThat(budget.getOverBudgetCount()).isEqualTo(1);
+        assertThat(budget.getLastViolation()).startsWith("MovieService.findAll: 쿼리 10회");
+    }
+
+    @Test
+    @DisplayName("리터럴과 IN 목록 길이, 공백이 달라도 같은 모양으로 본다")
+    void normalizesShape() {
+        assertThat(StatementShape.of("SELECT * FROM movies WHERE id IN (?, ?, ?) AND name = 'a''b'"))
+                .isEqualTo(StatementShape.of("SELECT *  FROM movies\n WHERE id IN (?,?) AND name = 'c'"))
+                .isEqualTo("SELECT * FROM movies WHERE id IN (?..) AND name = ?");
+        assertThat(StatementShape.of("SELECT * FROM movies WHERE rating > 3.5")).isEqualTo("SELECT * FROM movies WHERE rating > ?");
+    }
+}
@@ -1,6 +1,7 @@
 package com.cinelog.server.service;
 
 import com.cinelog.server.domain.Actor;
+import com.cinelog.server.domain.event.ActorChangedEvent;
 import com.cinelog.server.dto.actor.ActorSearchResult;
 import com.cinelog.server.exception.actor.ActorNotFoundException;
 import com.cinelog.server.repository.ActorRepository;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +28,8 @@ class ActorServiceTest {
 
     @Mock
     private ActorRepository actorRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks 
     private ActorService actorService;
 
@@ -77,6 +81,34 @@ class ActorServiceTest {
                 .hasMessageContaining(String.valueOf(id));
     }
     
+    @Test
+    @DisplayName("여러 ID로 배우 조회 시 한 번에 조회하고 요청한 순서대로 반환한다")
+    void getActorsByIds_Success() {
+        // Given
+        Actor first = new Actor("송강호");
+        first.setId(1L);
+        Actor second = new Actor("이선균");
+        second.setId(2L);
+        given(actorRepository.findAllByIds(List.of(2L, 1L))).willReturn(List.of(first, second));
+        // When
+        List<Actor> result = actorService.getActorsByIds(List.of(2L, 1L));
+        // Then
+        assertThat(result).containsExactly(second, first);
+        verify(actorRepository, times(1)).findAllByIds(any());
+    }
+    @Test
+    @DisplayName("여러 ID로 배우 조회 시 하나라도 없으면 ActorNotFoundException을 던진다")
+    void getActorsByIds_Fail_NotFound() {
+        // Given
+        Actor actor = new Actor("송강호");
+        actor.setId(1L);
+        given(actorRepository.findAllByIds(List.of(1L, 999L))).willReturn(List.of(actor));
+        // When & Then
+        assertThatThrownBy(() -> actorService.getActorsByIds(List.of(1L, 999L)))
+                .isInstanceOf(ActorNotFoundException.class)
+                .hasMessageContaining("999");
+    }
+
     @Test
     @DisplayName("요청시 전체 배우를 반환한다")
     void findAllActors_Success() {
@@ -130,6 +162,7 @@ class ActorServiceTest {
         // Then
         assertThat(actor.getName()).isEqualTo(newName);
         verify(actorRepository, times(1)).save(actor);
+        verify(eventPublisher, times(1)).publishEvent(any(ActorChangedEvent.class));
     }
 
     @Test
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
@@ -19,7 +21,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.cinelog.server.domain.Role;
 import com.cinelog.server.domain.User;
 import com.cinelog.server.dto.user.SessionUser;
+import com.cinelog.server.exception.security.InvalidPasswordException;
+import com.cinelog.server.exception.security.TooManyLoginAttemptsException;
 import com.cinelog.server.exception.security.UnAuthorizedException;
+import com.cinelog.server.service.security.LoginThrottle;
 
 @ExtendWith(MockitoExtension.class)
 class AuthFacadeTest {
@@ -28,6 +33,8 @@ class AuthFacadeTest {
     private UserService userService;
     @Mock
     private SessionManager sessionManager;
+    @Mock
+    private LoginThrottle loginThrottle;
     @InjectMocks
     private AuthFacade authFacade;
 
@@ -65,6 +72,33 @@ class AuthFacadeTest {
         verify(sessionManager).saveLoginUser(any(SessionUser.class));//세션 유저로 변환해 저장했는지 확인
     }
 
+    @Test
+    @DisplayName("로그인 실패: 시도 횟수 제한에 걸리면 유저 조회(db, 해싱) 없이 바로 거절한다")
+    void login_Fail_Throttled() {
+        // Given
+        given(sessionManager.getClientAddress()).willReturn("10.0.0.1");
+        willThrow(new TooManyLoginAttemptsException()).given(loginThrottle).acquire("tester", "10.0.0.1");
+
+        // When & Then
+        assertThatThrownBy(() -> authFacade.login("tester", "pw"))
+                .isInstanceOf(TooManyLoginAttemptsException.class);
+        verify(userService, never()).login(any(), any());
+    }
+
+    @Test
+    @DisplayName("로그인 실패: 비밀번호가 틀리면 접속 주소의 실패로 기록한다")
+    void login_Fail_RecordsFailure() {
+        // Given
+        given(sessionManager.getClientAddress()).willReturn("10.0.0.1");
+        given(userService.login("tester", "wrong")).willThrow(new InvalidPasswordException());
+
+        // When & Then
+        assertThatThrownBy(() -> authFacade.login("tester", "wrong"))
+                .isInstanceOf(InvalidPasswordException.class);
+        verify(loginThrottle).recordFailure("10.0.0.1");
+        verify(sessionManager, never()).saveLoginUser(any());
+    }
+
     @Test
     @DisplayName("로그아웃 메서드를 호출한다")
     void logout_Success(){
@@ -103,8 +137,8 @@ class AuthFacadeTest {
         // Then
         // 1. DB 비밀번호 변경 호출
         verify(userService).updatePassword(currentPw, newPw, 1L);
-        // 2. 로그아웃 호출 
-        verify(sessionManager).logout();
+        // 2. 모든 기기에서 로그아웃 호출
+        verify(sessionManager).logoutEverywhere(1L);
     }
 
     @Test
@@ -118,7 +152,7 @@ class AuthFacadeTest {
 
         // Then
         verify(userService).deleteUser(1L);
-        verify(sessionManager).logout();
+        verify(sessionManager).logoutEverywhere(1L);
     }
 
     @Test
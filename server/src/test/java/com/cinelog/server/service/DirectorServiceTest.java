@@ -1,6 +1,7 @@
 package com.cinelog.server.service;
 
 import com.cinelog.server.domain.Director;
+import com.cinelog.server.domain.event.DirectorChangedEvent;
 import com.cinelog.server.dto.director.DirectorSearchResult;
 import com.cinelog.server.exception.director.DirectorNotFoundException;
 import com.cinelog.server.repository.DirectorRepository;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +30,8 @@ class DirectorServiceTest {
     private DirectorRepository directorRepository;
     @Mock 
     private MovieRepository movieRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private DirectorService directorService;
 
@@ -113,6 +117,7 @@ class DirectorServiceTest {
         // Then
         assertThat(director.getName()).isEqualTo(newName);
         verify(directorRepository, times(1)).save(director);
+        verify(eventPublisher, times(1)).publishEvent(any(DirectorChangedEvent.class));
     }
 
     // --- 아래부터는 삭제 관련 로직 (가장 중요!) ---
@@ -6,12 +6,15 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.cinelog.server.domain.Actor;
 import com.cinelog.server.domain.Director;
@@ -27,6 +31,7 @@ import com.cinelog.server.domain.Movie;
 import com.cinelog.server.exception.actor.ActorNotFoundException;
 import com.cinelog.server.exception.director.DirectorNotFoundException;
 import com.cinelog.server.exception.movie.MovieNotFoundException;
+import com.cinelog.server.exception.movie.MovieVersionConflictException;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("MovieFacade 오케스트레이션 테스트")
@@ -39,6 +44,9 @@ class MovieFacadeTest {
     @Mock
     private DirectorService directorService;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private MovieFacade movieFacade;
 
@@ -57,8 +65,7 @@ class MovieFacadeTest {
 
         // 각 서비스가 ID를 받으면 정해진 객체를 반환하도록 Stubbing
         given(directorService.getDirectorById(directorId)).willReturn(mockDirector);
-        given(actorService.getActorById(10L)).willReturn(mockActor1);
-        given(actorService.getActorById(20L)).willReturn(mockActor2);
+        given(actorService.getActorsByIds(List.of(10L, 20L))).willReturn(List.of(mockActor1, mockActor2));
 
         // When
         movieFacade.createMovie("기생충", Genre.THRILLER, LocalDate.now(), "설명", directorId, actorIds);
@@ -66,7 +73,7 @@ class MovieFacadeTest {
         // Then
         // 1. 순서대로 조회 서비스가 호출되었는지 확인
         verify(directorService).getDirectorById(directorId);
-        verify(actorService, times(2)).getActorById(anyLong()); // 배우가 2명이니 2번 호출
+        verify(actorService).getActorsByIds(List.of(10L, 20L)); // 배우가 여러 명이어도 한 번에 조회
         // 2. 조회된 객체들이 movieService.createMovie에 정확히 전달되었는지 인자들을 확인
         verify(movieService).createMovie(
                 eq("기생충"), 
@@ -91,7 +98,7 @@ class MovieFacadeTest {
             movieFacade.createMovie("제목", Genre.DRAMA, LocalDate.now(), "설명", invalidDirectorId)
         ).isInstanceOf(DirectorNotFoundException.class);
         // 예외가 발생했으므로 배우 조회나 영화 생성은 절대 실행되면 안 됨 (Fail-Fast)
-        verify(actorService, never()).getActorById(anyLong());
+        verify(actorService, never()).getActorsByIds(any());
         verify(movieService, never()).createMovie(any(), any(), any(), any(), any(), any());
     }
 
@@ -105,8 +112,7 @@ class MovieFacadeTest {
         Long[] actorIds = {existingActorId, unknownActorId};
 
         given(directorService.getDirectorById(directorId)).willReturn(new Director("봉준호"));
-        given(actorService.getActorById(existingActorId)).willReturn(new Actor("송강호"));
-        given(actorService.getActorById(unknownActorId))
+        given(actorService.getActorsByIds(List.of(existingActorId, unknownActorId)))
                 .willThrow(new ActorNotFoundException(unknownActorId));
 
         // When & Then
@@ -197,6 +203,46 @@ class MovieFacadeTest {
 
     // --- 4. 배우 삭제 (Remove Actor) ---
 
+    @Test
+    @DisplayName("출연진 수정 충돌: 다른 수정이 먼저 반영되면 영화를 다시 조회해서 재시도한다")
+    void addActorToMovie_RetryOnConflict() {
+        // Given
+        Long movieId = 1L;
+        Long actorId = 10L;
+        Movie mockMovie = mock(Movie.class);
+        Actor mockActor = new Actor("송강호");
+        given(movieService.getMovieById(movieId)).willReturn(mockMovie);
+        given(actorService.getActorById(actorId)).willReturn(mockActor);
+        willThrow(new MovieVersionConflictException(movieId)).willDoNothing()
+                .given(movieService).addActorToMovie(mockMovie, mockActor);
+
+        // When
+        movieFacade.addActorToMovie(movieId, actorId);
+
+        // Then
+        verify(movieService, times(2)).getMovieById(movieId);
+        verify(movieService, times(2)).addActorToMovie(mockMovie, mockActor);
+    }
+
+    @Test
+    @DisplayName("출연진 수정 충돌: 재시도 횟수를 넘기면 충돌 예외가 발생한다")
+    void removeActorFromMovie_Fail_ConflictExhausted() {
+        // Given
+        Long movieId = 1L;
+        Long actorId = 10L;
+        Movie mockMovie = mock(Movie.class);
+        Actor mockActor = new Actor("송강호");
+        given(movieService.getMovieById(movieId)).willReturn(mockMovie);
+        given(actorService.getActorById(actorId)).willReturn(mockActor);
+        willThrow(new MovieVersionConflictException(movieId))
+                .given(movieService).removeActorFromMovie(mockMovie, mockActor);
+
+        // When & Then
+        assertThatThrownBy(() -> movieFacade.removeActorFromMovie(movieId, actorId))
+                .isInstanceOf(MovieVersionConflictException.class);
+        verify(movieService, times(3)).removeActorFromMovie(mockMovie, mockActor);
+    }
+
     @Test
     @DisplayName("배우 삭제 성공: 영화와 배우를 조회하여 삭제 서비스에 전달한다")
     void removeActorFromMovie_Success() {
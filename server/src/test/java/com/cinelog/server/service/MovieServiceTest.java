@@ -3,7 +3,9 @@ package com.cinelog.server.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -17,16 +19,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.cinelog.server.domain.Actor;
 import com.cinelog.server.domain.Director;
 import com.cinelog.server.domain.Genre;
 import com.cinelog.server.domain.Movie;
+import com.cinelog.server.domain.event.MovieDeletedEvent;
+import com.cinelog.server.domain.event.MovieInfoChangedEvent;
+import com.cinelog.server.dto.movie.MovieBrowseCondition;
+import com.cinelog.server.dto.movie.MovieBrowsePage;
+import com.cinelog.server.dto.movie.MovieMultiGetResult;
+import com.cinelog.server.dto.movie.MovieProjection;
 import com.cinelog.server.dto.movie.MovieSearchResult;
 import com.cinelog.server.dto.movie.MovieUpdateRequest;
+import com.cinelog.server.dto.movie.MovieView;
 import com.cinelog.server.exception.movie.MovieNotFoundException;
 import com.cinelog.server.repository.MovieRepository;
+import com.cinelog.server.service.browse.GenreIndex;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("MovieService 테스트")
@@ -34,6 +45,10 @@ class MovieServiceTest {
 
     @Mock
     private MovieRepository movieRepository;
+    @Mock
+    private GenreIndex genreIndex;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private MovieService movieService;
 
@@ -82,6 +97,73 @@ class MovieServiceTest {
                 .isInstanceOf(MovieNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("영화 여러 개 조회: 요청한 순서대로 반환하고 없는 id는 따로 알려준다")
+    void findAllByIds_Success() {
+        // Given
+        Movie movie1 = createTestMovie("영화1");
+        movie1.setId(1L);
+        Movie movie2 = createTestMovie("영화2");
+        movie2.setId(2L);
+        List<Long> ids = List.of(2L, 3L, 1L, 2L);
+        given(movieRepository.findAllByIds(ids)).willReturn(List.of(movie1, movie2));
+
+        // When
+        MovieMultiGetResult result = movieService.findAllByIds(ids);
+
+        // Then
+        assertThat(result.getMovies()).extracting("name").containsExactly("영화2", "영화1");
+        assertThat(result.getMissingIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("영화 여러 개 조회(projection): 요청한 범위로 조회해 요청한 순서대로 반환하고 없는 id는 뺀다")
+    void findAllByIds_Projection() {
+        // Given
+        List<Long> ids = List.of(2L, 3L, 1L, 2L);
+        MovieView view1 = new MovieView(1L, "영화1", Genre.ACTION, LocalDate.now(), 3.0, null, null, null);
+        MovieView view2 = new MovieView(2L, "영화2", Genre.DRAMA, LocalDate.now(), 4.0, null, null, null);
+        given(movieRepository.findViewsByIds(ids, MovieProjection.SUMMARY)).willReturn(List.of(view1, view2));
+
+        // When
+        List<MovieView> result = movieService.findAllByIds(ids, MovieProjection.SUMMARY);
+
+        // Then
+        assertThat(result).extracting("name").containsExactly("영화2", "영화1");
+        verify(movieRepository, never()).findAllByIds(any());//출연진까지 채운 영화는 읽지 않음
+    }
+
+    @Test
+    @DisplayName("장르 탐색: 인덱스에서 구한 id 순서대로 해당 페이지 영화만 조회한다")
+    void browseMovies_Success() {
+        // Given
+        MovieBrowseCondition condition = new MovieBrowseCondition(Genre.DRAMA, 2010, 2020, 3.0);
+        given(genreIndex.search(condition, 2, 2)).willReturn(new GenreIndex.Result(List.of(7L, 3L), 5));
+        Movie movie3 = createTestMovie("영화3");
+        movie3.setId(3L);
+        Movie movie7 = createTestMovie("영화7");
+        movie7.setId(7L);
+        given(movieRepository.findAllByIds(List.of(7L, 3L))).willReturn(List.of(movie3, movie7));
+
+        // When
+        MovieBrowsePage result = movieService.browseMovies(condition, 1, 2);
+
+        // Then
+        assertThat(result.getMovies()).extracting("name").containsExactly("영화7", "영화3");
+        assertThat(result.getTotalCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("장르 탐색: 시작 연도가 종료 연도보다 늦으면 예외가 발생한다")
+    void browseMovies_Fail_YearRange() {
+        // Given
+        MovieBrowseCondition condition = new MovieBrowseCondition(null, 2020, 2010, null);
+
+        // When & Then
+        assertThatThrownBy(() -> movieService.browseMovies(condition, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("전체 영화 조회: 저장된 모든 영화 리스트를 반환한다")
     void findAllMovies_Success() {
@@ -168,6 +250,11 @@ class MovieServiceTest {
         assertThat(existingMovie.getDescription()).isEqualTo("수정된 설명");
         // 2. 바뀐 객체가 save 메서드로 전달되었는지 확인 (행위 검증)
         verify(movieRepository, times(1)).save(existingMovie);
+        // 3. 리뷰 피드가 바뀐 이름/장르를 받도록 이전 장르와 함께 발행
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof MovieInfoChangedEvent changed && changed.getMovieId().equals(movieId)
+                        && changed.getName().equals("수정된 제목") && changed.getGenre() == Genre.ACTION
+                        && changed.getPreviousGenre() == Genre.DRAMA));
     }
     @Test
     @DisplayName("영화 감독 수정 성공: 기존 영화의 감독이 변경되고 저장된다")
@@ -237,7 +324,7 @@ class MovieServiceTest {
         movieService.updateMovieRating(movie,rating);
         //then
         assertThat(movie.getRating()).isEqualTo(rating);
-        verify(movieRepository).save(movie);
+        verify(movieRepository).updateRating(movie.getId(), rating);
     }
  
 
@@ -251,6 +338,9 @@ class MovieServiceTest {
         movieService.deleteMovie(id);
         // Then
         verify(movieRepository, times(1)).delete(id);
+        verify(genreIndex, times(1)).remove(id);
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof MovieDeletedEvent deleted && deleted.getMovieId().equals(id)));
     }
 
     @Test
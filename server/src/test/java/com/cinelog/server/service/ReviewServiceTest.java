@@ -3,6 +3,7 @@ package com.cinelog.server.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -20,11 +21,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import com.cinelog.server.domain.Genre;
 import com.cinelog.server.domain.Movie;
 import com.cinelog.server.domain.Review;
 import com.cinelog.server.domain.User;
+import com.cinelog.server.dto.review.ReviewSummary;
 import com.cinelog.server.exception.security.ForbiddenException;
 import com.cinelog.server.repository.ReviewRepository;
+import com.cinelog.server.service.feed.RecentReviewFeed;
 import com.cinelog.server.domain.event.ReviewChangedEvent;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +42,8 @@ class ReviewServiceTest {
     private UserService userService;
     @Mock
     private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private RecentReviewFeed recentReviewFeed;
     @InjectMocks
     private ReviewService reviewService;
 
@@ -63,6 +69,8 @@ class ReviewServiceTest {
 
         // Then
         verify(reviewRepository).save(any(Review.class));
+        verify(recentReviewFeed).append(any(Review.class));//최신 리뷰 피드에도 반영
+        verify(movieService).touchReviews(movieId);//리뷰 목록 변경 표시 (조건부 GET)
         verify(eventPublisher).publishEvent(any(ReviewChangedEvent.class));
     }
 
@@ -83,9 +91,29 @@ class ReviewServiceTest {
 
         // 검증: 저장이나 이벤트 발생이 실행되면 안 됨
         verify(reviewRepository, never()).save(any());
+        verify(recentReviewFeed, never()).append(any());
         verify(eventPublisher, never()).publishEvent(any());
     }
 
+    @Test
+    @DisplayName("최신 리뷰 조회: db를 거치지 않고 피드 결과를 그대로 반환한다")
+    void findRecentReviews_Success() {
+        // Given
+        ReviewSummary drama = new ReviewSummary(1L, 10L, "기생충", Genre.DRAMA, 1L, "tester", 5, "최고", null);
+        ReviewSummary comedy = new ReviewSummary(2L, 20L, "극한직업", Genre.COMEDY, 2L, "other", 4, "웃김", null);
+        List<ReviewSummary> feed = List.of(comedy, drama);
+        given(recentReviewFeed.getRecent(10)).willReturn(feed);
+        given(recentReviewFeed.getRecentByGenre(Genre.DRAMA, 5)).willReturn(List.of(drama));
+
+        // When
+        List<ReviewSummary> result = reviewService.findRecentReviews(10);
+        List<ReviewSummary> dramaResult = reviewService.findRecentReviewsByGenre(Genre.DRAMA, 5);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(dramaResult).hasSize(1);
+        verify(reviewRepository, never()).findRecent(anyInt());
+    }
     
     @Test
     @DisplayName("유저별 리뷰 조회: 레포지토리 결과를 그대로 반환한다")
@@ -129,12 +157,10 @@ class ReviewServiceTest {
         String newContent = "수정된 내용";
         Integer newRating = 4;
 
-        User owner = mock(User.class); // 작성자
         Review review = mock(Review.class); // 수정 대상 리뷰
 
         given(reviewRepository.findById(reviewId)).willReturn(Optional.of(review));
-        given(userService.getUserById(userId)).willReturn(owner);
-        given(review.isOwner(owner)).willReturn(true);
+        given(review.isOwnedBy(userId)).willReturn(true);
         given(review.getMovieId()).willReturn(movieId);
 
         // When
@@ -143,6 +169,8 @@ class ReviewServiceTest {
         // Then
         verify(review).update(newContent, newRating); 
         verify(reviewRepository).save(review); 
+        verify(recentReviewFeed).update(reviewId, newContent, newRating);
+        verify(userService, never()).getUserById(any());
         
         ArgumentCaptor<ReviewChangedEvent> eventCaptor = ArgumentCaptor.forClass(ReviewChangedEvent.class);
         verify(eventPublisher).publishEvent(eventCaptor.capture());
@@ -158,12 +186,10 @@ class ReviewServiceTest {
         Long reviewId = 100L;
         Long userId = 2L; // 다른 유저 (해커)
 
-        User otherUser = mock(User.class);
         Review review = mock(Review.class);
 
         given(reviewRepository.findById(reviewId)).willReturn(Optional.of(review));
-        given(userService.getUserById(userId)).willReturn(otherUser);
-        given(review.isOwner(otherUser)).willReturn(false);
+        given(review.isOwnedBy(userId)).willReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> 
@@ -199,12 +225,10 @@ class ReviewServiceTest {
         Long userId = 1L;
         Long movieId = 10L;
 
-        User owner = mock(User.class);
         Review review = mock(Review.class);
 
         given(reviewRepository.findById(reviewId)).willReturn(Optional.of(review));
-        given(userService.getUserById(userId)).willReturn(owner);
-        given(review.isOwner(owner)).willReturn(true);
+        given(review.isOwnedBy(userId)).willReturn(true);
         given(review.getMovieId()).willReturn(movieId);
 
         // When
@@ -212,6 +236,7 @@ class ReviewServiceTest {
 
         // Then
         verify(reviewRepository).delete(reviewId);
+        verify(recentReviewFeed).remove(reviewId);
         
         ArgumentCaptor<ReviewChangedEvent> eventCaptor = ArgumentCaptor.forClass(ReviewChangedEvent.class);
         verify(eventPublisher).publishEvent(eventCaptor.capture());
@@ -225,12 +250,10 @@ class ReviewServiceTest {
         Long reviewId = 100L;
         Long userId = 2L;
 
-        User otherUser = mock(User.class);
         Review review = mock(Review.class);
 
         given(reviewRepository.findById(reviewId)).willReturn(Optional.of(review));
-        given(userService.getUserById(userId)).willReturn(otherUser);
-        given(review.isOwner(otherUser)).willReturn(false);
+        given(review.isOwnedBy(userId)).willReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> 
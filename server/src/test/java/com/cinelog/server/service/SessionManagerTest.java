@@ -3,14 +3,15 @@ package com.cinelog.server.service;
 import com.cinelog.server.domain.Role; // Role enum 위치에 맞게 임포트 필요
 import com.cinelog.server.dto.user.SessionUser;
 import com.cinelog.server.exception.security.UnAuthorizedException;
+import com.cinelog.server.service.session.ContainerSessionStore;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -30,14 +31,16 @@ class SessionManagerTest {
     @Mock
     private HttpServletRequest request;
     @Mock
+    private HttpServletResponse response;
+    @Mock
     private HttpSession session;
-    @InjectMocks
     private SessionManager sessionManager;
     private SessionUser testUser;
     private static final String LOGIN_USER = "loginUser";
 
     @BeforeEach
     void setUp() {
+        sessionManager = new SessionManager(request, response, new ContainerSessionStore()); // 기본 저장소(HttpSession) 기준 검증
         testUser = new SessionUser(1L, "tester", Role.USER);
     }
 
@@ -2,8 +2,10 @@ package com.cinelog.server.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
@@ -15,14 +17,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.cinelog.server.domain.Role;
 import com.cinelog.server.domain.User;
+import com.cinelog.server.domain.event.UserNameChangedEvent;
 import com.cinelog.server.exception.security.InvalidPasswordException;
 import com.cinelog.server.exception.user.DuplicateUserNameException;
 import com.cinelog.server.exception.user.UserNotFoundException;
 import com.cinelog.server.repository.UserRepository;
+import com.cinelog.server.service.security.BCryptCostStats;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -31,6 +36,10 @@ class UserServiceTest {
     private UserRepository userRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private BCryptCostStats bcryptCostStats;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private UserService userService;
     private User testUser;
@@ -107,6 +116,27 @@ class UserServiceTest {
         // Then
         assertThat(loggedInUser).isNotNull();
         assertThat(loggedInUser.getName()).isEqualTo("tester");
+        verify(userRepository, never()).save(any());//cost가 최신이면 재해싱하지 않음
+    }
+
+    @Test
+    @DisplayName("로그인 성공: 예전 cost로 저장된 비밀번호는 새 cost로 재해싱하여 저장한다")
+    void login_Success_RehashOutdatedPassword() {
+        // Given
+        String inputPassword = "password123";
+        given(userRepository.findByName("tester")).willReturn(Optional.of(testUser));
+        given(passwordEncoder.matches(inputPassword, "encodedPw")).willReturn(true);
+        given(passwordEncoder.upgradeEncoding("encodedPw")).willReturn(true);
+        given(passwordEncoder.encode(inputPassword)).willReturn("reEncodedPw");
+
+        // When
+        userService.login("tester", inputPassword);
+
+        // Then
+        assertThat(testUser.getPassword()).isEqualTo("reEncodedPw");
+        verify(userRepository).save(testUser);
+        verify(bcryptCostStats).recordLogin("encodedPw");
+        verify(bcryptCostStats).recordRehash();
     }
 
     @Test
@@ -226,6 +256,8 @@ class UserServiceTest {
         assertThat(testUser.isDeleted()).isTrue(); // Soft Delete 확인
         assertThat(testUser.getPassword()).isNotEqualTo("encodedPw"); // 비번 랜덤 변경 로직 확인
         verify(userRepository).save(testUser);
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof UserNameChangedEvent changed && changed.getUserId().equals(1L)));//이름이 바뀌므로 리뷰 목록 ETag 무효화
     }
 
     //private메서드들은 자동 검증됨 다른거 검증하면서
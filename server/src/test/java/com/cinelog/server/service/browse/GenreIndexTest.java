@@ -0,0 +1,77 @@
+package com.cinelog.server.service.browse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cinelog.server.domain.Director;
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+import com.cinelog.server.dto.movie.MovieBrowseCondition;
+import com.cinelog.server.repository.MovieRepository;
+
+class GenreIndexTest {
+    private GenreIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MovieRepository movieRepository = mock(MovieRepository.class);
+        given(movieRepository.findAll()).willReturn(List.of(
+                movie(1L, Genre.DRAMA, 2010, 4.5),
+                movie(2L, Genre.DRAMA, 2019, 3.0),
+                movie(3L, Genre.ACTION, 2019, 4.0),
+                movie(4L, Genre.DRAMA, 2021, 5.0),
+                movie(5L, Genre.DRAMA, 2015, 4.2)));
+        index = new GenreIndex(movieRepository);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("장르, 개봉연도 범위, 최소 평점을 모두 만족하는 영화만 최신 등록순으로 반환한다")
+    void search_CombinedCondition() {
+        // When
+        GenreIndex.Result result = index.search(new MovieBrowseCondition(Genre.DRAMA, 2010, 2020, 4.0), 0, 10);
+
+        // Then
+        assertThat(result.getIds()).containsExactly(5L, 1L);
+        assertThat(result.getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("offset/limit 으로 페이지를 나누고 전체 개수는 유지한다")
+    void search_Paging() {
+        // When
+        GenreIndex.Result result = index.search(new MovieBrowseCondition(Genre.DRAMA, null, null, null), 1, 2);
+
+        // Then
+        assertThat(result.getIds()).containsExactly(4L, 2L);
+        assertThat(result.getTotalCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("장르가 바뀌거나 삭제된 영화는 예전 장르 결과에서 빠진다")
+    void putAndRemove_UpdateBitmaps() {
+        // When
+        index.put(movie(1L, Genre.ACTION, 2010, 4.5));
+        index.remove(5L);
+
+        // Then
+        assertThat(index.search(new MovieBrowseCondition(Genre.DRAMA, null, null, null), 0, 10).getIds()).containsExactly(4L, 2L);
+        assertThat(index.search(new MovieBrowseCondition(Genre.ACTION, null, null, null), 0, 10).getIds()).containsExactly(3L, 1L);
+        assertThat(index.search(new MovieBrowseCondition(null, 2015, 2015, null), 0, 10).getIds()).isEmpty();
+    }
+
+    private Movie movie(Long id, Genre genre, int year, double rating) {
+        Movie movie = new Movie("영화" + id, new Director("감독"), genre, LocalDate.of(year, 1, 1), "설명", List.of());
+        movie.setId(id);
+        movie.setRating(rating);
+        return movie;
+    }
+}
@@ -0,0 +1,142 @@
+package com.cinelog.server.service.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.dto.export.MovieExportRow;
+import com.cinelog.server.dto.export.ReviewExportRow;
+import com.cinelog.server.repository.ExportRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private ExportRepository exportRepository;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportService(exportRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("영화 한 건이 json 한 줄로, 넘어온 순서대로 쓰인다")
+    void exportMoviesAsNdjson() throws Exception {
+        // Given
+        willAnswer(invocation -> {
+            Consumer<MovieExportRow> consumer = invocation.getArgument(1);
+            consumer.accept(new MovieExportRow(11L, "기생충", Genre.DRAMA, LocalDate.of(2019, 5, 30), "줄바꿈이\n있는 설명", 4.5, 1L, "봉준호",
+                    List.of(new MovieExportRow.CastMember(3L, "송강호"))));
+            consumer.accept(new MovieExportRow(12L, "옥자", Genre.DRAMA, null, null, 0.0, 1L, "봉준호", List.of()));
+            return null;
+        }).given(exportRepository).streamMoviesAfter(eq(10L), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long written = exportService.exportMovies(10L, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(written).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).isEmpty();//마지막 줄도 줄바꿈으로 끝남
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(11L);
+        assertThat(first.get("releaseDate").asText()).isEqualTo("2019-05-30");
+        assertThat(first.get("description").asText()).isEqualTo("줄바꿈이\n있는 설명");
+        assertThat(first.get("cast").get(0).get("name").asText()).isEqualTo("송강호");
+        assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("FLUSH_EVERY 줄마다 출력 스트림으로 내려보낸다")
+    void flushesPeriodically() throws Exception {
+        // Given
+        int rows = ExportService.FLUSH_EVERY * 2 + 1;
+        willAnswer(invocation -> {
+            Consumer<ReviewExportRow> consumer = invocation.getArgument(1);
+            for (long id = 1; id <= rows; id++) consumer.accept(new ReviewExportRow(id, 1L, 2L, "tester", 5, "좋아요", LocalDateTime.of(2024, 1, 1, 0, 0)));
+            return null;
+        }).given(exportRepository).streamReviewsAfter(eq(0L), any());
+        CountingOutputStream out = new CountingOutputStream();
+
+        // When
+        long written = exportService.exportReviews(0L, out);
+
+        // Then
+        assertThat(written).isEqualTo(rows);
+        assertThat(out.flushes).isGreaterThanOrEqualTo(2);
+        assertThat(out.lines).isEqualTo(rows);
+    }
+
+    @Test
+    @DisplayName("클라이언트 연결이 끊겨 쓰기가 실패하면 조회를 멈추고 IOException 을 그대로 던진다")
+    void stopsWhenClientDisconnects() {
+        // Given
+        int[] produced = {0};
+        willAnswer(invocation -> {
+            Consumer<ReviewExportRow> consumer = invocation.getArgument(1);
+            for (long id = 1; id <= 100_000; id++) {
+                consumer.accept(new ReviewExportRow(id, 1L, 2L, "tester", 5, "좋아요", null));
+                produced[0]++;
+            }
+            return null;
+        }).given(exportRepository).streamReviewsAfter(eq(0L), any());
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> exportService.exportReviews(0L, broken))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+        assertThat(produced[0]).isLessThan(100_000);
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private int flushes;
+        private int lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') lines++;
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
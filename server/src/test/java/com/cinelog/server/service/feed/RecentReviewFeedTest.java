@@ -0,0 +1,107 @@
+package com.cinelog.server.service.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cinelog.server.domain.Director;
+import com.cinelog.server.domain.Genre;
+import com.cinelog.server.domain.Movie;
+import com.cinelog.server.domain.Review;
+import com.cinelog.server.domain.User;
+import com.cinelog.server.domain.event.MovieDeletedEvent;
+import com.cinelog.server.domain.event.MovieInfoChangedEvent;
+import com.cinelog.server.domain.event.UserNameChangedEvent;
+import com.cinelog.server.dto.review.ReviewSummary;
+import com.cinelog.server.repository.ReviewRepository;
+
+class RecentReviewFeedTest {
+    private ReviewRepository reviewRepository;
+    private RecentReviewFeed feed;
+    private Movie parasite;
+    private Movie oldboy;
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository = mock(ReviewRepository.class);
+        feed = new RecentReviewFeed(reviewRepository, 10);
+        parasite = movie(1L, "기생충", Genre.DRAMA);
+        oldboy = movie(2L, "올드보이", Genre.DRAMA);
+        writer = new User("writer", "password");
+        writer.setId(100L);
+        feed.append(review(10L, parasite));
+        feed.append(review(11L, oldboy));
+    }
+
+    @Test
+    @DisplayName("영화가 삭제되면 그 영화의 리뷰를 전체/장르 피드에서 뺀다")
+    void movieDeleted_RemovesReviews() {
+        // When
+        feed.handleMovieDeletedEvent(new MovieDeletedEvent(1L));
+
+        // Then
+        assertThat(feed.getRecent(10)).extracting(ReviewSummary::getReviewId).containsExactly(11L);
+        assertThat(feed.getRecentByGenre(Genre.DRAMA, 10)).extracting(ReviewSummary::getReviewId).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("작성자 이름이 바뀌면 피드의 작성자 이름도 바뀐다")
+    void userRenamed_ReplacesUserName() {
+        // When
+        feed.handleUserNameChangedEvent(new UserNameChangedEvent(100L, "탈퇴한 회원_100"));
+
+        // Then
+        assertThat(feed.getRecent(10)).extracting(ReviewSummary::getUserName).containsOnly("탈퇴한 회원_100");
+        assertThat(feed.getRecentByGenre(Genre.DRAMA, 10)).extracting(ReviewSummary::getUserName).containsOnly("탈퇴한 회원_100");
+    }
+
+    @Test
+    @DisplayName("영화 이름만 바뀌면 같은 장르 피드 안에서 이름만 바꾼다")
+    void movieRenamed_ReplacesMovieName() {
+        // When
+        feed.handleMovieInfoChangedEvent(new MovieInfoChangedEvent(1L, "기생충 (흑백판)", Genre.DRAMA, Genre.DRAMA));
+
+        // Then
+        assertThat(feed.getRecent(10)).extracting(ReviewSummary::getMovieName).containsExactly("올드보이", "기생충 (흑백판)");
+        assertThat(feed.getRecentByGenre(Genre.DRAMA, 10)).extracting(ReviewSummary::getMovieName).containsExactly("올드보이", "기생충 (흑백판)");
+    }
+
+    @Test
+    @DisplayName("영화 장르가 바뀌면 이전 장르 피드에서 빼고 새 장르 피드는 db에서 최신순으로 다시 채운다")
+    void movieGenreChanged_MovesReviews() {
+        // Given
+        Movie changed = movie(1L, "기생충", Genre.THRILLER);
+        given(reviewRepository.findRecentByGenre(Genre.THRILLER, 10)).willReturn(List.of(review(12L, changed), review(10L, changed)));
+
+        // When
+        feed.handleMovieInfoChangedEvent(new MovieInfoChangedEvent(1L, "기생충", Genre.THRILLER, Genre.DRAMA));
+
+        // Then
+        assertThat(feed.getRecentByGenre(Genre.DRAMA, 10)).extracting(ReviewSummary::getReviewId).containsExactly(11L);
+        assertThat(feed.getRecentByGenre(Genre.THRILLER, 10)).extracting(ReviewSummary::getReviewId).containsExactly(12L, 10L);
+        assertThat(feed.getRecent(10)).filteredOn(summary -> summary.getMovieId().equals(1L))
+                .extracting(ReviewSummary::getGenre).containsOnly(Genre.THRILLER);
+    }
+
+    private Review review(Long id, Movie movie) {
+        Review review = Review.create("리뷰" + id, 4, writer, movie);
+        review.setId(id);
+        return review;
+    }
+
+    private Movie movie(Long id, String name, Genre genre) {
+        Director director = new Director("감독");
+        director.setId(1L);
+        Movie movie = new Movie(name, director, genre, LocalDate.of(2019, 5, 30), "설명", List.of());
+        movie.setId(id);
+        return movie;
+    }
+}
@@ -0,0 +1,251 @@
+package com.cinelog.server.service.live;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.cinelog.server.dto.movie.RatingUpdate;
+
+class RatingBroadcastHubTest {
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private final Executor manual = pending::add;
+    private RatingBroadcastHub hub;
+
+    @AfterEach
+    void tearDown() {
+        if (hub != null) hub.destroy();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("구독하면 현재 평점을 먼저 보내고 이후 변경을 같은 영화 구독자에게만 보낸다")
+    void sendsCurrentRatingThenUpdatesForSameMovie() {
+        // Given
+        hub = new RatingBroadcastHub(4, Duration.ofMinutes(1), Duration.ofSeconds(10), Runnable::run);
+        RecordingEmitter watcher = new RecordingEmitter();
+        RecordingEmitter other = new RecordingEmitter();
+        hub.register(1L, watcher, () -> 3.0);
+        hub.register(2L, other, () -> 4.0);
+
+        // When
+        hub.publish(1L, 3.5);
+
+        // Then
+        assertThat(watcher.ratings()).containsExactly(3.0, 3.5);
+        assertThat(other.ratings()).containsExactly(4.0);
+        assertThat(hub.getSubscriberCount()).isEqualTo(2);
+        assertThat(hub.getDeliveredCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 발행하면 커밋된 뒤에 보낸다")
+    void publishesAfterCommit() {
+        // Given
+        hub = new RatingBroadcastHub(4, Duration.ofMinutes(1), Duration.ofSeconds(10), Runnable::run);
+        RecordingEmitter watcher = new RecordingEmitter();
+        hub.register(1L, watcher, () -> 3.0);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        hub.publish(1L, 4.0);
+        List<Double> beforeCommit = watcher.ratings();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(beforeCommit).containsExactly(3.0);
+        assertThat(watcher.ratings()).containsExactly(3.0, 4.0);
+    }
+
+    @Test
+    @DisplayName("전송이 밀린 구독자는 버퍼 크기만큼 최신 변경만 받고 나머지는 버린다")
+    void slowSubscriberDropsOldest() {
+        // Given
+        hub = new RatingBroadcastHub(3, Duration.ofMinutes(1), Duration.ofSeconds(10), manual);
+        RecordingEmitter watcher = new RecordingEmitter();
+        hub.register(1L, watcher, () -> 0.0);
+
+        // When
+        for (int i = 1; i <= 10; i++) {
+            hub.broadcast(new RatingUpdate(1L, i * 0.5));
+        }
+        runPending();
+
+        // Then
+        assertThat(watcher.ratings()).containsExactly(4.0, 4.5, 5.0);
+        assertThat(hub.getDroppedCount()).isEqualTo(8);//처음 값 + 변경 7개
+        assertThat(pending).isEmpty();
+    }
+
+    @Test
+    @DisplayName("현재 평점을 읽는 사이 변경 알림이 먼저 들어오면 현재 평점은 보내지 않는다")
+    void skipsInitialRatingWhenUpdateArrivedFirst() {
+        // Given
+        hub = new RatingBroadcastHub(4, Duration.ofMinutes(1), Duration.ofSeconds(10), manual);
+        RecordingEmitter watcher = new RecordingEmitter();
+
+        // When
+        hub.register(1L, watcher, () -> {
+            hub.broadcast(new RatingUpdate(1L, 4.5));//조회 중에 커밋된 변경
+            return 4.0;
+        });
+        runPending();
+
+        // Then
+        assertThat(watcher.ratings()).containsExactly(4.5);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 구독자는 목록에서 빠진다")
+    void removesDisconnectedSubscriber() {
+        // Given
+        hub = new RatingBroadcastHub(4, Duration.ofMinutes(1), Duration.ofSeconds(10), Runnable::run);
+        RecordingEmitter watcher = new RecordingEmitter();
+        hub.register(1L, watcher, () -> 3.0);
+        watcher.disconnected = true;
+
+        // When
+        hub.publish(1L, 3.5);
+        hub.publish(1L, 4.0);
+
+        // Then
+        assertThat(hub.getSubscriberCount()).isZero();
+        assertThat(hub.getWatchedMovieCount()).isZero();
+        assertThat(hub.getDisconnectedCount()).isEqualTo(1);
+        assertThat(watcher.ratings()).containsExactly(3.0);
+    }
+
+    @Test
+    @DisplayName("하트비트는 보낼 것이 밀려 있지 않은 구독자에게만 보낸다")
+    void heartbeatOnlyToIdleSubscribers() {
+        // Given
+        hub = new RatingBroadcastHub(4, Duration.ofMinutes(1), Duration.ofSeconds(10), manual);
+        RecordingEmitter idle = new RecordingEmitter();
+        RecordingEmitter busy = new RecordingEmitter();
+        hub.register(1L, idle, () -> 3.0);
+        runPending();
+        hub.register(2L, busy, () -> 4.0);
+
+        // When
+        hub.heartbeat();
+        runPending();
+
+        // Then
+        assertThat(idle.heartbeats).isEqualTo(1);
+        assertThat(busy.heartbeats).isZero();
+        assertThat(busy.ratings()).containsExactly(4.0);
+    }
+
+    @Test
+    @DisplayName("한 구독자의 전송이 멈춰도 제한 시간이 지나면 그 구독을 끊고, 전송 스레드가 하나뿐이어도 다른 구독자는 계속 받는다")
+    void stalledSubscriberDoesNotBlockOthers() throws Exception {
+        // Given (전송 스레드 1개, 첫 구독자의 전송은 풀어주기 전까지 끝나지 않음)
+        ThreadPoolExecutor pool = RatingBroadcastHub.senderPool(1);
+        hub = new RatingBroadcastHub(4, Duration.ofMinutes(1), Duration.ofMillis(50), pool);
+        BlockingEmitter stuck = new BlockingEmitter();
+        RecordingEmitter watcher = new RecordingEmitter();
+        try {
+            hub.register(1L, stuck, () -> 3.0);
+            assertThat(stuck.entered.await(5, TimeUnit.SECONDS)).isTrue();
+            hub.register(1L, watcher, () -> 3.0);//유일한 전송 스레드가 잡혀 있어 대기
+
+            // When
+            Thread.sleep(100);
+            hub.evictStalled();
+            hub.publish(1L, 4.0);
+
+            // Then
+            awaitRatings(watcher, 2);
+            assertThat(watcher.ratings()).containsExactly(3.0, 4.0);
+            assertThat(hub.getStalledCount()).isEqualTo(1);
+            assertThat(hub.getSubscriberCount()).isEqualTo(1);
+            assertThat(pool.getCorePoolSize()).isEqualTo(2);
+        } finally {
+            stuck.release.countDown();
+        }
+        awaitCondition(() -> pool.getCorePoolSize() == 1);//멈췄던 전송이 끝나면 늘린 스레드를 되돌림
+        assertThat(stuck.isCompleted()).isTrue();
+    }
+
+    private void awaitRatings(RecordingEmitter emitter, int count) throws InterruptedException {
+        awaitCondition(() -> emitter.ratings().size() >= count);
+    }
+
+    private void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private void runPending() {
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+            task.run();
+        }
+    }
+
+    //응답 스트림 대신 보낸 이벤트를 모아 둠
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<RatingUpdate> updates = new CopyOnWriteArrayList<>();//전송 스레드에서 추가
+        private int heartbeats;
+        private boolean disconnected;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (disconnected) throw new IOException("연결이 끊겼습니다.");
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof RatingUpdate update) updates.add(update);
+                else if (data.getData().toString().contains(":heartbeat")) heartbeats++;
+            }
+        }
+
+        private List<Double> ratings() {
+            return updates.stream().map(RatingUpdate::getRating).toList();
+        }
+    }
+
+    //멈춘 클라이언트 -> 풀어주기 전까지 전송이 끝나지 않음
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        private boolean isCompleted() {
+            return completed;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.cinelog.server.service.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BCryptCostCalibratorTest {
+
+    @Test
+    @DisplayName("보정 결과는 최소 cost 이상이며, 측정한 cost 중 목표 시간에 가장 가까운 값을 고른다")
+    void calibrate_PicksClosestStrength() {
+        // Given: 테스트 시간을 줄이기 위해 낮은 범위로 측정
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator(5, 4, 8);
+
+        // When
+        BCryptCalibration calibration = calibrator.calibrate();
+
+        // Then
+        assertThat(calibration.isCalibrated()).isTrue();
+        assertThat(calibration.getStrength()).isBetween(4, 8);
+        assertThat(calibration.getSamples()).containsKey(calibration.getStrength());
+        double chosen = Math.abs(Math.log(calibration.getHashMillis() / 5));
+        calibration.getSamples().values()
+                .forEach(millis -> assertThat(chosen).isLessThanOrEqualTo(Math.abs(Math.log(millis / 5))));
+    }
+
+    @Test
+    @DisplayName("cost 범위가 잘못되면 예외가 발생한다")
+    void invalidRange() {
+        assertThatThrownBy(() -> new BCryptCostCalibrator(100, 12, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("bcrypt 해시 문자열에서 cost를 추출하고, 로그인 수를 cost별로 집계한다")
+    void costStats_RecordLogin() {
+        // Given
+        BCryptCostStats stats = new BCryptCostStats(BCryptCostCalibrator.fixed(12));
+
+        // When
+        stats.recordLogin("$2a$10$abcdefghijklmnopqrstuv");
+        stats.recordLogin("$2a$12$abcdefghijklmnopqrstuv");
+        stats.recordLogin("$2a$12$abcdefghijklmnopqrstuv");
+
+        // Then
+        assertThat(stats.getLoginCountsByCost()).containsEntry(10, 1L).containsEntry(12, 2L);
+        assertThat(BCryptCostStats.costOf("plain")).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,140 @@
+package com.cinelog.server.service.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cinelog.server.exception.security.TooManyLoginAttemptsException;
+
+class LoginThrottleTest {
+
+    @Test
+    @DisplayName("같은 아이디로 허용량을 넘겨 시도하면 거절되고, 대소문자를 바꿔도 같은 키로 본다")
+    void acquire_Fail_UserNameLimit() {
+        // Given
+        LoginThrottle throttle = new LoginThrottle(true, 100, 2, 1, 100, 100);
+        throttle.acquire("tester", "10.0.0.1");
+        throttle.acquire("tester", "10.0.0.2");
+
+        // When & Then
+        assertThatThrownBy(() -> throttle.acquire("TESTER", "10.0.0.3"))
+                .isInstanceOf(TooManyLoginAttemptsException.class);
+        assertThat(throttle.getRejectedByUserNameCount()).isEqualTo(1);
+        assertThat(throttle.getAllowedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 주소에서 여러 아이디로 실패해도 주소별 허용량을 넘으면 거절된다")
+    void acquire_Fail_AddressLimit() {
+        // Given
+        LoginThrottle throttle = new LoginThrottle(true, 100, 100, 100, 2, 1);
+        throttle.acquire("user1", "10.0.0.1");
+        throttle.recordFailure("10.0.0.1");
+        throttle.acquire("user2", "10.0.0.1");
+        throttle.recordFailure("10.0.0.1");
+
+        // When & Then
+        assertThatThrownBy(() -> throttle.acquire("user3", "10.0.0.1"))
+                .isInstanceOf(TooManyLoginAttemptsException.class);
+        assertThat(throttle.getRejectedByAddressCount()).isEqualTo(1);
+        assertThat(throttle.getFailureCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 주소(프록시, nat 뒤)의 성공한 로그인은 주소별 허용량을 쓰지 않는다")
+    void acquire_SuccessDoesNotChargeAddress() {
+        // Given
+        LoginThrottle throttle = new LoginThrottle(true, 100, 100, 100, 2, 1);
+
+        // When
+        for (int i = 0; i < 10; i++) throttle.acquire("user" + i, "10.0.0.1");
+
+        // Then
+        assertThat(throttle.getAllowedCount()).isEqualTo(10);
+        assertThat(throttle.getRejectedByAddressCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 제한하지 않는다")
+    void acquire_Disabled() {
+        LoginThrottle throttle = new LoginThrottle(false, 100, 1, 1, 1, 1);
+        for (int i = 0; i < 10; i++) throttle.acquire("tester", "10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("토큰 버킷: 시간이 지나면 분당 회복량만큼 다시 허용된다")
+    void buckets_Refill() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        StripedTokenBuckets buckets = new StripedTokenBuckets(4, 100, 1, 60, now::get);//초당 1개 회복
+        assertThat(buckets.tryConsume("key")).isTrue();
+        assertThat(buckets.tryConsume("key")).isFalse();
+
+        // When
+        now.addAndGet(1_000_000_000L);
+
+        // Then
+        assertThat(buckets.tryConsume("key")).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰 버킷: 최대 개수를 넘으면 다 회복된 키부터 제거되어 메모리가 제한된다")
+    void buckets_Eviction() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 3, 1, 60, now::get);//초당 1개 회복
+        for (int i = 0; i < 3; i++) buckets.tryConsume("user" + i);
+
+        // When
+        for (int i = 3; i < 10; i++) {
+            now.addAndGet(1_000_000_000L);//앞서 쓴 키들이 모두 회복
+            assertThat(buckets.tryConsume("user" + i)).isTrue();
+        }
+
+        // Then
+        assertThat(buckets.size()).isEqualTo(3);
+        assertThat(buckets.getEvictionCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("토큰 버킷: 키를 바꿔가며 가득 채워도 제한 중인 버킷은 제거되지 않고, 새 키는 공용 버킷을 나눠 쓴다")
+    void buckets_ThrottledBucketsAreNotEvicted() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 3, 1, 1, now::get);
+        assertThat(buckets.tryConsume("victim")).isTrue();
+        assertThat(buckets.tryConsume("victim")).isFalse();
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (buckets.tryConsume("other" + i)) allowed++;
+        }
+
+        // Then
+        assertThat(buckets.tryConsume("victim")).isFalse();//버킷이 남아 있어 여전히 제한
+        assertThat(allowed).isEqualTo(3);//자기 버킷 2개 + 공용 버킷 1번
+        assertThat(buckets.size()).isEqualTo(3);
+        assertThat(buckets.getEvictionCount()).isZero();
+        assertThat(buckets.getSaturatedCount()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("토큰 버킷: 가득 찬 조각에서도 새 키는 공용 버킷이 남아 있으면 허용되고, 확인만으로는 키가 늘지 않는다")
+    void buckets_SaturatedStripeFallsBackToOverflow() {
+        // Given (추적 중인 키가 모두 제한 중)
+        AtomicLong now = new AtomicLong();
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 2, 1, 1, now::get);
+        for (int i = 0; i < 2; i++) buckets.tryConsume("attacker" + i);
+
+        // When & Then
+        assertThat(buckets.hasToken("newcomer1")).isTrue();
+        assertThat(buckets.tryConsume("newcomer1")).isTrue();
+        assertThat(buckets.hasToken("newcomer2")).isFalse();//공용 버킷을 이미 씀
+        assertThat(buckets.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,156 @@
+package com.cinelog.server.service.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cinelog.server.exception.security.PasswordHashRejectedException;
+import com.cinelog.server.service.security.PasswordHashExecutor.Priority;
+
+class PasswordHashExecutorTest {
+
+    private PasswordHashExecutor hashExecutor;
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (hashExecutor != null) hashExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("해싱 작업은 전용 풀에서 실행되고 결과와 처리 시간이 기록된다")
+    void execute_Success() {
+        // Given
+        hashExecutor = new PasswordHashExecutor(1, 4, 4, Duration.ofSeconds(1));
+
+        // When
+        String threadName = hashExecutor.execute(Priority.ENCODE, () -> Thread.currentThread().getName());
+
+        // Then
+        assertThat(threadName).startsWith("password-hash-");
+        assertThat(hashExecutor.getCompletedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그인 동시 처리 상한을 넘으면 대기하지 않고 즉시 거절한다")
+    void execute_Fail_LoginLimitExceeded() throws Exception {
+        // Given
+        hashExecutor = new PasswordHashExecutor(1, 4, 1, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        callers.submit(() -> hashExecutor.execute(Priority.MATCH, () -> {
+            started.countDown();
+            release.await();
+            return true;
+        }));
+        started.await(1, TimeUnit.SECONDS);
+
+        // When & Then
+        assertThatThrownBy(() -> hashExecutor.execute(Priority.MATCH, () -> true))
+                .isInstanceOf(PasswordHashRejectedException.class);
+        assertThat(hashExecutor.getRejectedCount()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거절한다")
+    void execute_Fail_QueueFull() throws Exception {
+        // Given: 스레드 1 + 대기열 1 -> 두 작업까지만 허용
+        hashExecutor = new PasswordHashExecutor(1, 1, 10, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        callers.submit(() -> hashExecutor.execute(Priority.ENCODE, () -> {
+            started.countDown();
+            release.await();
+            return "first";
+        }));
+        started.await(1, TimeUnit.SECONDS);
+        callers.submit(() -> hashExecutor.execute(Priority.ENCODE, () -> "second"));
+        waitUntilQueued(1);
+
+        // When & Then
+        assertThatThrownBy(() -> hashExecutor.execute(Priority.ENCODE, () -> "third"))
+                .isInstanceOf(PasswordHashRejectedException.class);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업은 로그인 검증보다 암호화(회원가입/비밀번호 변경)가 먼저 처리된다")
+    void execute_PrioritizesEncode() throws Exception {
+        // Given
+        hashExecutor = new PasswordHashExecutor(1, 10, 10, Duration.ofSeconds(5));
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        callers.submit(() -> hashExecutor.execute(Priority.ENCODE, () -> {
+            started.countDown();
+            release.await();
+            return "blocker";
+        }));
+        started.await(1, TimeUnit.SECONDS);
+        callers.submit(() -> hashExecutor.execute(Priority.MATCH, () -> order.add("match")));
+        waitUntilQueued(1);
+        callers.submit(() -> hashExecutor.execute(Priority.ENCODE, () -> order.add("encode")));
+        waitUntilQueued(2);
+
+        // When
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 2000;
+        while (order.size() < 2 && System.currentTimeMillis() < deadline) Thread.sleep(10);
+
+        // Then
+        assertThat(order).containsExactly("encode", "match");
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 처리되지 않으면 거절 예외로 응답한다")
+    void execute_Fail_Timeout() {
+        // Given
+        hashExecutor = new PasswordHashExecutor(1, 1, 1, Duration.ofMillis(50));
+
+        // When & Then
+        assertThatThrownBy(() -> hashExecutor.execute(Priority.ENCODE, () -> {
+            Thread.sleep(500);
+            return "slow";
+        })).isInstanceOf(PasswordHashRejectedException.class);
+        assertThat(hashExecutor.getTimedOutCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실행 중에 제한 시간이 지나도 해싱이 끝날 때까지 동시 처리 허가를 반납하지 않는다")
+    void execute_TimedOutRunningTaskKeepsPermit() throws Exception {
+        // Given
+        hashExecutor = new PasswordHashExecutor(2, 2, 1, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        assertThatThrownBy(() -> hashExecutor.execute(Priority.MATCH, () -> {
+            release.await();//호출한 쪽은 타임아웃으로 돌아가지만 해싱은 계속됨
+            return true;
+        })).isInstanceOf(PasswordHashRejectedException.class);
+
+        // When & Then
+        assertThatThrownBy(() -> hashExecutor.execute(Priority.MATCH, () -> true))
+                .isInstanceOf(PasswordHashRejectedException.class);
+        assertThat(hashExecutor.getRejectedCount()).isEqualTo(1);
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 1000;
+        while (hashExecutor.getActiveCount() > 0 && System.currentTimeMillis() < deadline) Thread.sleep(5);
+        assertThat(hashExecutor.execute(Priority.MATCH, () -> true)).isTrue();
+    }
+
+    private void waitUntilQueued(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (hashExecutor.getQueuedCount() < expected && System.currentTimeMillis() < deadline) Thread.sleep(5);
+    }
+}
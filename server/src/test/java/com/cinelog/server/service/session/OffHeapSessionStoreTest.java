@@ -0,0 +1,108 @@
+package com.cinelog.server.service.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.cinelog.server.domain.Role;
+import com.cinelog.server.dto.user.SessionUser;
+import com.cinelog.server.exception.security.SessionStoreFullException;
+
+import jakarta.servlet.http.Cookie;
+
+class OffHeapSessionStoreTest {
+    private static final String COOKIE = "CINELOG_SESSION";
+    private AtomicLong now;
+    private OffHeapSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000_000L);
+        store = new OffHeapSessionStore(COOKIE, false, Duration.ofMinutes(30), 4096, 2, now::get);
+    }
+
+    @Test
+    @DisplayName("로그인 후 발급된 쿠키로 다음 요청에서 유저를 복원한다")
+    void createAndFind() {
+        // Given
+        SessionUser user = new SessionUser(1L, "테스터", Role.ADMIN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        store.create(new MockHttpServletRequest(), response, user);
+        Optional<SessionUser> found = store.find(nextRequest(response), new MockHttpServletResponse());
+
+        // Then
+        assertThat(found).contains(user);
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).contains("HttpOnly").contains("SameSite=Lax");
+    }
+
+    @Test
+    @DisplayName("긴 이름으로 변경해도 큰 슬롯으로 옮겨 저장한다")
+    void update_MovesToLargeSlot() {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        store.create(new MockHttpServletRequest(), response, new SessionUser(1L, "a", Role.USER));
+        String longName = "이름".repeat(100);
+
+        // When
+        store.update(nextRequest(response), new MockHttpServletResponse(), new SessionUser(1L, longName, Role.USER));
+
+        // Then
+        assertThat(store.find(nextRequest(response), new MockHttpServletResponse())).get().extracting(SessionUser::getName).isEqualTo(longName);
+        assertThat(store.getSessionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그아웃하거나 만료된 세션은 조회되지 않고, 정리하면 슬롯이 반납된다")
+    void invalidateAndSweep() {
+        // Given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        store.create(new MockHttpServletRequest(), first, new SessionUser(1L, "first", Role.USER));
+        store.create(new MockHttpServletRequest(), second, new SessionUser(2L, "second", Role.USER));
+
+        // When
+        store.invalidate(nextRequest(first), new MockHttpServletResponse());
+        now.addAndGet(Duration.ofMinutes(31).toMillis());
+        int swept = store.sweepExpired();
+
+        // Then
+        assertThat(store.find(nextRequest(first), new MockHttpServletResponse())).isEmpty();
+        assertThat(store.find(nextRequest(second), new MockHttpServletResponse())).isEmpty();
+        assertThat(swept).isEqualTo(1);
+        assertThat(store.getSessionCount()).isZero();
+        assertThat(store.getFreeSlotCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장 공간이 가득 차면 로그인을 거절한다")
+    void create_Full() {
+        // Given (64바이트 슬롯 64개 * 2 슬랩)
+        for (int i = 0; i < 128; i++) {
+            store.create(new MockHttpServletRequest(), new MockHttpServletResponse(), new SessionUser((long) i, "u" + i, Role.USER));
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> store.create(new MockHttpServletRequest(), new MockHttpServletResponse(), new SessionUser(999L, "late", Role.USER)))
+                .isInstanceOf(SessionStoreFullException.class);
+    }
+
+    private MockHttpServletRequest nextRequest(MockHttpServletResponse response) {
+        String header = response.getHeader(HttpHeaders.SET_COOKIE);
+        String value = header.substring(COOKIE.length() + 1, header.indexOf(';'));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(COOKIE, value));
+        return request;
+    }
+}
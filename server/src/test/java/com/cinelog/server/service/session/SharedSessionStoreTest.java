@@ -0,0 +1,80 @@
+package com.cinelog.server.service.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.cinelog.server.domain.Role;
+import com.cinelog.server.dto.user.SessionUser;
+
+import jakarta.servlet.http.Cookie;
+
+class SharedSessionStoreTest {
+    private static final String COOKIE = "CINELOG_SESSION";
+    private AtomicLong now;
+    private LocalKeyValueStore keyValueStore;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000_000L);
+        keyValueStore = new LocalKeyValueStore(now::get);
+    }
+
+    @Test
+    @DisplayName("한 서버에서 로그인한 세션을 다른 서버에서도 조회할 수 있다")
+    void find_FromOtherNode() {
+        // Given
+        SharedSessionStore nodeA = newNode();
+        SharedSessionStore nodeB = newNode();
+        SessionUser user = new SessionUser(1L, "tester", Role.USER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        nodeA.create(new MockHttpServletRequest(), response, user);
+
+        // Then
+        assertThat(nodeB.find(nextRequest(response), new MockHttpServletResponse())).contains(user);
+    }
+
+    @Test
+    @DisplayName("만료 시간의 절반이 지나 접근하면 만료가 연장되고, 접근이 없으면 정리된다")
+    void slidingExpiry() {
+        // Given
+        SharedSessionStore store = newNode();
+        MockHttpServletResponse active = new MockHttpServletResponse();
+        MockHttpServletResponse idle = new MockHttpServletResponse();
+        store.create(new MockHttpServletRequest(), active, new SessionUser(1L, "active", Role.USER));
+        store.create(new MockHttpServletRequest(), idle, new SessionUser(2L, "idle", Role.USER));
+
+        // When
+        now.addAndGet(Duration.ofMinutes(20).toMillis());
+        store.find(nextRequest(active), new MockHttpServletResponse());
+        now.addAndGet(Duration.ofMinutes(20).toMillis());
+        int swept = store.sweepExpired();
+
+        // Then
+        assertThat(swept).isEqualTo(1);
+        assertThat(store.find(nextRequest(active), new MockHttpServletResponse())).isPresent();
+        assertThat(store.find(nextRequest(idle), new MockHttpServletResponse())).isEmpty();
+    }
+
+    private SharedSessionStore newNode() {
+        return new SharedSessionStore(keyValueStore, COOKIE, false, Duration.ofMinutes(30), now::get);
+    }
+
+    private MockHttpServletRequest nextRequest(MockHttpServletResponse response) {
+        String header = response.getHeader(HttpHeaders.SET_COOKIE);
+        String value = header.substring(COOKIE.length() + 1, header.indexOf(';'));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(COOKIE, value));
+        return request;
+    }
+}
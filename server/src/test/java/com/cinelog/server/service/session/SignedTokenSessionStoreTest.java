@@ -0,0 +1,140 @@
+package com.cinelog.server.service.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.cinelog.server.domain.Role;
+import com.cinelog.server.dto.user.SessionUser;
+
+import jakarta.servlet.http.Cookie;
+
+class SignedTokenSessionStoreTest {
+    private static final String COOKIE = "CINELOG_SESSION";
+    private static final String KEY_1 = "1:" + Base64.getEncoder().encodeToString("first-secret-key-0123456789abcdef".getBytes());
+    private static final String KEY_2 = "2:" + Base64.getEncoder().encodeToString("second-secret-key-0123456789abcde".getBytes());
+    private AtomicLong now;
+    private LocalKeyValueStore keyValueStore;
+    private SessionUser user;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000_000L);
+        keyValueStore = new LocalKeyValueStore(now::get);
+        user = new SessionUser(1L, "tester", Role.USER);
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 같은 키를 가진 다른 서버에서도 검증된다")
+    void find_FromOtherNode() {
+        // Given
+        SignedTokenSessionStore nodeA = newNode(KEY_1, 1);
+        SignedTokenSessionStore nodeB = newNode(KEY_1, 1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        nodeA.create(new MockHttpServletRequest(), response, user);
+
+        // Then
+        assertThat(nodeB.find(nextRequest(tokenOf(response)), new MockHttpServletResponse())).contains(user);
+    }
+
+    @Test
+    @DisplayName("서명이 조작된 토큰은 거부한다")
+    void find_Tampered() {
+        // Given
+        SignedTokenSessionStore store = newNode(KEY_1, 1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        store.create(new MockHttpServletRequest(), response, user);
+        String token = tokenOf(response);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // When & Then
+        assertThat(store.find(nextRequest(tampered), new MockHttpServletResponse())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키 교체 후 예전 키 토큰은 검증되고 새 키로 재발급된다")
+    void find_RotatedKey() {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        newNode(KEY_1, 1).create(new MockHttpServletRequest(), response, user);
+        SignedTokenSessionStore rotated = newNode(KEY_1 + "," + KEY_2, 2);
+        MockHttpServletResponse reissued = new MockHttpServletResponse();
+
+        // When
+        boolean found = rotated.find(nextRequest(tokenOf(response)), reissued).isPresent();
+
+        // Then (예전 키를 목록에서 빼면 재발급된 토큰만 통과)
+        SignedTokenSessionStore retired = newNode(KEY_2, 2);
+        assertThat(found).isTrue();
+        assertThat(retired.find(nextRequest(tokenOf(response)), new MockHttpServletResponse())).isEmpty();
+        assertThat(retired.find(nextRequest(tokenOf(reissued)), new MockHttpServletResponse())).contains(user);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰과, 모든 기기 로그아웃 이전에 발급된 토큰은 거부된다")
+    void revoke() {
+        // Given
+        SignedTokenSessionStore store = newNode(KEY_1, 1);
+        MockHttpServletResponse loggedOut = new MockHttpServletResponse();
+        MockHttpServletResponse otherDevice = new MockHttpServletResponse();
+        store.create(new MockHttpServletRequest(), loggedOut, user);
+        store.create(new MockHttpServletRequest(), otherDevice, user);
+
+        // When
+        store.invalidate(nextRequest(tokenOf(loggedOut)), new MockHttpServletResponse());
+        boolean otherDeviceBefore = store.find(nextRequest(tokenOf(otherDevice)), new MockHttpServletResponse()).isPresent();
+        now.addAndGet(1);
+        store.invalidateAll(new MockHttpServletRequest(), new MockHttpServletResponse(), user.getId());
+        now.addAndGet(1);
+        MockHttpServletResponse newLogin = new MockHttpServletResponse();
+        store.create(new MockHttpServletRequest(), newLogin, user);
+
+        // Then
+        assertThat(store.find(nextRequest(tokenOf(loggedOut)), new MockHttpServletResponse())).isEmpty();
+        assertThat(otherDeviceBefore).isTrue();
+        assertThat(store.find(nextRequest(tokenOf(otherDevice)), new MockHttpServletResponse())).isEmpty();
+        assertThat(store.find(nextRequest(tokenOf(newLogin)), new MockHttpServletResponse())).contains(user);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 거부한다")
+    void find_Expired() {
+        // Given
+        SignedTokenSessionStore store = newNode(KEY_1, 1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        store.create(new MockHttpServletRequest(), response, user);
+
+        // When
+        now.addAndGet(Duration.ofMinutes(31).toMillis());
+
+        // Then
+        assertThat(store.find(nextRequest(tokenOf(response)), new MockHttpServletResponse())).isEmpty();
+    }
+
+    private SignedTokenSessionStore newNode(String keys, int activeKeyId) {
+        TokenRevocationList revocations = new TokenRevocationList(keyValueStore, Duration.ofMinutes(30));
+        return new SignedTokenSessionStore(new TokenKeyRing(keys, activeKeyId), revocations, COOKIE, false, Duration.ofMinutes(30), now::get);
+    }
+
+    private String tokenOf(MockHttpServletResponse response) {
+        String header = response.getHeader(HttpHeaders.SET_COOKIE);
+        return header.substring(COOKIE.length() + 1, header.indexOf(';'));
+    }
+
+    private MockHttpServletRequest nextRequest(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(COOKIE, token));
+        return request;
+    }
+}
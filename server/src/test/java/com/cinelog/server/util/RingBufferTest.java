@@ -0,0 +1,103 @@
+package com.cinelog.server.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RingBufferTest {
+
+    @Test
+    @DisplayName("최신순으로 반환하고, 용량을 넘으면 가장 오래된 값부터 덮어쓴다")
+    void latest_OverwritesOldest() {
+        // Given
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+
+        // When
+        for (int i = 1; i <= 5; i++) buffer.append(i);
+
+        // Then
+        assertThat(buffer.latest(10)).containsExactly(5, 4, 3);
+        assertThat(buffer.latest(2)).containsExactly(5, 4);
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 값을 삭제/교체하면 조회 결과에 반영된다")
+    void removeAndReplace() {
+        // Given
+        RingBuffer<String> buffer = new RingBuffer<>(4);
+        buffer.append("a");
+        buffer.append("b");
+        buffer.append("c");
+
+        // When
+        int removed = buffer.removeIf("b"::equals);
+        int replaced = buffer.replaceIf("c"::equals, value -> "c2");
+
+        // Then
+        assertThat(removed).isEqualTo(1);
+        assertThat(replaced).isEqualTo(1);
+        assertThat(buffer.latest(10)).containsExactly("c2", "a");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 추가해도 용량만큼의 값이 유실 없이 조회된다")
+    void concurrentAppend() throws InterruptedException {
+        // Given
+        RingBuffer<Integer> buffer = new RingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) buffer.append(i);
+                done.countDown();
+            });
+        }
+        done.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        List<Integer> latest = buffer.latest(100);
+        assertThat(latest).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("자리를 확보한 뒤 늦게 쓰는 스레드는 한 바퀴 뒤에 쓰인 더 새 값을 덮어쓰지 않는다")
+    void staleWriter_DoesNotOverwriteNewerSlot() throws InterruptedException {
+        // Given
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        long staleSeq = buffer.claim();//쓰기 직전에 멈춘 스레드를 흉내
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) buffer.append(i);
+                done.countDown();
+            });
+        }
+        done.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // When
+        buffer.write(staleSeq, -1);
+
+        // Then
+        assertThat(buffer.latest(10)).hasSize(4).doesNotContain(-1);
+    }
+
+    @Test
+    @DisplayName("용량이 0 이하면 예외가 발생한다")
+    void invalidCapacity() {
+        assertThatThrownBy(() -> new RingBuffer<>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}